@@ -23,6 +23,7 @@ import assets.response.asbuilt.DetailAspectDataTractionBatteryCodeResponse;
 import assets.response.asbuilt.DetailAspectDataTractionBatteryCodeResponse.DetailAspectDataTractionBatteryCodeSubcomponentResponse;
 import assets.response.asplanned.DetailAspectDataAsPlannedResponse;
 import assets.response.asplanned.PartSiteInformationAsPlannedResponse;
+import assets.response.base.response.AssetTreeNodeResponse;
 import assets.response.base.response.DescriptionsResponse;
 import assets.response.base.response.DetailAspectDataResponse;
 import assets.response.base.response.DetailAspectModelResponse;
@@ -39,6 +40,7 @@ import org.eclipse.tractusx.traceability.assets.domain.asbuilt.model.aspect.Deta
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.model.aspect.DetailAspectDataTractionBatteryCode.DetailAspectDataTractionBatteryCodeSubcomponent;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.model.aspect.DetailAspectDataAsPlanned;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.model.aspect.DetailAspectDataPartSiteInformationAsPlanned;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
@@ -59,6 +61,12 @@ import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 @Data
 public class AssetBaseResponseMapper {
 
+    public static List<AssetTreeNodeResponse> fromTree(List<AssetTreeNode> nodes) {
+        return nodes.stream()
+                .map(node -> new AssetTreeNodeResponse(node.id(), node.idShort(), node.level(), node.relatedIds()))
+                .toList();
+    }
+
     public static List<DetailAspectModelResponse> fromList(List<DetailAspectModel> detailAspectModels) {
         List<DetailAspectModelResponse> list = emptyIfNull(detailAspectModels).stream()
                 .map(AssetBaseResponseMapper::from)
@@ -18,16 +18,21 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.application.base.service;
 
+import org.eclipse.tractusx.irs.component.enums.Direction;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.QualityType;
+import org.eclipse.tractusx.traceability.common.export.ExportFormat;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface AssetBaseService {
 
@@ -35,6 +40,13 @@ public interface AssetBaseService {
 
     void synchronizeAssetsAsync(String globalAssetId);
 
+    /**
+     * Registers the IRS jobs to synchronize the given assets and returns once all of them are registered.
+     *
+     * @return the global asset IDs whose jobs were registered or are already in flight in every direction
+     */
+    Set<String> synchronizeAssets(List<String> globalAssetIds);
+
     Map<String, Long> getAssetsCountryMap();
 
     AssetBase getAssetById(String assetId);
@@ -43,8 +55,12 @@ public interface AssetBaseService {
 
     AssetBase getAssetByChildId(String childId);
 
+    List<AssetTreeNode> getAssetTree(String assetId, Direction direction, int depth);
+
     PageResult<AssetBase> getAssets(Pageable pageable, SearchCriteria searchCriteria);
 
+    void exportAssets(SearchCriteria searchCriteria, ExportFormat format, OutputStream outputStream);
+
     AssetBase updateQualityType(String assetId, QualityType qualityType);
 
     List<String> getDistinctFilterValues(String fieldName, String startWith, Integer size, Owner owner, List<String> inAssetIds);
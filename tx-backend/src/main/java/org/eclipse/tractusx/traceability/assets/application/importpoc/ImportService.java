@@ -20,19 +20,21 @@
 package org.eclipse.tractusx.traceability.assets.application.importpoc;
 
 
-import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface ImportService {
-    Map<AssetBase, Boolean> importAssets(MultipartFile file, ImportJob importJob);
+    /**
+     * Imports the assets of the file in the background. The future completes with whether each asset was persisted,
+     * by asset id, once the import job finished.
+     */
+    CompletableFuture<Map<String, Boolean>> importAssetsAsync(MultipartFile file, ImportJob importJob);
 
     ImportJob createJob();
 
-    void completeJob(ImportJob importJob);
-
     void cancelJob(ImportJob importJob);
 
     ImportJob getImportJob(String importJobId);
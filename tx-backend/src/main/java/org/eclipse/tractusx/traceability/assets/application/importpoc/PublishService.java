@@ -24,7 +24,13 @@ import java.util.List;
 
 public interface PublishService {
 
+    /**
+     * Marks the assets as in synchronization and publishes them to the core services in the background.
+     */
     void publishAssets(String policyId, List<String> assetIds, boolean triggerSynchronizeAssets);
 
+    /**
+     * Publishes the assets to the core services and returns once they are published.
+     */
     void publishAssetsToCoreServices(List<AssetBase> assets, boolean triggerSynchronizeAssets);
 }
@@ -25,6 +25,7 @@ import lombok.experimental.UtilityClass;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 @UtilityClass
@@ -35,8 +36,10 @@ public class ImportJobResponseMapper {
                 new ImportReportResponse.ImportJobResponse(
                         importJob.getId().toString(),
                         importJob.getStartedOn().toString(),
-                        importJob.getCompletedOn().toString(),
-                        ImportJobStatusResponse.valueOf(importJob.getStatus().toString()));
+                        Objects.toString(importJob.getCompletedOn(), null),
+                        ImportJobStatusResponse.valueOf(importJob.getStatus().toString()),
+                        importJob.getProgress(),
+                        importJob.getErrors());
 
         List<ImportReportResponse.ImportedAssetResponse> importedAssetResponses =
                 Stream.concat(importJob.getAssetAsBuilt().stream(), importJob.getAssetAsPlanned().stream())
@@ -48,6 +51,15 @@ public class ImportJobResponseMapper {
                                         asset.getImportNote()
                                 )
                         ).toList();
-        return new ImportReportResponse(importJobResponse, importedAssetResponses);
+        List<ImportReportResponse.ImportChunkResponse> importChunkResponses = importJob.getChunks().stream()
+                .map(chunk -> new ImportReportResponse.ImportChunkResponse(
+                        chunk.index(),
+                        ImportJobStatusResponse.valueOf(chunk.status().toString()),
+                        chunk.assets(),
+                        chunk.persistedAssets(),
+                        chunk.errors(),
+                        chunk.completedOn().toString()))
+                .toList();
+        return new ImportReportResponse(importJobResponse, importedAssetResponses, importChunkResponses);
     }
 }
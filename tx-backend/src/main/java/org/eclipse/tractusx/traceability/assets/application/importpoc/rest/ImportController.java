@@ -40,9 +40,11 @@ import org.eclipse.tractusx.traceability.assets.application.importpoc.ImportServ
 import org.eclipse.tractusx.traceability.assets.application.importpoc.PublishService;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.mapper.ImportJobResponseMapper;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.JsonFileValidator;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportException;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportRejectedException;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportValidationException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -57,9 +59,13 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -72,11 +78,16 @@ public class ImportController {
     private final ImportService importService;
     private final JsonFileValidator jsonFileValidator;
     private final PublishService publishService;
+    @Value("${traceability.assetsImport.responseTimeout:PT20S}")
+    private final Duration responseTimeout;
 
     @Operation(operationId = "importJson",
             summary = "asset upload",
             tags = {"AssetsImport"},
-            description = "This endpoint stores assets in the application. Those can be later published in the Catena-X network.",
+            description = "This endpoint stores assets in the application. Those can be later published in the Catena-X network. " +
+                    "The import runs as a background job. If it does not finish within the response timeout, the job id is returned " +
+                    "with status 202 and the progress can be followed with the import report. The whole file is validated before " +
+                    "the first asset is stored, so a 400 response means that no asset was imported.",
             security = @SecurityRequirement(name = "oAuth2", scopes = "profile email"))
     @ApiResponses(value = {
             @ApiResponse(
@@ -85,6 +96,12 @@ public class ImportController {
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = ImportResponse.class))),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Accepted, the import is still running.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ImportResponse.class))),
             @ApiResponse(
                     responseCode = "204",
                     description = "No Content.",
@@ -137,10 +154,9 @@ public class ImportController {
         log.info("Received request to import assets.");
         ImportJob importJob = importService.createJob();
 
-        List<String> jsonSchemaErrors = jsonFileValidator.isValid(file);
-        ValidationResponse validationResponse = new ValidationResponse(jsonSchemaErrors);
-
-        if (!jsonSchemaErrors.isEmpty()) {
+        List<String> fileTypeErrors = jsonFileValidator.validateFileType(file);
+        if (!fileTypeErrors.isEmpty()) {
+            ValidationResponse validationResponse = new ValidationResponse(fileTypeErrors);
             log.warn("Asset import request cannot be processed. Errors: {}", validationResponse);
             importService.cancelJob(importJob);
             return ResponseEntity
@@ -148,34 +164,60 @@ public class ImportController {
                     .body(new ImportResponse(importJob.getId().toString(), validationResponse));
         }
 
-
-        Map<AssetBase, Boolean> resultMap = null;
+        Map<String, Boolean> resultMap;
         try {
-            resultMap = importService.importAssets(file, importJob);
+            resultMap = importService.importAssetsAsync(file, importJob).get(responseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ImportRejectedException e) {
+            log.warn("Asset import request rejected", e);
+            return ResponseEntity
+                    .status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ImportResponse(importJob.getId().toString(), new ValidationResponse(List.of(e.getMessage()))));
+        } catch (TimeoutException e) {
+            log.info("Import job {} is still running, its progress is available in the import report.", importJob.getId());
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED)
+                    .body(new ImportResponse(importJob.getId().toString(), List.of()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED)
+                    .body(new ImportResponse(importJob.getId().toString(), List.of()));
         } catch (ImportException e) {
-            log.info("Could not import data", e);
             importService.cancelJob(importJob);
-            List<String> validationErrors = new ArrayList<>();
-            validationErrors.add(e.getMessage());
-            ValidationResponse importErrorResponse = new ValidationResponse(validationErrors);
-            return ResponseEntity
-                    .badRequest()
-                    .body(new ImportResponse(importJob.getId().toString(), importErrorResponse));
+            return importFailed(importJob, e);
+        } catch (ExecutionException e) {
+            return importFailed(importJob, e.getCause());
         }
 
         List<ImportStateMessage> importStateMessages = resultMap.entrySet().stream()
-                .map(assetBaseSet -> new ImportStateMessage(
-                        assetBaseSet.getKey().getId(),
-                        assetBaseSet.getValue())
+                .map(assetImportState -> new ImportStateMessage(
+                        assetImportState.getKey(),
+                        assetImportState.getValue())
                 ).toList();
 
         log.info("Successfully imported {} assets.", importStateMessages.size());
-        importService.completeJob(importJob);
         ImportResponse importResponse = new ImportResponse(importJob.getId().toString(), importStateMessages);
 
         return ResponseEntity.ok(importResponse);
     }
 
+    private ResponseEntity<ImportResponse> importFailed(ImportJob importJob, Throwable cause) {
+        if (cause instanceof ImportValidationException validationException) {
+            ValidationResponse validationResponse = new ValidationResponse(validationException.getErrors());
+            log.warn("Asset import request cannot be processed. Errors: {}", validationResponse);
+            return ResponseEntity
+                    .badRequest()
+                    .body(new ImportResponse(importJob.getId().toString(), validationResponse));
+        }
+        log.error("Could not import data", cause);
+        List<String> validationErrors = new ArrayList<>();
+        validationErrors.add(cause.getMessage());
+        ValidationResponse importErrorResponse = new ValidationResponse(validationErrors);
+        return ResponseEntity
+                .internalServerError()
+                .body(new ImportResponse(importJob.getId().toString(), importErrorResponse));
+    }
+
     @Operation(operationId = "importReport",
             summary = "report of the imported assets",
             tags = {"ImportReport"},
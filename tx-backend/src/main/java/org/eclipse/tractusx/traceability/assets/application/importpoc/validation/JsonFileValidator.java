@@ -19,52 +19,54 @@
 package org.eclipse.tractusx.traceability.assets.application.importpoc.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.LogLevel;
 import com.github.fge.jsonschema.core.report.ProcessingMessage;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.github.fge.jsonschema.main.JsonSchema;
-import com.github.fge.jsonschema.main.JsonSchemaFactory;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.JsonFileProcessingException;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.NotSupportedSchemaException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.isNull;
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.IMPORT_VALIDATION_EXECUTOR;
 
 @Component
 public class JsonFileValidator {
 
-    public static final Map<String, String> SUPPORTED_SCHEMA_VALIDATION = Map.ofEntries(
-            Map.entry("base", "/schema/tracex/schema_V1.json"),
-            Map.entry("urn:samm:io.catenax.batch:3.0.0#Batch", "/schema/semantichub/Batch_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.just_in_sequence_part:3.0.0#JustInSequencePart", "/schema/semantichub/JustInSequencePart_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.serial_part:3.0.0#SerialPart", "/schema/semantichub/SerialPart_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.part_site_information_as_planned:1.0.0#PartSiteInformationAsPlanned", "/schema/semantichub/PartSiteInformationAsPlanned_1.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.single_level_bom_as_built:3.0.0#SingleLevelBomAsBuilt", "/schema/semantichub/SingleLevelBomAsBuilt_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.single_level_usage_as_built:3.0.0#SingleLevelUsageAsBuilt", "/schema/semantichub/SingleLevelUsageAsBuilt_3.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.traction_battery_code:1.0.0#TractionBatteryCode", "/schema/semantichub/TractionBatteryCode_1.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.part_as_planned:2.0.0#PartAsPlanned", "/schema/semantichub/PartAsPlanned_2.0.0-schema.json"),
-            Map.entry("urn:samm:io.catenax.single_level_bom_as_planned:3.0.0#SingleLevelBomAsPlanned", "/schema/semantichub/SingleLevelBomAsPlanned_3.0.0-schema.json")
-    );
-
-    private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
-
-    public List<String> isValid(MultipartFile file) {
+    public static final String MISSING_ASSETS = "Could not find assets";
+    public static final String NOT_PROCESSABLE = "Json file is not processable.";
+
+    private static final String ASSET_ITEMS_POINTER = "/properties/assets/items";
+
+    private final JsonSchemaRegistry schemaRegistry;
+    private final JsonSchema assetSchema;
+    private final Executor executor;
+
+    public JsonFileValidator(JsonSchemaRegistry schemaRegistry, @Qualifier(IMPORT_VALIDATION_EXECUTOR) Executor executor) {
+        this.schemaRegistry = schemaRegistry;
+        this.assetSchema = schemaRegistry.getSchema(JsonSchemaRegistry.BASE_SCHEMA, ASSET_ITEMS_POINTER);
+        this.executor = executor;
+    }
+
+    /**
+     * Checks the type of the uploaded file. Its content is validated asset by asset with {@link #validateAssets(List)}
+     * while the import reads the file.
+     */
+    public List<String> validateFileType(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             return List.of();
         }
@@ -76,70 +78,70 @@ public class JsonFileValidator {
         if (!Objects.equals(fileNameSplit[fileNameSplit.length - 1], "json")) {
             return List.of("Supported file is *.json");
         }
+        return List.of();
+    }
 
+    /**
+     * Validates the given elements of the assets array in parallel and returns their errors in the order of the assets.
+     */
+    public List<String> validateAssets(List<JsonNode> assets) {
+        List<CompletableFuture<List<String>>> validations = assets.stream()
+                .map(asset -> CompletableFuture.supplyAsync(() -> validateAsset(asset), executor))
+                .toList();
+        try {
+            return validations.stream().map(CompletableFuture::join).flatMap(List::stream).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
+    /**
+     * Validates one element of the assets array against the base schema and the payloads of its submodels against
+     * the schemas of their aspect types.
+     */
+    public List<String> validateAsset(JsonNode asset) {
         final List<String> errors = new ArrayList<>();
-
         try {
-            final JsonSchema schema = factory.getJsonSchema(JsonLoader.fromURL(getSchemaUrl("base")));
-            InputStreamReader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8);
-            ProcessingReport report = schema.validate(JsonLoader.fromReader(reader));
+            ProcessingReport report = assetSchema.validate(asset);
             StreamSupport.stream(report.spliterator(), false).filter(processingMessage -> processingMessage.getLogLevel().equals(LogLevel.WARNING))
                     .map(ProcessingMessage::getMessage)
                     .forEach(errors::add);
-            reader.close();
-
-        } catch (ProcessingException | IOException e) {
-            return List.of("Json file is not processable." + e.getMessage());
+        } catch (ProcessingException e) {
+            return List.of(NOT_PROCESSABLE + e.getMessage());
         }
-        errors.addAll(validateAspectPayload(file));
+        errors.addAll(validateAspectPayload(asset));
         return errors;
     }
 
-    private List<String> validateAspectPayload(MultipartFile file) {
+    private List<String> validateAspectPayload(JsonNode asset) {
         List<String> errors = new ArrayList<>();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode;
-        try {
-            rootNode = objectMapper.readTree(file.getInputStream());
-        } catch (IOException e) {
-            throw new IllegalStateException(e);
-        }
-
-        JsonNode assetsNode = rootNode.get("assets");
-        if (isNull(assetsNode)) {
-            errors.add("Could not find assets");
-            return errors;
-        }
-        Map<String, List<ProcessingMessage>> processingMessages = new HashMap<>();
-        for (JsonNode asset : assetsNode) {
-            JsonNode assetMetaInfo = asset.get("assetMetaInfo");
-            String assetId = assetMetaInfo.get("catenaXId").asText();
-            JsonNode submodels = asset.get("submodels");
-            for (JsonNode submodel : submodels) {
-                JsonNode aspectTypeNode = submodel.get("aspectType");
-                if (isNull(aspectTypeNode)) {
-                    errors.add("Missing property aspectType");
-                    continue;
-                }
-                String aspectType = aspectTypeNode.asText();
-                String payload = submodel.get("payload").toString();
-
-                try {
-                    final JsonSchema schema = factory.getJsonSchema(JsonLoader.fromURL(getSchemaUrl(aspectType)));
-
-                    ProcessingReport report = schema.validate(JsonLoader.fromString(payload));
-                    List<ProcessingMessage> payloadProcessingMessages = StreamSupport.stream(report.spliterator(), false)
-                            .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.WARNING))
-                            .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.INFO))
-                            .toList();
-                    processingMessages.put("For Asset with ID: " + assetId + " And aspectType: " + aspectType, payloadProcessingMessages);
-                } catch (NotSupportedSchemaException e) {
-                    errors.add(e.getMessage());
-                } catch (ProcessingException | IOException e) {
-                    throw new JsonFileProcessingException(e);
-                }
-
+        String assetId = asset.path("assetMetaInfo").path("catenaXId").asText();
+        Map<String, List<ProcessingMessage>> processingMessages = new LinkedHashMap<>();
+        for (JsonNode submodel : asset.path("submodels")) {
+            JsonNode aspectTypeNode = submodel.get("aspectType");
+            if (isNull(aspectTypeNode)) {
+                errors.add("Missing property aspectType");
+                continue;
+            }
+            String aspectType = aspectTypeNode.asText();
+            JsonNode payload = submodel.get("payload");
+
+            try {
+                final JsonSchema schema = schemaRegistry.getSchema(aspectType);
+
+                ProcessingReport report = schema.validate(payload);
+                List<ProcessingMessage> payloadProcessingMessages = StreamSupport.stream(report.spliterator(), false)
+                        .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.WARNING))
+                        .filter(processingMessage -> !processingMessage.getLogLevel().equals(LogLevel.INFO))
+                        .toList();
+                processingMessages.put("For Asset with ID: " + assetId + " And aspectType: " + aspectType, payloadProcessingMessages);
+            } catch (NotSupportedSchemaException e) {
+                errors.add(e.getMessage());
+            } catch (ProcessingException e) {
+                throw new JsonFileProcessingException(e);
             }
         }
 
@@ -151,13 +153,4 @@ public class JsonFileValidator {
         return errors;
     }
 
-    private URL getSchemaUrl(String schemaName) {
-        String schemaPath = SUPPORTED_SCHEMA_VALIDATION.get(schemaName);
-        if (isNull(schemaPath)) {
-            throw new NotSupportedSchemaException(schemaName);
-        }
-
-        return JsonFileValidator.class.getResource(schemaPath);
-    }
-
 }
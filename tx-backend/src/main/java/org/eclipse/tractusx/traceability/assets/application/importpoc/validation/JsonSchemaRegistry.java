@@ -0,0 +1,100 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.application.importpoc.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.JsonFileProcessingException;
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.NotSupportedSchemaException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Loads and compiles the schemas of {@link #SUPPORTED_SCHEMA_VALIDATION} once, when the application starts.
+ * Compiled schemas are immutable and are shared by all validations, also by validations running in parallel.
+ */
+@Slf4j
+@Component
+public class JsonSchemaRegistry {
+
+    public static final String BASE_SCHEMA = "base";
+
+    public static final Map<String, String> SUPPORTED_SCHEMA_VALIDATION = Map.ofEntries(
+            Map.entry(BASE_SCHEMA, "/schema/tracex/schema_V1.json"),
+            Map.entry("urn:samm:io.catenax.batch:3.0.0#Batch", "/schema/semantichub/Batch_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.just_in_sequence_part:3.0.0#JustInSequencePart", "/schema/semantichub/JustInSequencePart_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.serial_part:3.0.0#SerialPart", "/schema/semantichub/SerialPart_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.part_site_information_as_planned:1.0.0#PartSiteInformationAsPlanned", "/schema/semantichub/PartSiteInformationAsPlanned_1.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.single_level_bom_as_built:3.0.0#SingleLevelBomAsBuilt", "/schema/semantichub/SingleLevelBomAsBuilt_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.single_level_usage_as_built:3.0.0#SingleLevelUsageAsBuilt", "/schema/semantichub/SingleLevelUsageAsBuilt_3.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.traction_battery_code:1.0.0#TractionBatteryCode", "/schema/semantichub/TractionBatteryCode_1.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.part_as_planned:2.0.0#PartAsPlanned", "/schema/semantichub/PartAsPlanned_2.0.0-schema.json"),
+            Map.entry("urn:samm:io.catenax.single_level_bom_as_planned:3.0.0#SingleLevelBomAsPlanned", "/schema/semantichub/SingleLevelBomAsPlanned_3.0.0-schema.json")
+    );
+
+    private final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private final Map<String, JsonNode> schemaNodes = new HashMap<>();
+    private final Map<String, JsonSchema> schemas = new HashMap<>();
+
+    public JsonSchemaRegistry() {
+        SUPPORTED_SCHEMA_VALIDATION.forEach((schemaName, schemaPath) -> {
+            try {
+                JsonNode schemaNode = JsonLoader.fromURL(JsonSchemaRegistry.class.getResource(schemaPath));
+                schemaNodes.put(schemaName, schemaNode);
+                schemas.put(schemaName, factory.getJsonSchema(schemaNode));
+            } catch (ProcessingException | IOException e) {
+                throw new JsonFileProcessingException(e);
+            }
+        });
+        log.info("Compiled {} json schemas for the validation of imported assets", schemas.size());
+    }
+
+    public JsonSchema getSchema(String schemaName) {
+        JsonSchema schema = schemas.get(schemaName);
+        if (isNull(schema)) {
+            throw new NotSupportedSchemaException(schemaName);
+        }
+        return schema;
+    }
+
+    /**
+     * Compiles the subschema at the given JSON pointer of a supported schema. The result is meant to be kept by the caller.
+     */
+    public JsonSchema getSchema(String schemaName, String pointer) {
+        JsonNode schemaNode = schemaNodes.get(schemaName);
+        if (isNull(schemaNode)) {
+            throw new NotSupportedSchemaException(schemaName);
+        }
+        try {
+            return factory.getJsonSchema(schemaNode, pointer);
+        } catch (ProcessingException e) {
+            throw new JsonFileProcessingException(e);
+        }
+    }
+}
@@ -21,6 +21,12 @@ package org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository;
 
 import org.eclipse.tractusx.traceability.assets.domain.base.AssetRepository;
 
+import java.util.Map;
 
 public interface AssetAsBuiltRepository extends AssetRepository {
+
+    /**
+     * @return number of assets per manufacturing country, assets without country are counted under an empty key
+     */
+    Map<String, Long> getAssetsCountryMap();
 }
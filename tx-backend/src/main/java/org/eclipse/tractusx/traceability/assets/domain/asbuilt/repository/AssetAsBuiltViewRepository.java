@@ -20,10 +20,12 @@
 package org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository;
 
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.common.export.ExportFormat;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.util.List;
 
 public interface AssetAsBuiltViewRepository {
@@ -31,6 +33,8 @@ public interface AssetAsBuiltViewRepository {
 
     List<AssetBase> getAssets();
 
+    void exportAssets(SearchCriteria searchCriteria, ExportFormat format, OutputStream outputStream);
+
     AssetBase getAssetByChildId(String childId);
 
     List<AssetBase> getAssetsById(List<String> assetIds);
@@ -27,17 +27,17 @@ import org.eclipse.tractusx.traceability.assets.domain.base.AssetRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.base.service.AbstractAssetBaseService;
-import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.ManufacturingInfo;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.relationship.Aspect;
+import org.eclipse.tractusx.traceability.common.export.ExportFormat;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -80,11 +80,14 @@ public class AssetAsBuiltServiceImpl extends AbstractAssetBaseService {
         return assetAsBuiltViewRepository.getAssets(pageable, searchCriteria);
     }
 
+    @Override
+    public void exportAssets(SearchCriteria searchCriteria, ExportFormat format, OutputStream outputStream) {
+        assetAsBuiltViewRepository.exportAssets(searchCriteria, format, outputStream);
+    }
+
     @Override
     public Map<String, Long> getAssetsCountryMap() {
-        return assetAsBuiltViewRepository.getAssets().stream()
-                .collect(Collectors.groupingBy(
-                        asset -> ManufacturingInfo.from(asset.getDetailAspectModels()).getManufacturingCountry(), Collectors.counting()));
+        return assetAsBuiltRepository.getAssetsCountryMap();
     }
 
     @Override
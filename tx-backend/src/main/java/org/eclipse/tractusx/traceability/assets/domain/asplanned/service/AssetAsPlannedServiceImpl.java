@@ -28,11 +28,13 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.base.service.AbstractAssetBaseService;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.relationship.Aspect;
+import org.eclipse.tractusx.traceability.common.export.ExportFormat;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 
@@ -74,4 +76,9 @@ public class AssetAsPlannedServiceImpl extends AbstractAssetBaseService {
     public PageResult<AssetBase> getAssets(Pageable pageable, SearchCriteria searchCriteria) {
         return assetAsPlannedRepository.getAssets(pageable, searchCriteria);
     }
+
+    @Override
+    public void exportAssets(SearchCriteria searchCriteria, ExportFormat format, OutputStream outputStream) {
+        assetAsPlannedRepository.exportAssets(searchCriteria, format, outputStream);
+    }
 }
@@ -19,7 +19,9 @@
 
 package org.eclipse.tractusx.traceability.assets.domain.base;
 
+import org.eclipse.tractusx.irs.component.enums.Direction;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 
@@ -34,6 +36,8 @@ public interface AssetRepository {
 
     AssetBase getAssetByChildId(String childId);
 
+    List<AssetTreeNode> getAssetTree(String assetId, Direction direction, int depth);
+
     List<AssetBase> getAssets();
 
     AssetBase save(AssetBase asset);
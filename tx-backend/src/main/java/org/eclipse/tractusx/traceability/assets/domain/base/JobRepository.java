@@ -25,6 +25,7 @@ import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.re
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
 
 import java.util.List;
+import java.util.Set;
 
 public interface JobRepository {
     /**
@@ -36,6 +37,14 @@ public interface JobRepository {
      */
     void createJobToResolveAssets(String globalAssetId, Direction direction, List<String> aspects, BomLifecycle bomLifecycle);
 
+    /**
+     * Creates the jobs to resolve the assets with the given global asset IDs in parallel and returns once all of
+     * them are registered. Failures of single registrations are logged and do not stop the others.
+     *
+     * @return the global asset IDs whose job was registered or is already in flight
+     */
+    Set<String> createJobsToResolveAssets(List<String> globalAssetIds, Direction direction, List<String> aspects, BomLifecycle bomLifecycle);
+
     void handleJobFinishedCallback(String jobId, String jobState);
 
 
@@ -19,32 +19,42 @@
 package org.eclipse.tractusx.traceability.assets.domain.base.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.component.enums.Direction;
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.exception.AssetNotFoundException;
 import org.eclipse.tractusx.traceability.assets.application.base.service.AssetBaseService;
 import org.eclipse.tractusx.traceability.assets.domain.base.AssetRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.QualityType;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.ManufacturingInfo;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
-import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.relationship.Aspect;
 import org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig;
+import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
 import org.springframework.scheduling.annotation.Async;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction.DOWNWARD;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction.UPWARD;
+
 @Slf4j
 public abstract class AbstractAssetBaseService implements AssetBaseService {
 
     private static final List<String> SUPPORTED_ENUM_FIELDS = List.of("owner", "qualityType", "semanticDataModel", "importState");
 
+    private static final int MAX_TREE_DEPTH = 10;
+
     protected abstract AssetRepository getAssetRepository();
 
     protected abstract JobRepository getJobRepository();
@@ -58,32 +68,33 @@ public abstract class AbstractAssetBaseService implements AssetBaseService {
     @Override
     @Async(value = AssetsAsyncConfig.SYNCHRONIZE_ASSETS_EXECUTOR)
     public void synchronizeAssetsAsync(String globalAssetId) {
-        log.info("Synchronizing assets for globalAssetId: {}", globalAssetId);
+        synchronizeAssetsAsync(List.of(globalAssetId));
+    }
+
+    @Override
+    @Async(value = AssetsAsyncConfig.SYNCHRONIZE_ASSETS_EXECUTOR)
+    public void synchronizeAssetsAsync(List<String> globalAssetIds) {
+        synchronizeAssets(globalAssetIds);
+    }
+
+    @Override
+    public Set<String> synchronizeAssets(List<String> globalAssetIds) {
+        log.info("Synchronizing assets for {} globalAssetIds", globalAssetIds.size());
+        Set<String> synchronizedAssetIds = new HashSet<>(globalAssetIds);
         try {
             if (!getDownwardAspects().isEmpty()) {
-                getJobRepository().createJobToResolveAssets(globalAssetId, Direction.DOWNWARD, getDownwardAspects(), getBomLifecycle());
+                synchronizedAssetIds.retainAll(getJobRepository().createJobsToResolveAssets(globalAssetIds, DOWNWARD, getDownwardAspects(), getBomLifecycle()));
             }
 
             if (!getUpwardAspects().isEmpty()) {
 
                 // TODO: change BomLifecycle.AS_BUILT to getBomLifecycle()
-                getJobRepository().createJobToResolveAssets(globalAssetId, Direction.UPWARD, Aspect.upwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
+                synchronizedAssetIds.retainAll(getJobRepository().createJobsToResolveAssets(globalAssetIds, UPWARD, Aspect.upwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT));
             }
-
+            return synchronizedAssetIds;
         } catch (Exception e) {
-            log.warn("Exception during assets synchronization for globalAssetId: {}. Message: {}.", globalAssetId, e.getMessage(), e);
-        }
-    }
-
-    @Override
-    @Async(value = AssetsAsyncConfig.SYNCHRONIZE_ASSETS_EXECUTOR)
-    public void synchronizeAssetsAsync(List<String> globalAssetIds) {
-        for (String globalAssetId : globalAssetIds) {
-            try {
-                synchronizeAssetsAsync(globalAssetId);
-            } catch (Exception e) {
-                log.warn("Cannot fetch assets for id: {}. Error: {}", globalAssetId, e.getMessage());
-            }
+            log.warn("Exception during assets synchronization for {} globalAssetIds. Message: {}.", globalAssetIds.size(), e.getMessage(), e);
+            return Set.of();
         }
     }
 
@@ -109,6 +120,18 @@ public abstract class AbstractAssetBaseService implements AssetBaseService {
         return getAssetRepository().getAssetByChildId(childId);
     }
 
+    @Override
+    public List<AssetTreeNode> getAssetTree(String assetId, Direction direction, int depth) {
+        if (depth < 1 || depth > MAX_TREE_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 1 and %d.".formatted(MAX_TREE_DEPTH));
+        }
+        List<AssetTreeNode> tree = getAssetRepository().getAssetTree(assetId, direction, depth);
+        if (tree.isEmpty()) {
+            throw new AssetNotFoundException("Asset with id %s was not found.".formatted(assetId));
+        }
+        return tree;
+    }
+
     @Override
     public Map<String, Long> getAssetsCountryMap() {
         return getAssetRepository().getAssets().stream()
@@ -118,7 +141,7 @@ public abstract class AbstractAssetBaseService implements AssetBaseService {
 
     @Override
     public List<String> getDistinctFilterValues(String fieldName, String startWith, Integer size, Owner owner, List<String> inAssetIds) {
-        final Integer resultSize = Objects.isNull(size) ? Integer.MAX_VALUE : size;
+        final Integer resultSize = Objects.isNull(size) ? CriteriaUtility.DEFAULT_DISTINCT_VALUES_LIMIT : size;
 
         if (isSupportedEnumType(fieldName)) {
             return getAssetEnumFieldValues(fieldName);
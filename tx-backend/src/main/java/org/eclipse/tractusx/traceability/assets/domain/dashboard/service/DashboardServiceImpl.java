@@ -21,70 +21,44 @@
 
 package org.eclipse.tractusx.traceability.assets.domain.dashboard.service;
 
-import lombok.RequiredArgsConstructor;
 import org.eclipse.tractusx.traceability.assets.application.dashboard.service.DashboardService;
-import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
-import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetsChangedEvent;
 import org.eclipse.tractusx.traceability.assets.domain.dashboard.model.Dashboard;
-import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
-import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSide;
-import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.repository.DashboardRepository;
+import org.eclipse.tractusx.traceability.common.cache.SnapshotCache;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.Duration;
 
 @Component
-@RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
-    //TODO: rework this to use Service classes instead of using the Repository directly
-    private final AssetAsBuiltRepository assetAsBuiltRepository;
-    private final AssetAsPlannedRepository assetAsPlannedRepository;
-    private final NotificationRepository notificationRepository;
+    private final DashboardRepository dashboardRepository;
 
-    @Override
-    public Dashboard getDashboard() {
-        long asBuiltCustomerParts = assetAsBuiltRepository.countAssetsByOwner(Owner.CUSTOMER);
-        long asPlannedCustomerParts = assetAsPlannedRepository.countAssetsByOwner(Owner.CUSTOMER);
-        long asBuiltSupplierParts = assetAsBuiltRepository.countAssetsByOwner(Owner.SUPPLIER);
-        long asPlannedSupplierParts = assetAsPlannedRepository.countAssetsByOwner(Owner.SUPPLIER);
-        long asBuiltOwnParts = assetAsBuiltRepository.countAssetsByOwner(Owner.OWN);
-        long asPlannedOwnParts = assetAsPlannedRepository.countAssetsByOwner(Owner.OWN);
-
-
-        long myPartsWithSentAlerts = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.OWN), NotificationType.ALERT);
-        long myPartsWithReceivedInvestigations = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.OWN), NotificationType.INVESTIGATION);
-
-        long supplierPartsWithOpenReceivedAlerts = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.SUPPLIER), NotificationType.ALERT);
-        long supplierPartsWithOpenSentInvestigations = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.SUPPLIER), NotificationType.INVESTIGATION);
+    private final SnapshotCache<Dashboard> dashboardCache;
 
-        long customerPartsWithOpenReceivedAlerts = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.CUSTOMER), NotificationType.ALERT);
-        long customerPartsWithOpenSentInvestigations = notificationRepository.countOpenNotificationsByOwnershipAndNotificationType(List.of(Owner.CUSTOMER), NotificationType.INVESTIGATION);
+    public DashboardServiceImpl(
+            DashboardRepository dashboardRepository,
+            @Value("${traceability.dashboardSnapshotTimeToLive:PT10S}") Duration dashboardSnapshotTimeToLive) {
+        this.dashboardRepository = dashboardRepository;
+        this.dashboardCache = new SnapshotCache<>(dashboardSnapshotTimeToLive);
+    }
 
-        long receivedActiveInvestigations = notificationRepository.countNotificationsBySideAndType(NotificationSide.RECEIVER, NotificationType.INVESTIGATION);
-        long sentActiveInvestigations = notificationRepository.countNotificationsBySideAndType(NotificationSide.SENDER, NotificationType.INVESTIGATION);
+    @Override
+    public Dashboard getDashboard() {
+        return dashboardCache.get(dashboardRepository::getDashboard);
+    }
 
-        long receivedActiveAlerts = notificationRepository.countNotificationsBySideAndType(NotificationSide.RECEIVER, NotificationType.ALERT);
-        long sentActiveAlerts = notificationRepository.countNotificationsBySideAndType(NotificationSide.SENDER, NotificationType.ALERT);
+    @EventListener(AssetsChangedEvent.class)
+    public void onAssetsChanged() {
+        dashboardCache.invalidate();
+    }
 
-        return Dashboard.builder()
-                .asBuiltCustomerParts(asBuiltCustomerParts)
-                .asPlannedCustomerParts(asPlannedCustomerParts)
-                .asBuiltSupplierParts(asBuiltSupplierParts)
-                .asPlannedSupplierParts(asPlannedSupplierParts)
-                .asBuiltOwnParts(asBuiltOwnParts)
-                .asPlannedOwnParts(asPlannedOwnParts)
-                .myPartsWithOpenAlerts(myPartsWithSentAlerts)
-                .myPartsWithOpenInvestigations(myPartsWithReceivedInvestigations)
-                .supplierPartsWithOpenAlerts(supplierPartsWithOpenReceivedAlerts)
-                .customerPartsWithOpenAlerts(customerPartsWithOpenReceivedAlerts)
-                .supplierPartsWithOpenInvestigations(supplierPartsWithOpenSentInvestigations)
-                .customerPartsWithOpenInvestigations(customerPartsWithOpenSentInvestigations)
-                .receivedActiveAlerts(receivedActiveAlerts)
-                .receivedActiveInvestigations(receivedActiveInvestigations)
-                .sentActiveAlerts(sentActiveAlerts)
-                .sentActiveInvestigations(sentActiveInvestigations)
-                .build();
+    @EventListener(NotificationsChangedEvent.class)
+    public void onNotificationsChanged() {
+        dashboardCache.invalidate();
     }
 }
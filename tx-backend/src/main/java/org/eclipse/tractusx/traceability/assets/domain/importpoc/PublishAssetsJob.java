@@ -27,6 +27,7 @@ import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.Asse
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.common.config.ApplicationProfiles;
+import org.eclipse.tractusx.traceability.common.scheduler.SchedulerLock;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -45,9 +46,14 @@ public class PublishAssetsJob {
     private final AssetAsBuiltRepository assetAsBuiltRepository;
     private final AssetAsPlannedRepository assetAsPlannedRepository;
     private final PublishService publishService;
+    private final SchedulerLock schedulerLock;
 
     @Scheduled(cron = "0 30 */1 * * ?", zone = "Europe/Berlin")
     public void publishAssets() {
+        schedulerLock.runExclusively("publishAssetsJob", this::publishAssetsInSynchronization);
+    }
+
+    private void publishAssetsInSynchronization() {
         log.info("Start publish assets cron job");
         List<AssetBase> assetsAsBuiltInSync = assetAsBuiltRepository.findByImportStateIn(ImportState.IN_SYNCHRONIZATION);
         List<AssetBase> assetsAsPlannedInSync = assetAsPlannedRepository.findByImportStateIn(ImportState.IN_SYNCHRONIZATION);
@@ -41,6 +41,9 @@ public class ImportJob {
     private ImportJobStatus status;
     private List<AssetBase> assetAsBuilt;
     private List<AssetBase> assetAsPlanned;
+    private int progress;
+    private List<String> errors;
+    private List<ImportJobChunk> chunks;
 
     public List<AssetBase> getAssetAsBuilt() {
         return assetAsBuilt == null ? List.of() : assetAsBuilt;
@@ -49,4 +52,12 @@ public class ImportJob {
     public List<AssetBase> getAssetAsPlanned() {
         return assetAsPlanned == null ? List.of() : assetAsPlanned;
     }
+
+    public List<String> getErrors() {
+        return errors == null ? List.of() : errors;
+    }
+
+    public List<ImportJobChunk> getChunks() {
+        return chunks == null ? List.of() : chunks;
+    }
 }
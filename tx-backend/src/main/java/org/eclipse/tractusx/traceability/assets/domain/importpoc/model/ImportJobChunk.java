@@ -0,0 +1,38 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.domain.importpoc.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Result of one chunk of assets of an import job, committed in its own transaction.
+ */
+public record ImportJobChunk(int index, ImportJobStatus status, int assets, int persistedAssets, List<String> errors,
+                             Instant completedOn) {
+
+    public static ImportJobChunk completed(int index, int assets, int persistedAssets, Instant completedOn) {
+        return new ImportJobChunk(index, ImportJobStatus.COMPLETED, assets, persistedAssets, List.of(), completedOn);
+    }
+
+    public static ImportJobChunk failed(int index, int assets, List<String> errors, Instant completedOn) {
+        return new ImportJobChunk(index, ImportJobStatus.ERROR, assets, 0, errors, completedOn);
+    }
+}
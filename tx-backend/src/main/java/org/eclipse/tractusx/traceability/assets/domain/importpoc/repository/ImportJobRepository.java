@@ -19,13 +19,36 @@
 package org.eclipse.tractusx.traceability.assets.domain.importpoc.repository;
 
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
-import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobEntity;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobChunk;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 public interface ImportJobRepository {
 
     ImportJob createJob();
 
-    void save(ImportJobEntity importJobEntity);
+    /**
+     * Links the persisted assets of one chunk of an import to its job.
+     */
+    void addAssets(UUID importJobId, Collection<String> assetAsBuiltIds, Collection<String> assetAsPlannedIds);
+
+    void updateStatus(UUID importJobId, ImportJobStatus status, Instant completedOn);
+
+    /**
+     * Stores the result of one chunk together with the progress of the job in percent of the file read.
+     */
+    void saveChunk(UUID importJobId, ImportJobChunk chunk, int progress);
+
+    /**
+     * Stores the progress of the job in percent without a chunk result.
+     */
+    void updateProgress(UUID importJobId, int progress);
+
+    void failJob(UUID importJobId, List<String> errors, Instant completedOn);
 
     ImportJob getImportJob(String importJobId);
 }
@@ -25,9 +25,9 @@ import java.util.List;
 import java.util.Map;
 
 public interface SubmodelPayloadRepository {
-    void savePayloadForAssetAsBuilt(String assetId, List<IrsSubmodel> submodels);
+    void savePayloadsForAssetsAsBuilt(Map<String, List<IrsSubmodel>> submodelsByAssetId);
 
-    void savePayloadForAssetAsPlanned(String assetId, List<IrsSubmodel> submodels);
+    void savePayloadsForAssetsAsPlanned(Map<String, List<IrsSubmodel>> submodelsByAssetId);
 
     Map<String, String> getAspectTypesAndPayloadsByAssetId(String assetId);
 }
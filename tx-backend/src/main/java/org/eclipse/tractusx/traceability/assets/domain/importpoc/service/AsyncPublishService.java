@@ -53,6 +53,10 @@ public class AsyncPublishService {
     private final DecentralRegistryServiceImpl decentralRegistryService;
 
     @Async(value = AssetsAsyncConfig.PUBLISH_ASSETS_EXECUTOR)
+    public void publishAssetsToCoreServicesAsync(List<AssetBase> assets, boolean triggerSynchronizeAssets) {
+        publishAssetsToCoreServices(assets, triggerSynchronizeAssets);
+    }
+
     public void publishAssetsToCoreServices(List<AssetBase> assets, boolean triggerSynchronizeAssets) {
         Map<String, List<AssetBase>> assetsByPolicyId = assets.stream().collect(Collectors.groupingBy(AssetBase::getPolicyId));
 
@@ -87,7 +91,7 @@ public class AsyncPublishService {
 
                 updateAssetStates(ImportState.PUBLISHED_TO_CORE_SERVICES, ImportNote.PUBLISHED_TO_CORE_SERVICES, createdShellsAssetIds);
                 if (triggerSynchronizeAssets) {
-                    decentralRegistryService.synchronizeAssets();
+                    decentralRegistryService.synchronizeAssetsAsync();
                 }
             }
         });
@@ -18,39 +18,61 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.enums.BomLifecycle;
 import org.eclipse.tractusx.traceability.assets.application.importpoc.ImportService;
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.JsonFileValidator;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportException;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportRejectedException;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportValidationException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobChunk;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
-import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportRequest;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportRequest.AssetImportRequest;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.ImportJobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.SubmodelPayloadRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.ImportAssetMapper;
-import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobEntity;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.IMPORT_ASSETS_EXECUTOR;
+
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class ImportServiceImpl implements ImportService {
+    private static final String ASSETS_FIELD = "assets";
+
     private final ObjectMapper objectMapper;
     private final AssetAsPlannedRepository assetAsPlannedRepository;
     private final AssetAsBuiltRepository assetAsBuiltRepository;
@@ -58,58 +80,120 @@ public class ImportServiceImpl implements ImportService {
     private final SubmodelPayloadRepository submodelPayloadRepository;
     private final ImportJobRepository importJobRepository;
     private final ImportAssetMapper assetMapper;
+    private final JsonFileValidator jsonFileValidator;
+    private final Executor importAssetsExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
 
+    public ImportServiceImpl(ObjectMapper objectMapper,
+                             AssetAsPlannedRepository assetAsPlannedRepository,
+                             AssetAsBuiltRepository assetAsBuiltRepository,
+                             TraceabilityProperties traceabilityProperties,
+                             SubmodelPayloadRepository submodelPayloadRepository,
+                             ImportJobRepository importJobRepository,
+                             ImportAssetMapper assetMapper,
+                             JsonFileValidator jsonFileValidator,
+                             @Qualifier(IMPORT_ASSETS_EXECUTOR) Executor importAssetsExecutor,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${traceability.assetsImport.chunkSize:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.assetAsPlannedRepository = assetAsPlannedRepository;
+        this.assetAsBuiltRepository = assetAsBuiltRepository;
+        this.traceabilityProperties = traceabilityProperties;
+        this.submodelPayloadRepository = submodelPayloadRepository;
+        this.importJobRepository = importJobRepository;
+        this.assetMapper = assetMapper;
+        this.jsonFileValidator = jsonFileValidator;
+        this.importAssetsExecutor = importAssetsExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
 
+    /**
+     * Copies the upload to a temporary file and imports it on the import executor, whose pool and queue limit the
+     * number of imports running and waiting at the same time. The returned future completes once the job finished.
+     */
     @Override
-    public Map<AssetBase, Boolean> importAssets(MultipartFile file, ImportJob importJob) {
+    public CompletableFuture<Map<String, Boolean>> importAssetsAsync(MultipartFile file, ImportJob importJob) {
+        Path importFile = storeImportFile(file);
+        CompletableFuture<Map<String, Boolean>> importResult = new CompletableFuture<>();
         try {
-            ImportRequest importRequest = objectMapper.readValue(file.getBytes(), ImportRequest.class);
-            Map<BomLifecycle, List<AssetBase>> assetToUploadByBomLifecycle = assetMapper.toAssetBaseList(importRequest.assets()).stream().collect(Collectors.groupingBy(AssetBase::getBomLifecycle));
-            assetToUploadByBomLifecycle.values().stream().flatMap(Collection::stream)
-                    .forEach(mappedAsset -> {
-                        if (!mappedAsset.isOwnAsset(traceabilityProperties.getBpn().toString())) {
-                            throw new ImportException("At least one asset does not match the application bpn " + traceabilityProperties.getBpn().value());
-                        }
-                    });
-
-            List<AssetBase> persistedAsBuilt = assetAsBuiltRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetToUploadByBomLifecycle.get(BomLifecycle.AS_BUILT));
-            List<AssetBase> persistedAsPlanned = assetAsPlannedRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetToUploadByBomLifecycle.get(BomLifecycle.AS_PLANNED));
-
-            importJob.setAssetAsBuilt(persistedAsBuilt);
-            importJob.setAssetAsPlanned(persistedAsPlanned);
-            importJobRepository.save(ImportJobEntity.from(importJob));
-
-            List<AssetBase> expectedAssetsToBePersisted = assetToUploadByBomLifecycle.values().stream().flatMap(Collection::stream).toList();
-            List<AssetBase> persistedAssets = Stream.concat(persistedAsBuilt.stream(), persistedAsPlanned.stream()).toList();
-
-            saveRawDataForPersistedAssets(persistedAssets, importRequest);
-
-            return compareForUploadResult(expectedAssetsToBePersisted, persistedAssets);
-        } catch (Exception e) {
-            throw new ImportException(e.getMessage(), e);
+            importAssetsExecutor.execute(() -> {
+                try {
+                    importResult.complete(importAssets(importFile, importJob));
+                } catch (ImportValidationException e) {
+                    importResult.completeExceptionally(e);
+                } catch (RuntimeException e) {
+                    log.error("Import job {} failed", importJob.getId(), e);
+                    importJobRepository.failJob(importJob.getId(), List.of(String.valueOf(e.getMessage())), Instant.now());
+                    importResult.completeExceptionally(new ImportException("The import failed, the import report shows the chunks that were committed: " + e.getMessage(), e));
+                } finally {
+                    deleteImportFile(importFile);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            deleteImportFile(importFile);
+            cancelJob(importJob);
+            throw new ImportRejectedException("Too many imports are running, please try again later.", e);
         }
+        return importResult;
     }
 
-    @Override
-    public ImportJob createJob() {
-        return importJobRepository.createJob();
+    /**
+     * Reads the assets array of the file twice, in chunks, so that no more than one chunk of the file is held in memory.
+     * The first pass validates every chunk and stores the invalid ones with their errors, and the job fails before any
+     * asset is written if one of them is invalid. The second pass commits each chunk in its own transaction together
+     * with its result. Each pass accounts for half of the progress of the job.
+     */
+    private Map<String, Boolean> importAssets(Path importFile, ImportJob importJob) {
+        importJobRepository.updateStatus(importJob.getId(), ImportJobStatus.RUNNING, null);
+        List<String> errors = new ArrayList<>();
+        readChunks(importFile, importJob, (chunk, chunkIndex, progress) -> validateChunk(chunk, chunkIndex, progress / 2, errors, importJob));
+        if (!errors.isEmpty()) {
+            throw failJob(importJob, errors);
+        }
+
+        Map<String, Boolean> importResult = new LinkedHashMap<>();
+        readChunks(importFile, importJob, (chunk, chunkIndex, progress) -> importResult.putAll(importChunk(chunk, chunkIndex, 50 + progress / 2, importJob)));
+        importJobRepository.updateStatus(importJob.getId(), ImportJobStatus.COMPLETED, Instant.now());
+        log.info("Successfully completed import job {} with {} assets", importJob.getId(), importResult.size());
+        return importResult;
+    }
+
+    private void readChunks(Path importFile, ImportJob importJob, ChunkHandler chunkHandler) {
+        List<JsonNode> chunk = new ArrayList<>(chunkSize);
+        int chunkIndex = 0;
+        try (JsonParser parser = objectMapper.createParser(importFile.toFile())) {
+            long fileSize = Files.size(importFile);
+            if (!moveToAssets(parser)) {
+                throw failJob(importJob, List.of(JsonFileValidator.MISSING_ASSETS));
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                chunk.add(objectMapper.readTree(parser));
+                if (chunk.size() == chunkSize) {
+                    chunkHandler.handle(chunk, chunkIndex++, progress(parser, fileSize));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkHandler.handle(chunk, chunkIndex, 100);
+            }
+        } catch (JsonProcessingException e) {
+            throw failJob(importJob, List.of(JsonFileValidator.NOT_PROCESSABLE + e.getMessage()));
+        } catch (IOException e) {
+            throw failJob(importJob, List.of(String.valueOf(e.getMessage())));
+        }
     }
 
     @Override
-    public void completeJob(ImportJob importJob) {
-        ImportJobEntity importJobEntity = ImportJobEntity.from(importJob);
-        importJobEntity.setCompletedOn(Instant.now());
-        importJobEntity.setImportJobStatus(ImportJobStatus.COMPLETED);
-        importJobRepository.save(importJobEntity);
-        log.info("Successfully completed import job {}", importJob.getId());
+    public ImportJob createJob() {
+        return importJobRepository.createJob();
     }
 
     @Override
     public void cancelJob(ImportJob importJob) {
-        ImportJobEntity importJobEntity = ImportJobEntity.from(importJob);
-        importJobEntity.setCompletedOn(Instant.now());
-        importJobEntity.setImportJobStatus(ImportJobStatus.ERROR);
-        importJobRepository.save(importJobEntity);
+        importJobRepository.updateStatus(importJob.getId(), ImportJobStatus.ERROR, Instant.now());
         log.info("Cancelling import job {}", importJob.getId());
     }
 
@@ -118,31 +202,161 @@ public class ImportServiceImpl implements ImportService {
         return importJobRepository.getImportJob(importJobId);
     }
 
+    private ImportValidationException failJob(ImportJob importJob, List<String> errors) {
+        importJobRepository.failJob(importJob.getId(), errors, Instant.now());
+        log.warn("Import job {} failed: {}", importJob.getId(), errors);
+        return new ImportValidationException(errors);
+    }
 
-    private void saveRawDataForPersistedAssets(List<AssetBase> persistedAssets, ImportRequest importRequest) {
-        List<String> persistedAssetsIds = persistedAssets.stream().map(AssetBase::getId).toList();
-        importRequest.assets().stream().filter(asset -> persistedAssetsIds.contains(asset.assetMetaInfoRequest().catenaXId()))
-                .map(assetImportRequest -> Map.entry(
-                        getAssetById(assetImportRequest.assetMetaInfoRequest().catenaXId(), persistedAssets),
-                        assetImportRequest.submodels()))
-                .forEach(entry -> {
-                    if (entry.getKey().getBomLifecycle() == BomLifecycle.AS_BUILT) {
-                        submodelPayloadRepository.savePayloadForAssetAsBuilt(entry.getKey().getId(), entry.getValue());
-                    } else if (entry.getKey().getBomLifecycle() == BomLifecycle.AS_PLANNED) {
-                        submodelPayloadRepository.savePayloadForAssetAsPlanned(entry.getKey().getId(), entry.getValue());
-                    }
-                });
+    private static Path storeImportFile(MultipartFile file) {
+        try {
+            Path importFile = Files.createTempFile("asset-import-", ".json");
+            file.transferTo(importFile);
+            return importFile;
+        } catch (IOException e) {
+            throw new ImportException("Could not store the import file: " + e.getMessage(), e);
+        }
     }
 
-    private AssetBase getAssetById(String assetId, List<AssetBase> assets) {
-        return assets.stream().filter(asset -> asset.getId().equals(assetId)).findFirst().orElseThrow(() -> new ImportException("Failed when trying to persist raw payload to persisted Assets"));
+    private static void deleteImportFile(Path importFile) {
+        try {
+            Files.deleteIfExists(importFile);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", importFile, e);
+        }
     }
 
-    public static Map<AssetBase, Boolean> compareForUploadResult(List<AssetBase> incoming, List<AssetBase> persisted) {
-        return incoming.stream().map(asset -> {
-                    Optional<AssetBase> persistedAssetOptional = persisted.stream().filter(persistedAsset -> persistedAsset.getId().equals(asset.getId())).findFirst();
-                    return persistedAssetOptional.map(assetBase -> Map.entry(assetBase, true)).orElseGet(() -> Map.entry(asset, false));
+    private static int progress(JsonParser parser, long fileSize) {
+        return fileSize == 0 ? 100 : (int) Math.min(100, parser.currentLocation().getByteOffset() * 100 / fileSize);
+    }
+
+    private static boolean moveToAssets(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && ASSETS_FIELD.equals(fieldName)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * Validates the assets of the chunk in parallel and checks that they belong to the application bpn. An invalid
+     * chunk is stored with its errors.
+     */
+    private void validateChunk(List<JsonNode> chunk, int chunkIndex, int progress, List<String> errors, ImportJob importJob) {
+        List<String> chunkErrors = jsonFileValidator.validateAssets(chunk);
+        if (chunkErrors.isEmpty()) {
+            try {
+                String applicationBpn = traceabilityProperties.getBpn().toString();
+                if (assetMapper.toAssetBaseList(toImportRequests(chunk)).stream().anyMatch(asset -> !asset.isOwnAsset(applicationBpn))) {
+                    chunkErrors = List.of("At least one asset does not match the application bpn " + traceabilityProperties.getBpn().value());
                 }
-        ).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (x, y) -> y, LinkedHashMap::new));
+            } catch (JsonProcessingException e) {
+                chunkErrors = List.of(JsonFileValidator.NOT_PROCESSABLE + e.getMessage());
+            }
+        }
+        if (chunkErrors.isEmpty()) {
+            importJobRepository.updateProgress(importJob.getId(), progress);
+            return;
+        }
+        errors.addAll(chunkErrors);
+        importJobRepository.saveChunk(importJob.getId(), ImportJobChunk.failed(chunkIndex, chunk.size(), chunkErrors, Instant.now()), progress);
+    }
+
+    /**
+     * Commits the assets of a validated chunk together with the result of the chunk.
+     */
+    private Map<String, Boolean> importChunk(List<JsonNode> chunk, int chunkIndex, int progress, ImportJob importJob) {
+        List<AssetImportRequest> assetImportRequests;
+        try {
+            assetImportRequests = toImportRequests(chunk);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return transactionTemplate.execute(status -> {
+            Map<String, Boolean> chunkResult = saveAssets(assetImportRequests, importJob);
+            int persistedAssets = (int) chunkResult.values().stream().filter(Boolean::booleanValue).count();
+            importJobRepository.saveChunk(importJob.getId(), ImportJobChunk.completed(chunkIndex, chunk.size(), persistedAssets, Instant.now()), progress);
+            return chunkResult;
+        });
+    }
+
+    private List<AssetImportRequest> toImportRequests(List<JsonNode> chunk) throws JsonProcessingException {
+        List<AssetImportRequest> assetImportRequests = new ArrayList<>(chunk.size());
+        for (JsonNode asset : chunk) {
+            assetImportRequests.add(objectMapper.treeToValue(asset, AssetImportRequest.class));
+        }
+        return assetImportRequests;
+    }
+
+    private Map<String, Boolean> saveAssets(List<AssetImportRequest> chunk, ImportJob importJob) {
+        Map<BomLifecycle, List<AssetBase>> assetToUploadByBomLifecycle = assetMapper.toAssetBaseList(chunk).stream().collect(Collectors.groupingBy(AssetBase::getBomLifecycle));
+
+        List<AssetBase> persistedAsBuilt = assetAsBuiltRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetToUploadByBomLifecycle.get(BomLifecycle.AS_BUILT));
+        List<AssetBase> persistedAsPlanned = assetAsPlannedRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(assetToUploadByBomLifecycle.get(BomLifecycle.AS_PLANNED));
+
+        List<AssetBase> expectedAssetsToBePersisted = assetToUploadByBomLifecycle.values().stream().flatMap(Collection::stream).toList();
+        List<AssetBase> persistedAssets = Stream.concat(persistedAsBuilt.stream(), persistedAsPlanned.stream()).toList();
+
+        saveRawDataForPersistedAssets(persistedAssets, chunk);
+        importJobRepository.addAssets(importJob.getId(),
+                persistedAsBuilt.stream().map(AssetBase::getId).toList(),
+                persistedAsPlanned.stream().map(AssetBase::getId).toList());
+
+        return compareForUploadResult(expectedAssetsToBePersisted, persistedAssets);
+    }
+
+    private void saveRawDataForPersistedAssets(List<AssetBase> persistedAssets, List<AssetImportRequest> assetImportRequests) {
+        Map<String, AssetBase> persistedAssetsById = indexById(persistedAssets);
+        Map<String, List<IrsSubmodel>> asBuiltSubmodels = new LinkedHashMap<>();
+        Map<String, List<IrsSubmodel>> asPlannedSubmodels = new LinkedHashMap<>();
+        for (AssetImportRequest assetImportRequest : assetImportRequests) {
+            AssetBase persistedAsset = persistedAssetsById.get(assetImportRequest.assetMetaInfoRequest().catenaXId());
+            if (persistedAsset == null) {
+                continue;
+            }
+            if (persistedAsset.getBomLifecycle() == BomLifecycle.AS_BUILT) {
+                addSubmodels(asBuiltSubmodels, persistedAsset.getId(), assetImportRequest.submodels());
+            } else if (persistedAsset.getBomLifecycle() == BomLifecycle.AS_PLANNED) {
+                addSubmodels(asPlannedSubmodels, persistedAsset.getId(), assetImportRequest.submodels());
+            }
+        }
+        if (!asBuiltSubmodels.isEmpty()) {
+            submodelPayloadRepository.savePayloadsForAssetsAsBuilt(asBuiltSubmodels);
+        }
+        if (!asPlannedSubmodels.isEmpty()) {
+            submodelPayloadRepository.savePayloadsForAssetsAsPlanned(asPlannedSubmodels);
+        }
+    }
+
+    private static void addSubmodels(Map<String, List<IrsSubmodel>> submodelsByAssetId, String assetId, List<IrsSubmodel> submodels) {
+        submodelsByAssetId.merge(assetId, submodels, (existing, duplicate) -> Stream.concat(existing.stream(), duplicate.stream()).toList());
+    }
+
+    /**
+     * Reports for every incoming asset whether it was persisted. The persisted assets are indexed by id first, so the
+     * comparison is linear in the size of the import instead of scanning the persisted assets for every incoming asset.
+     */
+    public static Map<String, Boolean> compareForUploadResult(List<AssetBase> incoming, List<AssetBase> persisted) {
+        Map<String, AssetBase> persistedById = indexById(persisted);
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        incoming.forEach(asset -> result.put(asset.getId(), persistedById.containsKey(asset.getId())));
+        return result;
+    }
+
+    private static Map<String, AssetBase> indexById(List<AssetBase> assets) {
+        Map<String, AssetBase> assetsById = new HashMap<>(assets.size() * 4 / 3 + 1);
+        assets.forEach(asset -> assetsById.putIfAbsent(asset.getId(), asset));
+        return assetsById;
+    }
+
+    @FunctionalInterface
+    private interface ChunkHandler {
+        void handle(List<JsonNode> chunk, int chunkIndex, int progress);
     }
 }
@@ -59,7 +59,7 @@ public class PublishServiceImpl implements PublishService {
         log.info("Updating status of asBuiltAssets.");
         List<AssetBase> updatedAsBuiltAssets = updateAssetWithStatusAndPolicy(policyId, assetIds, assetAsBuiltRepository);
 
-        publishAssetsToCoreServices(
+        asyncPublishService.publishAssetsToCoreServicesAsync(
                 Stream.concat(updatedAsPlannedAssets.stream(), updatedAsBuiltAssets.stream()).toList(),
                 triggerSynchronizeAssets
         );
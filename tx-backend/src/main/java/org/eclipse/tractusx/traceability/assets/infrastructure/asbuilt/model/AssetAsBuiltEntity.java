@@ -51,6 +51,7 @@ import org.eclipse.tractusx.traceability.submodel.infrastructure.model.SubmodelP
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.eclipse.tractusx.traceability.common.date.DateUtil.toInstant;
@@ -127,6 +128,16 @@ public class AssetAsBuiltEntity extends AssetBaseEntity {
                 .build();
     }
 
+    @Override
+    public void updateFromIrs(AssetBase asset) {
+        super.updateFromIrs(asset);
+        if (!asset.getParentRelations().isEmpty()) {
+            parentDescriptors = asset.getParentRelations().stream()
+                    .map(parent -> new ParentDescription(parent.id(), parent.idShort()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
     public AssetBase toDomain() {
         return AssetBase.builder()
                 .id(this.getId())
@@ -40,6 +40,7 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.aspect.DetailAspectModel;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.SemanticDataModelEntity;
+import org.eclipse.tractusx.traceability.common.export.ExportColumn;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationTypeEntity;
@@ -48,6 +49,7 @@ import org.springframework.data.annotation.Immutable;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
@@ -65,10 +67,10 @@ public class AssetAsBuiltViewEntity extends AssetBaseEntity {
     private String nameAtCustomer;
     private String customerPartId;
     private String productType;
-    private String receivedActiveAlerts;
-    private String sentActiveAlerts;
-    private String receivedActiveInvestigations;
-    private String sentActiveInvestigations;
+    private Long receivedActiveAlerts;
+    private Long sentActiveAlerts;
+    private Long receivedActiveInvestigations;
+    private Long sentActiveInvestigations;
 
     @ElementCollection
     @CollectionTable(name = "traction_battery_code_subcomponent", joinColumns = {@JoinColumn(name = "asset_as_built_id")})
@@ -90,6 +92,24 @@ public class AssetAsBuiltViewEntity extends AssetBaseEntity {
             inverseJoinColumns = @JoinColumn(name = "notification_id"))
     private List<NotificationEntity> notifications = new ArrayList<>();
 
+    /**
+     * Columns of the asset export. Relations and notifications are left out, so that exporting an asset does not load
+     * its collections; the notifications are represented by their active counters.
+     */
+    public static List<ExportColumn<AssetAsBuiltViewEntity>> exportColumns() {
+        return Stream.concat(AssetBaseEntity.<AssetAsBuiltViewEntity>exportColumns().stream(), Stream.of(
+                        new ExportColumn<AssetAsBuiltViewEntity>("manufacturingDate", AssetAsBuiltViewEntity::getManufacturingDate),
+                        new ExportColumn<AssetAsBuiltViewEntity>("manufacturingCountry", AssetAsBuiltViewEntity::getManufacturingCountry),
+                        new ExportColumn<AssetAsBuiltViewEntity>("nameAtCustomer", AssetAsBuiltViewEntity::getNameAtCustomer),
+                        new ExportColumn<AssetAsBuiltViewEntity>("customerPartId", AssetAsBuiltViewEntity::getCustomerPartId),
+                        new ExportColumn<AssetAsBuiltViewEntity>("productType", AssetAsBuiltViewEntity::getProductType),
+                        new ExportColumn<AssetAsBuiltViewEntity>("receivedActiveAlerts", AssetAsBuiltViewEntity::getReceivedActiveAlerts),
+                        new ExportColumn<AssetAsBuiltViewEntity>("sentActiveAlerts", AssetAsBuiltViewEntity::getSentActiveAlerts),
+                        new ExportColumn<AssetAsBuiltViewEntity>("receivedActiveInvestigations", AssetAsBuiltViewEntity::getReceivedActiveInvestigations),
+                        new ExportColumn<AssetAsBuiltViewEntity>("sentActiveInvestigations", AssetAsBuiltViewEntity::getSentActiveInvestigations)))
+                .toList();
+    }
+
     public AssetBase toDomain() {
         return AssetBase.builder()
                 .id(this.getId())
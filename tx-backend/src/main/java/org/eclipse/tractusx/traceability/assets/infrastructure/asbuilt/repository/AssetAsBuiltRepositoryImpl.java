@@ -24,30 +24,46 @@ package org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.reposito
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections.CollectionUtils;
+import org.eclipse.tractusx.irs.component.enums.Direction;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.exception.AssetNotFoundException;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetsChangedEvent;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.AssetCallbackRepository;
-import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.repository.AssetBatchUpsert;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.repository.AssetTreeQuery;
+import org.eclipse.tractusx.traceability.common.cache.SnapshotCache;
 import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
+import org.eclipse.tractusx.traceability.common.repository.FieldValueIndex;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.AbstractMap;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
 public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, AssetCallbackRepository {
 
+    private static final Duration COUNTRY_MAP_TIME_TO_LIVE = Duration.ofSeconds(30);
+
     private final JpaAssetAsBuiltRepository jpaAssetAsBuiltRepository;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final FieldValueIndex fieldValueIndex;
+
+    private final SnapshotCache<Map<String, Long>> countryMapCache = new SnapshotCache<>(COUNTRY_MAP_TIME_TO_LIVE);
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -72,6 +88,13 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
                 .toList();
     }
 
+    @Override
+    public List<AssetTreeNode> getAssetTree(String assetId, Direction direction, int depth) {
+        String relationTable = Direction.UPWARD.equals(direction) ? "assets_as_built_parents" : "assets_as_built_childs";
+        String relationQuery = "SELECT asset_as_built_id AS from_id, id AS to_id, id_short FROM public." + relationTable;
+        return AssetTreeQuery.findTree("public.assets_as_built", relationQuery, assetId, depth, entityManager);
+    }
+
     @Override
     public AssetBase getAssetByChildId(String childId) {
         return jpaAssetAsBuiltRepository.findById(childId)
@@ -81,7 +104,12 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
 
     @Override
     public List<String> getFieldValues(String fieldName, String startWith, Integer resultLimit, Owner owner, List<String> inAssetIds) {
-        return CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, resultLimit, owner, inAssetIds, AssetAsBuiltEntity.class, entityManager);
+        if (!CollectionUtils.isEmpty(inAssetIds)) {
+            return CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, resultLimit, owner, inAssetIds, AssetAsBuiltEntity.class, entityManager);
+        }
+        return fieldValueIndex.find(AssetAsBuiltEntity.class, fieldName, owner, startWith, resultLimit,
+                        maxValues -> CriteriaUtility.getDistinctAssetFieldValues(fieldName, null, maxValues, owner, List.of(), AssetAsBuiltEntity.class, entityManager))
+                .orElseGet(() -> CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, resultLimit, owner, List.of(), AssetAsBuiltEntity.class, entityManager));
     }
 
     @Override
@@ -92,15 +120,26 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
                 .toList();
     }
 
+    @Override
+    public Map<String, Long> getAssetsCountryMap() {
+        return countryMapCache.get(() -> jpaAssetAsBuiltRepository.countAssetsByManufacturingCountry().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        row -> Objects.toString(row[0], ""),
+                        row -> (Long) row[1],
+                        Long::sum)));
+    }
+
     @Override
     @Transactional
     public AssetBase save(AssetBase asset) {
+        assetsChanged();
         return jpaAssetAsBuiltRepository.save(AssetAsBuiltEntity.from(asset)).toDomain();
     }
 
     @Override
     @Transactional
     public List<AssetBase> saveAll(List<AssetBase> assets) {
+        assetsChanged();
         return jpaAssetAsBuiltRepository.saveAll(AssetAsBuiltEntity.fromList(assets)).stream()
                 .map(AssetAsBuiltEntity::toDomain)
                 .toList();
@@ -112,24 +151,17 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
         if (Objects.isNull(assets)) {
             return List.of();
         }
-        List<AssetAsBuiltEntity> toPersist = assets.stream().map(assetToPersist -> new AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity>(assetToPersist, jpaAssetAsBuiltRepository.findById(assetToPersist.getId()).orElse(null)))
-                .filter(this::entityIsTransientOrNotExistent)
-                .map(entry -> {
-                    if (entry.getValue() != null) {
-                        entry.getKey().setImportNote(ImportNote.TRANSIENT_UPDATED);
-                    }
-                    return entry.getKey();
-                })
-                .map(AssetAsBuiltEntity::from).toList();
-
-        return jpaAssetAsBuiltRepository.saveAll(toPersist).stream().map(AssetAsBuiltEntity::toDomain).toList();
-    }
-
-    private boolean entityIsTransientOrNotExistent(AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity> assetBaseAssetBaseEntitySimpleEntry) {
-        if (Objects.isNull(assetBaseAssetBaseEntitySimpleEntry.getValue())) {
-            return true;
-        }
-        return assetBaseAssetBaseEntitySimpleEntry.getValue().getImportState() == ImportState.TRANSIENT;
+        List<AssetBase> persisted = AssetBatchUpsert.saveAllIfNotInIrsSync(assets, jpaAssetAsBuiltRepository::findImportStatesByIdIn, jpaAssetAsBuiltRepository::findByIdIn,
+                AssetAsBuiltEntity::from, AssetAsBuiltEntity::toDomain, entityManager);
+
+        assetsChanged();
+        return persisted;
+    }
+
+    private void assetsChanged() {
+        countryMapCache.invalidate();
+        fieldValueIndex.invalidate(AssetAsBuiltEntity.class);
+        applicationEventPublisher.publishEvent(new AssetsChangedEvent());
     }
 
     @Transactional
@@ -150,9 +182,10 @@ public class AssetAsBuiltRepositoryImpl implements AssetAsBuiltRepository, Asset
     }
 
     @Override
-    public Optional<AssetBase> findById(String assetId) {
-        return jpaAssetAsBuiltRepository.findById(assetId)
-                .map(AssetAsBuiltEntity::toDomain);
+    @Transactional
+    public void saveOrUpdateAll(List<AssetBase> assets) {
+        AssetBatchUpsert.saveOrUpdateAll(assets, jpaAssetAsBuiltRepository::findByIdIn, AssetAsBuiltEntity::from, entityManager);
+        assetsChanged();
     }
 
     @Transactional
@@ -19,18 +19,26 @@
 
 package org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.exception.AssetNotFoundException;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltViewRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltViewEntity;
+import org.eclipse.tractusx.traceability.common.export.ExportFormat;
+import org.eclipse.tractusx.traceability.common.export.ExportWriter;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
+import org.eclipse.tractusx.traceability.common.repository.PaginationUtility;
+import org.eclipse.tractusx.traceability.common.repository.StreamingUtility;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
@@ -42,11 +50,26 @@ public class AssetAsBuiltViewRepositoryImpl implements AssetAsBuiltViewRepositor
 
     private final JpaAssetAsBuiltViewRepository jpaAssetAsBuiltViewRepository;
 
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public PageResult<AssetBase> getAssets(Pageable pageable, SearchCriteria searchCriteria) {
         List<AssetAsBuiltViewSpecification> assetAsBuildSpecifications = emptyIfNull(searchCriteria.getSearchCriteriaFilterList()).stream().map(AssetAsBuiltViewSpecification::new).toList();
         Specification<AssetAsBuiltViewEntity> specification = AssetAsBuiltViewSpecification.toSpecification(assetAsBuildSpecifications);
-        return new PageResult<>(jpaAssetAsBuiltViewRepository.findAll(specification, pageable), AssetAsBuiltViewEntity::toDomain);
+        return PaginationUtility.getPage(jpaAssetAsBuiltViewRepository, specification, pageable, AssetAsBuiltViewEntity::toDomain,
+                AssetAsBuiltViewEntity.class, "assets_as_built", entityManager);
+    }
+
+    @Override
+    public void exportAssets(SearchCriteria searchCriteria, ExportFormat format, OutputStream outputStream) {
+        List<AssetAsBuiltViewSpecification> assetAsBuildSpecifications = emptyIfNull(searchCriteria.getSearchCriteriaFilterList()).stream().map(AssetAsBuiltViewSpecification::new).toList();
+        Specification<AssetAsBuiltViewEntity> specification = AssetAsBuiltViewSpecification.toSpecification(assetAsBuildSpecifications);
+        ExportWriter<AssetAsBuiltViewEntity> exportWriter = new ExportWriter<>(format, AssetAsBuiltViewEntity.exportColumns(), objectMapper, outputStream);
+        StreamingUtility.forEach(specification, AssetAsBuiltViewEntity.class, entityManager, exportWriter::write);
+        exportWriter.flush();
     }
 
     @Override
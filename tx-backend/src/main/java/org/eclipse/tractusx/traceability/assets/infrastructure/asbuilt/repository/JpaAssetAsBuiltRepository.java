@@ -36,8 +36,14 @@ import java.util.List;
 public interface JpaAssetAsBuiltRepository extends JpaRepository<AssetAsBuiltEntity, String>, JpaSpecificationExecutor<AssetAsBuiltEntity> {
     List<AssetAsBuiltEntity> findByIdIn(List<String> assetIds);
 
+    @Query("SELECT asset.id, asset.importState FROM AssetAsBuiltEntity asset WHERE asset.id IN :assetIds")
+    List<Object[]> findImportStatesByIdIn(@Param("assetIds") List<String> assetIds);
+
     @Query("SELECT COUNT(asset) FROM AssetAsBuiltEntity asset WHERE asset.owner = :owner")
     long countAssetsByOwner(@Param("owner") Owner owner);
 
     List<AssetAsBuiltEntity> findByImportStateIn(ImportState... importState);
+
+    @Query("SELECT asset.manufacturingCountry, COUNT(asset) FROM AssetAsBuiltEntity asset GROUP BY asset.manufacturingCountry")
+    List<Object[]> countAssetsByManufacturingCountry();
 }
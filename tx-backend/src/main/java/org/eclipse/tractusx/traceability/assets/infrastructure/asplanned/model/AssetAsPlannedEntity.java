@@ -37,10 +37,12 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.aspect.DetailAspectModel;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.SemanticDataModelEntity;
+import org.eclipse.tractusx.traceability.common.export.ExportColumn;
 import org.eclipse.tractusx.traceability.submodel.infrastructure.model.SubmodelPayloadEntity;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.eclipse.tractusx.traceability.common.date.DateUtil.toInstant;
 
@@ -111,6 +113,20 @@ public class AssetAsPlannedEntity extends AssetBaseEntity {
                 .build();
     }
 
+    /**
+     * Columns of the asset export. Relations are left out, so that exporting an asset does not load its collections.
+     */
+    public static List<ExportColumn<AssetAsPlannedEntity>> exportColumns() {
+        return Stream.concat(AssetBaseEntity.<AssetAsPlannedEntity>exportColumns().stream(), Stream.of(
+                        new ExportColumn<AssetAsPlannedEntity>("validityPeriodFrom", AssetAsPlannedEntity::getValidityPeriodFrom),
+                        new ExportColumn<AssetAsPlannedEntity>("validityPeriodTo", AssetAsPlannedEntity::getValidityPeriodTo),
+                        new ExportColumn<AssetAsPlannedEntity>("function", AssetAsPlannedEntity::getFunction),
+                        new ExportColumn<AssetAsPlannedEntity>("functionValidFrom", AssetAsPlannedEntity::getFunctionValidFrom),
+                        new ExportColumn<AssetAsPlannedEntity>("functionValidUntil", AssetAsPlannedEntity::getFunctionValidUntil),
+                        new ExportColumn<AssetAsPlannedEntity>("catenaxSiteId", AssetAsPlannedEntity::getCatenaxSiteId)))
+                .toList();
+    }
+
     public static AssetBase toDomain(AssetAsPlannedEntity entity) {
         return AssetBase.builder()
                 .id(entity.getId())
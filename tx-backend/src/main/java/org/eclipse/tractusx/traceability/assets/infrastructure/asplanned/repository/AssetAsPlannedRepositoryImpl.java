@@ -19,30 +19,40 @@
 
 package org.eclipse.tractusx.traceability.assets.infrastructure.asplanned.repository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections.CollectionUtils;
+import org.eclipse.tractusx.irs.component.enums.Direction;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.exception.AssetNotFoundException;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetsChangedEvent;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asplanned.model.AssetAsPlannedEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.AssetCallbackRepository;
-import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.repository.AssetBatchUpsert;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.repository.AssetTreeQuery;
+import org.eclipse.tractusx.traceability.common.export.ExportFormat;
+import org.eclipse.tractusx.traceability.common.export.ExportWriter;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
+import org.eclipse.tractusx.traceability.common.repository.FieldValueIndex;
+import org.eclipse.tractusx.traceability.common.repository.PaginationUtility;
+import org.eclipse.tractusx.traceability.common.repository.StreamingUtility;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.AbstractMap;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
@@ -52,6 +62,12 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
 
     private final JpaAssetAsPlannedRepository jpaAssetAsPlannedRepository;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final FieldValueIndex fieldValueIndex;
+
+    private final ObjectMapper objectMapper;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -74,6 +90,15 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
                 .toList();
     }
 
+    @Override
+    public List<AssetTreeNode> getAssetTree(String assetId, Direction direction, int depth) {
+        // as planned assets only store their children, the parents are found by reading the child relation backwards
+        String relationQuery = Direction.UPWARD.equals(direction)
+                ? "SELECT id AS from_id, asset_as_planned_id AS to_id, CAST(NULL AS varchar) AS id_short FROM public.assets_as_planned_childs"
+                : "SELECT asset_as_planned_id AS from_id, id AS to_id, id_short FROM public.assets_as_planned_childs";
+        return AssetTreeQuery.findTree("public.assets_as_planned", relationQuery, assetId, depth, entityManager);
+    }
+
     @Override
     public AssetBase getAssetByChildId(String childId) {
         return jpaAssetAsPlannedRepository.findById(childId).map(AssetAsPlannedEntity::toDomain)
@@ -85,7 +110,18 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
     public PageResult<AssetBase> getAssets(Pageable pageable, SearchCriteria searchCriteria) {
         List<AssetAsPlannedSpecification> assetAsPlannedSpecifications = emptyIfNull(searchCriteria.getSearchCriteriaFilterList()).stream().map(AssetAsPlannedSpecification::new).toList();
         Specification<AssetAsPlannedEntity> specification = AssetAsPlannedSpecification.toSpecification(assetAsPlannedSpecifications);
-        return new PageResult<>(jpaAssetAsPlannedRepository.findAll(specification, pageable), AssetAsPlannedEntity::toDomain);
+        return PaginationUtility.getPage(jpaAssetAsPlannedRepository, specification, pageable, AssetAsPlannedEntity::toDomain,
+                AssetAsPlannedEntity.class, "assets_as_planned", entityManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAssets(SearchCriteria searchCriteria, ExportFormat format, OutputStream outputStream) {
+        List<AssetAsPlannedSpecification> assetAsPlannedSpecifications = emptyIfNull(searchCriteria.getSearchCriteriaFilterList()).stream().map(AssetAsPlannedSpecification::new).toList();
+        Specification<AssetAsPlannedEntity> specification = AssetAsPlannedSpecification.toSpecification(assetAsPlannedSpecifications);
+        ExportWriter<AssetAsPlannedEntity> exportWriter = new ExportWriter<>(format, AssetAsPlannedEntity.exportColumns(), objectMapper, outputStream);
+        StreamingUtility.forEach(specification, AssetAsPlannedEntity.class, entityManager, exportWriter::write);
+        exportWriter.flush();
     }
 
     @Override
@@ -97,12 +133,14 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
     @Override
     @Transactional
     public AssetBase save(AssetBase asset) {
+        assetsChanged();
         return AssetAsPlannedEntity.toDomain(jpaAssetAsPlannedRepository.save(AssetAsPlannedEntity.from(asset)));
     }
 
     @Override
     @Transactional
     public List<AssetBase> saveAll(List<AssetBase> assets) {
+        assetsChanged();
         return AssetAsPlannedEntity.toDomainList(jpaAssetAsPlannedRepository.saveAll(AssetAsPlannedEntity.fromList(assets)));
     }
 
@@ -112,34 +150,23 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
         if (Objects.isNull(assets)) {
             return List.of();
         }
-        List<AssetAsPlannedEntity> toPersist = assets.stream().map(assetToPersist ->
-                        new AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity>(
-                                assetToPersist,
-                                jpaAssetAsPlannedRepository.findById(assetToPersist.getId()).orElse(null)))
-                .filter(this::entityIsTransientOrNotExistent)
-                .map(entry -> {
-                    if (entry.getValue() != null) {
-                        entry.getKey().setImportNote(ImportNote.TRANSIENT_UPDATED);
-                    }
-                    return entry.getKey();
-                })
-                .map(AssetAsPlannedEntity::from).toList();
-
-        return jpaAssetAsPlannedRepository.saveAll(toPersist).stream().map(AssetAsPlannedEntity::toDomain).toList();
-
-    }
-
-    private boolean entityIsTransientOrNotExistent(AbstractMap.SimpleEntry<AssetBase, AssetBaseEntity> assetBaseAssetBaseEntitySimpleEntry) {
-        if (Objects.isNull(assetBaseAssetBaseEntitySimpleEntry.getValue())) {
-            return true;
-        }
-        return assetBaseAssetBaseEntitySimpleEntry.getValue().getImportState() == ImportState.TRANSIENT;
+        List<AssetBase> persisted = AssetBatchUpsert.saveAllIfNotInIrsSync(assets, jpaAssetAsPlannedRepository::findImportStatesByIdIn, jpaAssetAsPlannedRepository::findByIdIn,
+                AssetAsPlannedEntity::from, AssetAsPlannedEntity::toDomain, entityManager);
+
+        assetsChanged();
+        return persisted;
+    }
+
+    private void assetsChanged() {
+        fieldValueIndex.invalidate(AssetAsPlannedEntity.class);
+        applicationEventPublisher.publishEvent(new AssetsChangedEvent());
     }
 
     @Override
-    public Optional<AssetBase> findById(String assetId) {
-        return jpaAssetAsPlannedRepository.findById(assetId)
-                .map(AssetAsPlannedEntity::toDomain);
+    @Transactional
+    public void saveOrUpdateAll(List<AssetBase> assets) {
+        AssetBatchUpsert.saveOrUpdateAll(assets, jpaAssetAsPlannedRepository::findByIdIn, AssetAsPlannedEntity::from, entityManager);
+        assetsChanged();
     }
 
     @Transactional
@@ -155,7 +182,12 @@ public class AssetAsPlannedRepositoryImpl implements AssetAsPlannedRepository, A
 
     @Override
     public List<String> getFieldValues(String fieldName, String startWith, Integer resultLimit, Owner owner, List<String> inAssetIds) {
-        return CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, resultLimit, owner, inAssetIds, AssetAsPlannedEntity.class, entityManager);
+        if (!CollectionUtils.isEmpty(inAssetIds)) {
+            return CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, resultLimit, owner, inAssetIds, AssetAsPlannedEntity.class, entityManager);
+        }
+        return fieldValueIndex.find(AssetAsPlannedEntity.class, fieldName, owner, startWith, resultLimit,
+                        maxValues -> CriteriaUtility.getDistinctAssetFieldValues(fieldName, null, maxValues, owner, List.of(), AssetAsPlannedEntity.class, entityManager))
+                .orElseGet(() -> CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, resultLimit, owner, List.of(), AssetAsPlannedEntity.class, entityManager));
     }
 
     @Transactional
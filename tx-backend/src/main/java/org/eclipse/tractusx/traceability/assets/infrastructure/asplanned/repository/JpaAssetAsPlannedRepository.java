@@ -31,6 +31,9 @@ import java.util.List;
 public interface JpaAssetAsPlannedRepository extends JpaRepository<AssetAsPlannedEntity, String>, JpaSpecificationExecutor<AssetAsPlannedEntity> {
     List<AssetAsPlannedEntity> findByIdIn(List<String> assetIds);
 
+    @Query("SELECT asset.id, asset.importState FROM AssetAsPlannedEntity asset WHERE asset.id IN :assetIds")
+    List<Object[]> findImportStatesByIdIn(@Param("assetIds") List<String> assetIds);
+
     @Query("SELECT COUNT(asset) FROM AssetAsPlannedEntity asset WHERE asset.owner = :owner")
     long countAssetsByOwner(@Param("owner") Owner owner);
 
@@ -21,11 +21,14 @@ package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface AssetCallbackRepository {
 
-    Optional<AssetBase> findById(final String assetId);
-
-    AssetBase save(AssetBase asset);
+    /**
+     * Stores the assets of an IRS job result in batches. Assets which do not exist yet are inserted, assets which
+     * already exist keep their data and only take over the owner if it was unknown, the parent relations if given
+     * and the tombstone, and become persistent.
+     */
+    void saveOrUpdateAll(List<AssetBase> assets);
 }
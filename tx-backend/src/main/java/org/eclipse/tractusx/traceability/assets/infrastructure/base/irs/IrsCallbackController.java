@@ -29,7 +29,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.callback.IrsCallbackQueue;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job.IrsJobRegistry;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -40,12 +41,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class IrsCallbackController {
 
-    private final JobRepository jobRepository;
+    private final IrsCallbackQueue irsCallbackQueue;
+    private final IrsJobRegistry irsJobRegistry;
 
     @Operation(operationId = "irsCallback",
             summary = "Callback of irs get job details",
             tags = {"IRSCallback"},
-            description = "The endpoint retrieves the information about a job which has been completed recently.",
+            description = "The endpoint enqueues a job which has been completed recently, its information is retrieved asynchronously.",
             security = @SecurityRequirement(name = "oAuth2", scopes = "profile email"))
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Retrieves job id in completed state."),
             @ApiResponse(
@@ -95,7 +97,8 @@ public class IrsCallbackController {
     void handleIrsJobCallback(@RequestParam("id") String jobId, @RequestParam("state") String jobState) {
         // Security measurment for injection
         if (jobId.matches("^[a-zA-Z0-9_-]*$")) {
-            jobRepository.handleJobFinishedCallback(jobId, jobState);
+            irsJobRegistry.finish(jobId, jobState);
+            irsCallbackQueue.enqueue(jobId, jobState);
         }
     }
 }
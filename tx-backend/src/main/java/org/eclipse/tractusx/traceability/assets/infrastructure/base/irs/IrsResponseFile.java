@@ -0,0 +1,167 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseSource;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseVisitor;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Shell;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * IRS job response spooled to a temporary file. Every read parses the file with the Jackson streaming API and hands
+ * the elements of the job, relationships, shells, tombstones and submodels sections to the visitor one at a time.
+ * Closing deletes the file.
+ */
+@Slf4j
+public class IrsResponseFile implements IrsResponseSource, AutoCloseable {
+
+    private static final String JOB = "job";
+    private static final String RELATIONSHIPS = "relationships";
+    private static final String SHELLS = "shells";
+    private static final String TOMBSTONES = "tombstones";
+    private static final String SUBMODELS = "submodels";
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    IrsResponseFile(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    static IrsResponseFile createTemporary(ObjectMapper objectMapper) {
+        try {
+            return new IrsResponseFile(Files.createTempFile("irs-job-", ".json"), objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    boolean isEmpty() {
+        try {
+            return Files.size(path) == 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the job section only and stops there.
+     */
+    @Nullable
+    public JobStatus jobStatus() {
+        try (JsonParser parser = objectMapper.createParser(path.toFile())) {
+            return readJobStatus(parser, objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the job section of an IRS job response and stops there, so that a response can be checked for its state
+     * without reading its results.
+     */
+    @Nullable
+    static JobStatus readJobStatus(JsonParser parser, ObjectMapper objectMapper) throws IOException {
+        requireObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName().toLowerCase(Locale.ROOT);
+            parser.nextToken();
+            if (JOB.equals(field)) {
+                return objectMapper.readValue(parser, JobStatus.class);
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    @Override
+    public void accept(IrsResponseVisitor visitor) {
+        try (JsonParser parser = openObject()) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName().toLowerCase(Locale.ROOT);
+                parser.nextToken();
+                switch (field) {
+                    case JOB -> visitor.jobStatus(objectMapper.readValue(parser, JobStatus.class));
+                    case RELATIONSHIPS -> readArray(parser, Relationship.class, visitor::relationship);
+                    case SHELLS -> readArray(parser, Shell.class, visitor::shell);
+                    case TOMBSTONES -> readArray(parser, Tombstone.class, visitor::tombstone);
+                    case SUBMODELS -> readArray(parser, IrsSubmodel.class, visitor::submodel);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete IRS job response file {}", path, e);
+        }
+    }
+
+    private JsonParser openObject() throws IOException {
+        JsonParser parser = objectMapper.createParser(path.toFile());
+        try {
+            requireObject(parser);
+        } catch (IOException e) {
+            parser.close();
+            throw e;
+        }
+        return parser;
+    }
+
+    private static void requireObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("IRS job response is not a JSON object");
+        }
+    }
+
+    private <T> void readArray(JsonParser parser, Class<T> type, Consumer<T> consumer) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(objectMapper.readValue(parser, type));
+        }
+    }
+}
@@ -18,17 +18,24 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.RegisterJobResponse;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
 import static org.eclipse.tractusx.traceability.common.config.RestTemplateConfiguration.IRS_REGULAR_TEMPLATE;
 
 @Slf4j
@@ -36,18 +43,59 @@ import static org.eclipse.tractusx.traceability.common.config.RestTemplateConfig
 public class JobClient {
 
     private final RestTemplate irsRegularTemplate;
+    private final ObjectMapper objectMapper;
 
     public JobClient(@Qualifier(IRS_REGULAR_TEMPLATE) RestTemplate irsRegularTemplate) {
         this.irsRegularTemplate = irsRegularTemplate;
+        this.objectMapper = irsRegularTemplate.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("IRS rest template has no JSON message converter"));
     }
 
-    public void registerJob(RegisterJobRequest registerJobRequest) {
-        irsRegularTemplate.exchange("/irs/jobs", HttpMethod.POST, new HttpEntity<>(registerJobRequest), Void.class);
+    /**
+     * @return the id of the registered job, or null if IRS did not return one
+     */
+    @Nullable
+    public String registerJob(RegisterJobRequest registerJobRequest) {
+        RegisterJobResponse response = irsRegularTemplate.exchange("/irs/jobs", HttpMethod.POST, new HttpEntity<>(registerJobRequest), RegisterJobResponse.class).getBody();
+        return response == null ? null : response.id();
+    }
+
+    /**
+     * Reads the status of the job without its results. The response is read only up to the job section, which IRS
+     * sends first, so that polling a completed job does not download its results.
+     */
+    @Nullable
+    public JobStatus getJobStatus(String jobId) {
+        return irsRegularTemplate.execute("/irs/jobs/" + jobId + "?returnUncompletedJob=false", HttpMethod.GET, irsRegularTemplate.acceptHeaderRequestCallback(IRSResponse.class), response -> {
+            try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+                return IrsResponseFile.readJobStatus(parser, objectMapper);
+            }
+        });
     }
 
+    /**
+     * Downloads the job details into a temporary file without binding them, so that callers can stream through
+     * large responses. The caller has to close the returned file.
+     */
     @Nullable
-    public IRSResponse getIrsJobDetailResponse(String jobId) {
-        return irsRegularTemplate.exchange("/irs/jobs/" + jobId, HttpMethod.GET, null, new ParameterizedTypeReference<IRSResponse>() {
-        }).getBody();
+    public IrsResponseFile downloadIrsJobDetailResponse(String jobId) {
+        IrsResponseFile responseFile = IrsResponseFile.createTemporary(objectMapper);
+        try {
+            irsRegularTemplate.execute("/irs/jobs/" + jobId, HttpMethod.GET, irsRegularTemplate.acceptHeaderRequestCallback(IRSResponse.class), response -> {
+                Files.copy(response.getBody(), responseFile.getPath(), StandardCopyOption.REPLACE_EXISTING);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            responseFile.close();
+            throw e;
+        }
+        if (responseFile.isEmpty()) {
+            responseFile.close();
+            return null;
+        }
+        return responseFile;
     }
 }
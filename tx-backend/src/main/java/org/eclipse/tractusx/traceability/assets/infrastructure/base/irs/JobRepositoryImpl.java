@@ -24,13 +24,11 @@ package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job.IrsJobRegistrationPipeline;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job.IrsJobRegistry;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
-import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.IrsResponseAssetMapper;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
@@ -38,11 +36,13 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.eclipse.tractusx.irs.component.enums.BomLifecycle.AS_BUILT;
-import static org.eclipse.tractusx.irs.component.enums.BomLifecycle.AS_PLANNED;
 
 @Slf4j
 @Service
@@ -52,14 +52,21 @@ public class JobRepositoryImpl implements JobRepository {
     private final AssetCallbackRepository assetAsBuiltCallbackRepository;
     private final AssetCallbackRepository assetAsPlannedCallbackRepository;
 
-    private static final String JOB_STATUS_COMPLETED = "COMPLETED";
+    public static final String JOB_STATUS_COMPLETED = "COMPLETED";
+    private static final int ASSET_BATCH_SIZE = 500;
 
     private final IrsResponseAssetMapper assetMapperFactory;
 
     private final JobClient jobClient;
 
+    private final IrsJobRegistry irsJobRegistry;
+
+    private final IrsJobRegistrationPipeline irsJobRegistrationPipeline;
+
     public JobRepositoryImpl(
             JobClient jobClient,
+            IrsJobRegistry irsJobRegistry,
+            IrsJobRegistrationPipeline irsJobRegistrationPipeline,
             TraceabilityProperties traceabilityProperties,
             @Qualifier("assetAsBuiltRepositoryImpl")
             AssetCallbackRepository assetAsBuiltCallbackRepository,
@@ -69,15 +76,31 @@ public class JobRepositoryImpl implements JobRepository {
         this.assetAsBuiltCallbackRepository = assetAsBuiltCallbackRepository;
         this.assetAsPlannedCallbackRepository = assetAsPlannedCallbackRepository;
         this.jobClient = jobClient;
+        this.irsJobRegistry = irsJobRegistry;
+        this.irsJobRegistrationPipeline = irsJobRegistrationPipeline;
         this.assetMapperFactory = assetMapperFactory;
     }
 
     @Override
     public void createJobToResolveAssets(String globalAssetId, Direction direction, List<String> aspects, BomLifecycle bomLifecycle) {
+        Optional<Long> reservation = irsJobRegistry.reserve(globalAssetId, direction, bomLifecycle, aspects);
+        if (reservation.isEmpty()) {
+            log.info("IRS job for globalAssetId: {}, direction: {} and bomLifecycle: {} is already in flight, skipping registration.", globalAssetId, direction, bomLifecycle);
+            return;
+        }
         RegisterJobRequest registerJobRequest = RegisterJobRequest.buildJobRequest(globalAssetId, traceabilityProperties.getBpn().toString(), direction, aspects, bomLifecycle, traceabilityProperties.getUrl());
-        this.jobClient.registerJob(registerJobRequest);
+        try {
+            irsJobRegistry.registered(reservation.get(), irsJobRegistrationPipeline.throttled(() -> this.jobClient.registerJob(registerJobRequest)));
+        } catch (RuntimeException e) {
+            irsJobRegistry.registrationFailed(reservation.get());
+            throw e;
+        }
     }
 
+    @Override
+    public Set<String> createJobsToResolveAssets(List<String> globalAssetIds, Direction direction, List<String> aspects, BomLifecycle bomLifecycle) {
+        return irsJobRegistrationPipeline.registerAll(globalAssetIds, globalAssetId -> createJobToResolveAssets(globalAssetId, direction, aspects, bomLifecycle));
+    }
 
     @Override
     public void handleJobFinishedCallback(String jobId, String state) {
@@ -85,48 +108,35 @@ public class JobRepositoryImpl implements JobRepository {
             return;
         }
 
-        final IRSResponse jobResponseIRS = this.jobClient.getIrsJobDetailResponse(jobId);
-
-        if (jobResponseIRS == null) {
-            return;
-        }
-
-        long runtime = (jobResponseIRS.jobStatus().lastModifiedOn().getTime() - jobResponseIRS.jobStatus().startedOn().getTime()) / 1000;
-        log.info("IRS call for globalAssetId: {} finished with status: {}, runtime {} s.", jobResponseIRS.jobStatus().globalAssetId(), jobResponseIRS.jobStatus().state(), runtime);
+        try (IrsResponseFile jobResponseIRS = this.jobClient.downloadIrsJobDetailResponse(jobId)) {
+            if (jobResponseIRS == null) {
+                return;
+            }
+            JobStatus jobStatus = jobResponseIRS.jobStatus();
+            if (jobStatus == null) {
+                return;
+            }
 
-        if (jobCompleted(jobResponseIRS.jobStatus())) {
-            List<AssetBase> assets = assetMapperFactory.toAssetBaseList(jobResponseIRS);
+            long runtime = (jobStatus.lastModifiedOn().getTime() - jobStatus.startedOn().getTime()) / 1000;
+            log.info("IRS call for globalAssetId: {} finished with status: {}, runtime {} s.", jobStatus.globalAssetId(), jobStatus.state(), runtime);
 
-            assets.forEach(assetBase -> {
-                if (assetBase.getBomLifecycle() == AS_BUILT) {
-                    saveOrUpdateAssets(assetAsBuiltCallbackRepository, assetBase);
-                } else if (assetBase.getBomLifecycle() == AS_PLANNED) {
-                    saveOrUpdateAssets(assetAsPlannedCallbackRepository, assetBase);
-                }
-            });
+            if (jobCompleted(jobStatus)) {
+                assetMapperFactory.toAssetBaseBatches(jobResponseIRS, ASSET_BATCH_SIZE, assets -> {
+                    Map<Boolean, List<AssetBase>> assetsByAsBuilt = assets.stream()
+                            .collect(Collectors.partitioningBy(assetBase -> assetBase.getBomLifecycle() == AS_BUILT));
+                    saveOrUpdateAssets(assetAsBuiltCallbackRepository, assetsByAsBuilt.get(true));
+                    saveOrUpdateAssets(assetAsPlannedCallbackRepository, assetsByAsBuilt.get(false));
+                });
+            }
         }
     }
 
-    void saveOrUpdateAssets(AssetCallbackRepository repository, AssetBase asset) {
-        Optional<AssetBase> existingAssetOptional = repository.findById(asset.getId());
-        if (existingAssetOptional.isPresent()) {
-            AssetBase existingAsset = existingAssetOptional.get();
-            if (existingAsset.getOwner().equals(Owner.UNKNOWN)) {
-                existingAsset.setOwner(asset.getOwner());
-            }
-            if (!asset.getParentRelations().isEmpty()) {
-                existingAsset.setParentRelations(asset.getParentRelations());
-            }
-            existingAsset.setTombstone(asset.getTombstone() == null ? "" : asset.getTombstone());
-            existingAsset.setImportState(ImportState.PERSISTENT);
-            existingAsset.setImportNote(ImportNote.PERSISTED);
-            repository.save(existingAsset);
-        } else {
-            repository.save(asset);
+    private void saveOrUpdateAssets(AssetCallbackRepository repository, List<AssetBase> assets) {
+        if (!assets.isEmpty()) {
+            repository.saveOrUpdateAll(assets);
         }
     }
 
-
     public static boolean jobCompleted(JobStatus jobStatus) {
         return JOB_STATUS_COMPLETED.equals(jobStatus.state());
     }
@@ -0,0 +1,156 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.callback;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.JobRepositoryImpl.JOB_STATUS_COMPLETED;
+
+/**
+ * Durable queue of IRS job callbacks in the irs_callback table, keyed by job id. A job id is processed once: repeated
+ * callbacks for a pending or processed job are ignored, only a job whose processing failed for good is enqueued again.
+ * Callbacks are claimed with FOR UPDATE SKIP LOCKED for a lease, so that several workers and instances can drain the
+ * queue concurrently and a callback claimed by a crashed instance is picked up again once its lease expired.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IrsCallbackQueue {
+
+    private static final String ENQUEUE_QUERY = """
+            INSERT INTO public.irs_callback (job_id, job_state, status, attempts, received_on, next_attempt_on)
+            VALUES (:jobId, :jobState, 'PENDING', 0, :now, :now)
+            ON CONFLICT (job_id) DO UPDATE
+                SET job_state = EXCLUDED.job_state, status = 'PENDING', attempts = 0, received_on = EXCLUDED.received_on,
+                    next_attempt_on = EXCLUDED.next_attempt_on, processed_on = NULL, last_error = NULL
+                WHERE irs_callback.status = 'FAILED'
+            """;
+
+    private static final String CLAIM_QUERY = """
+            SELECT * FROM public.irs_callback
+            WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_on <= :now
+            ORDER BY next_attempt_on
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Clock clock;
+
+    /**
+     * @return true if the callback was enqueued, false if it was ignored
+     */
+    @Transactional
+    public boolean enqueue(String jobId, String jobState) {
+        if (!JOB_STATUS_COMPLETED.equals(jobState)) {
+            return false;
+        }
+        int enqueued = entityManager.createNativeQuery(ENQUEUE_QUERY)
+                .setParameter("jobId", jobId)
+                .setParameter("jobState", jobState)
+                .setParameter("now", clock.instant())
+                .executeUpdate();
+        if (enqueued == 0) {
+            log.info("Ignoring repeated IRS callback for job {}.", jobId);
+        }
+        return enqueued > 0;
+    }
+
+    /**
+     * Claims up to limit due callbacks for the given lease and counts the attempt.
+     */
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<IrsCallbackEntity> claim(int limit, Duration lease) {
+        Instant now = clock.instant();
+        List<IrsCallbackEntity> callbacks = entityManager.createNativeQuery(CLAIM_QUERY, IrsCallbackEntity.class)
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .getResultList();
+        callbacks.forEach(callback -> {
+            callback.setStatus(IrsCallbackStatus.PROCESSING);
+            callback.setAttempts(callback.getAttempts() + 1);
+            callback.setNextAttemptOn(now.plus(lease));
+        });
+        return callbacks;
+    }
+
+    @Transactional
+    public void complete(String jobId) {
+        IrsCallbackEntity callback = entityManager.find(IrsCallbackEntity.class, jobId);
+        if (callback != null) {
+            callback.setStatus(IrsCallbackStatus.DONE);
+            callback.setProcessedOn(clock.instant());
+            callback.setLastError(null);
+        }
+    }
+
+    /**
+     * Schedules the callback for another attempt after the given delay, or marks it as failed if the delay is null.
+     */
+    @Transactional
+    public void fail(String jobId, String error, Duration retryDelay) {
+        IrsCallbackEntity callback = entityManager.find(IrsCallbackEntity.class, jobId);
+        if (callback == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        callback.setLastError(error == null ? null : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)));
+        if (retryDelay == null) {
+            callback.setStatus(IrsCallbackStatus.FAILED);
+            callback.setProcessedOn(now);
+        } else {
+            callback.setStatus(IrsCallbackStatus.PENDING);
+            callback.setNextAttemptOn(now.plus(retryDelay));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long countOpen() {
+        return entityManager.createQuery("SELECT count(c) FROM IrsCallbackEntity c WHERE c.status IN :statuses", Long.class)
+                .setParameter("statuses", List.of(IrsCallbackStatus.PENDING, IrsCallbackStatus.PROCESSING))
+                .getSingleResult();
+    }
+
+    /**
+     * Deletes processed callbacks older than the retention, after which a repeated callback is processed again.
+     */
+    @Transactional
+    public int purge(Duration retention) {
+        return entityManager.createQuery("DELETE FROM IrsCallbackEntity c WHERE c.status = :status AND c.processedOn < :before")
+                .setParameter("status", IrsCallbackStatus.DONE)
+                .setParameter("before", clock.instant().minus(retention))
+                .executeUpdate();
+    }
+}
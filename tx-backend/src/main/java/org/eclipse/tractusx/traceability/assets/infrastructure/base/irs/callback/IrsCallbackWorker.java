@@ -0,0 +1,137 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.callback;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.IRS_CALLBACK_EXECUTOR;
+
+/**
+ * Drains the {@link IrsCallbackQueue} with at most the configured number of callbacks in progress. A failed callback
+ * is retried with exponential backoff until the maximum number of attempts is reached.
+ */
+@Slf4j
+@Component
+public class IrsCallbackWorker {
+
+    private static final int MAX_BACKOFF_EXPONENT = 10;
+
+    private final IrsCallbackQueue irsCallbackQueue;
+    private final JobRepository jobRepository;
+    private final TaskExecutor executor;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration lease;
+    private final Duration retention;
+    private final Semaphore workers;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+
+    public IrsCallbackWorker(
+            IrsCallbackQueue irsCallbackQueue,
+            JobRepository jobRepository,
+            @Qualifier(IRS_CALLBACK_EXECUTOR) TaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${traceability.irsCallback.concurrency:4}") int concurrency,
+            @Value("${traceability.irsCallback.maxAttempts:5}") int maxAttempts,
+            @Value("${traceability.irsCallback.backoff:PT30S}") Duration backoff,
+            @Value("${traceability.irsCallback.lease:PT15M}") Duration lease,
+            @Value("${traceability.irsCallback.retention:P1D}") Duration retention) {
+        this.irsCallbackQueue = irsCallbackQueue;
+        this.jobRepository = jobRepository;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.lease = lease;
+        this.retention = retention;
+        this.workers = new Semaphore(concurrency);
+        Gauge.builder("irs.callback.queue.depth", queueDepth, AtomicLong::get)
+                .description("IRS job callbacks waiting to be processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Processes all due callbacks and returns once they are done.
+     *
+     * @return the number of processed callbacks
+     */
+    public int drain() {
+        queueDepth.set(irsCallbackQueue.countOpen());
+        List<CompletableFuture<Void>> inProgress = new ArrayList<>();
+        int processed = 0;
+        while (true) {
+            workers.acquireUninterruptibly();
+            int free = 1 + workers.drainPermits();
+            List<IrsCallbackEntity> callbacks = irsCallbackQueue.claim(free, lease);
+            workers.release(free - callbacks.size());
+            if (callbacks.isEmpty()) {
+                break;
+            }
+            callbacks.forEach(callback -> inProgress.add(CompletableFuture.runAsync(() -> {
+                try {
+                    process(callback);
+                } finally {
+                    workers.release();
+                }
+            }, executor)));
+            processed += callbacks.size();
+        }
+        CompletableFuture.allOf(inProgress.toArray(CompletableFuture[]::new)).join();
+        irsCallbackQueue.purge(retention);
+        queueDepth.set(irsCallbackQueue.countOpen());
+        return processed;
+    }
+
+    void process(IrsCallbackEntity callback) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            jobRepository.handleJobFinishedCallback(callback.getJobId(), callback.getJobState());
+            irsCallbackQueue.complete(callback.getJobId());
+        } catch (RuntimeException e) {
+            boolean retry = callback.getAttempts() < maxAttempts;
+            outcome = retry ? "retry" : "failed";
+            log.warn("Processing IRS callback for job {} failed in attempt {} of {}.", callback.getJobId(), callback.getAttempts(), maxAttempts, e);
+            irsCallbackQueue.fail(callback.getJobId(), e.getMessage(), retry ? retryDelay(callback.getAttempts()) : null);
+        } finally {
+            sample.stop(meterRegistry.timer("irs.callback.processing", "outcome", outcome));
+        }
+    }
+
+    Duration retryDelay(int attempts) {
+        return backoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_EXPONENT));
+    }
+}
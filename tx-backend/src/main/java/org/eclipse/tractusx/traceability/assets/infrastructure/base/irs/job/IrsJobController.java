@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@Hidden
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class IrsJobController {
+
+    private final IrsJobRegistry irsJobRegistry;
+
+    /**
+     * Lists the registered IRS jobs, by default the ones which are still in flight.
+     */
+    @GetMapping(path = "/irs/jobs", produces = "application/json")
+    public List<IrsJobResponse> getIrsJobs(@RequestParam(value = "status", defaultValue = "REGISTERING,RUNNING") List<IrsJobStatus> statuses) {
+        return irsJobRegistry.findByStatus(statuses).stream().map(IrsJobResponse::from).toList();
+    }
+}
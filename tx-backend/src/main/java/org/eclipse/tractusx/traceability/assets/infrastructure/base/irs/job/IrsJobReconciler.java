@@ -0,0 +1,107 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.JobClient;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.callback.IrsCallbackQueue;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+
+/**
+ * Polls IRS for the running jobs whose callback did not arrive within the callback deadline. A job which IRS reports
+ * as finished takes the same path as its callback would have, a job which IRS does not know anymore is marked as
+ * failed so that the next synchronization registers it again.
+ */
+@Slf4j
+@Component
+public class IrsJobReconciler {
+
+    private static final List<String> FINISHED_JOB_STATES = List.of("COMPLETED", "ERROR", "CANCELED");
+
+    private final IrsJobRegistry irsJobRegistry;
+    private final IrsJobRegistrationPipeline irsJobRegistrationPipeline;
+    private final IrsCallbackQueue irsCallbackQueue;
+    private final JobClient jobClient;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public IrsJobReconciler(
+            IrsJobRegistry irsJobRegistry,
+            IrsJobRegistrationPipeline irsJobRegistrationPipeline,
+            IrsCallbackQueue irsCallbackQueue,
+            JobClient jobClient,
+            MeterRegistry meterRegistry,
+            @Value("${traceability.irsJobs.reconcileBatchSize:50}") int batchSize) {
+        this.irsJobRegistry = irsJobRegistry;
+        this.irsJobRegistrationPipeline = irsJobRegistrationPipeline;
+        this.irsCallbackQueue = irsCallbackQueue;
+        this.jobClient = jobClient;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Polls all jobs whose callback is overdue.
+     *
+     * @return the number of polled jobs
+     */
+    public int reconcile() {
+        int polled = 0;
+        List<IrsJobEntity> jobs;
+        do {
+            jobs = irsJobRegistry.claimOverdue(batchSize);
+            jobs.forEach(job -> poll(job.getJobId()));
+            polled += jobs.size();
+        } while (jobs.size() == batchSize);
+        return polled;
+    }
+
+    void poll(String jobId) {
+        String outcome;
+        try {
+            JobStatus jobStatus = irsJobRegistrationPipeline.throttled(() -> jobClient.getJobStatus(jobId));
+            if (jobStatus == null) {
+                log.warn("IRS returned no status for job {}, trying again with the next poll.", jobId);
+                outcome = "failed";
+            } else if (FINISHED_JOB_STATES.contains(jobStatus.state())) {
+                log.info("IRS job {} finished with state {} without callback, processing it now.", jobId, jobStatus.state());
+                irsJobRegistry.finish(jobId, jobStatus.state());
+                irsCallbackQueue.enqueue(jobId, jobStatus.state());
+                outcome = "finished";
+            } else {
+                irsJobRegistry.stillRunning(jobId);
+                outcome = "running";
+            }
+        } catch (HttpClientErrorException.NotFound e) {
+            log.warn("IRS job {} is unknown to IRS, marking it as failed.", jobId);
+            irsJobRegistry.lost(jobId);
+            outcome = "lost";
+        } catch (RuntimeException e) {
+            log.warn("Polling IRS job {} failed, trying again with the next poll.", jobId, e);
+            outcome = "failed";
+        }
+        meterRegistry.counter("irs.jobs.polls", "outcome", outcome).increment();
+    }
+}
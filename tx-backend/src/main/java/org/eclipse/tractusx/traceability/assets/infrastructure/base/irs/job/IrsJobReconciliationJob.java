@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.common.config.ApplicationProfiles;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@Profile(ApplicationProfiles.NOT_INTEGRATION_TESTS)
+@RequiredArgsConstructor
+public class IrsJobReconciliationJob {
+
+    private final IrsJobReconciler irsJobReconciler;
+
+    @Scheduled(fixedDelayString = "${traceability.irsJobs.reconcileInterval:PT1M}")
+    public void reconcile() {
+        int polled = irsJobReconciler.reconcile();
+        if (polled > 0) {
+            log.info("Polled {} IRS jobs with overdue callback", polled);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.IRS_JOB_REGISTRATION_EXECUTOR;
+
+/**
+ * Registers IRS jobs for many assets in parallel. The number of registrations in flight is bounded by the parallelism,
+ * so that callers block instead of queueing unbounded work, and the calls towards IRS are limited by a token bucket.
+ * When IRS answers with 429 or 503 the bucket is paused for the announced Retry-After, or an exponential backoff, and
+ * the call is retried.
+ */
+@Slf4j
+@Component
+public class IrsJobRegistrationPipeline {
+
+    private final Executor executor;
+    private final Semaphore inFlight;
+    private final TokenBucket tokenBucket;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter registered;
+    private final Counter failed;
+    private final Counter throttled;
+
+    public IrsJobRegistrationPipeline(
+            @Qualifier(IRS_JOB_REGISTRATION_EXECUTOR) Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${traceability.irsJobRegistration.parallelism:8}") int parallelism,
+            @Value("${traceability.irsJobRegistration.ratePerSecond:10}") double ratePerSecond,
+            @Value("${traceability.irsJobRegistration.maxAttempts:5}") int maxAttempts,
+            @Value("${traceability.irsJobRegistration.backoff:PT5S}") Duration backoff) {
+        this.executor = executor;
+        this.inFlight = new Semaphore(parallelism);
+        this.tokenBucket = new TokenBucket(ratePerSecond, System::nanoTime);
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        Gauge.builder("irs.jobs.registrations.pending", pending, AtomicLong::get)
+                .description("IRS job registrations submitted and not finished yet")
+                .register(meterRegistry);
+        this.registered = registrations(meterRegistry, "registered");
+        this.failed = registrations(meterRegistry, "failed");
+        this.throttled = Counter.builder("irs.jobs.registrations.throttled")
+                .description("IRS job registrations rejected by IRS with 429 or 503")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the registration for every item on the registration executor and returns once all of them are finished.
+     * Failures of single items are logged and do not stop the others.
+     *
+     * @return the items whose registration succeeded
+     */
+    public <T> Set<T> registerAll(Collection<T> items, Consumer<T> registration) {
+        pending.addAndGet(items.size());
+        Set<T> succeeded = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                inFlight.acquire();
+                futures.add(CompletableFuture.runAsync(() -> {
+                    if (register(item, registration)) {
+                        succeeded.add(item);
+                    }
+                }, executor));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while submitting IRS job registrations, {} of {} submitted.", futures.size(), items.size());
+            pending.addAndGet(futures.size() - (long) items.size());
+        } finally {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+        return succeeded;
+    }
+
+    /**
+     * Calls IRS once a token of the rate limit is available, retrying while IRS asks to back off.
+     */
+    public <R> R throttled(Supplier<R> irsCall) {
+        for (int attempt = 1; ; attempt++) {
+            acquireToken();
+            try {
+                return irsCall.get();
+            } catch (HttpStatusCodeException e) {
+                if (!isBackpressure(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                Duration delay = retryAfter(e, attempt);
+                throttled.increment();
+                log.warn("IRS rejected job registration with status {}, pausing registrations for {} (attempt {} of {}).", e.getStatusCode(), delay, attempt, maxAttempts);
+                tokenBucket.pause(delay);
+            }
+        }
+    }
+
+    private <T> boolean register(T item, Consumer<T> registration) {
+        try {
+            registration.accept(item);
+            registered.increment();
+            return true;
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to register IRS job for {}.", item, e);
+            return false;
+        } finally {
+            pending.decrementAndGet();
+            inFlight.release();
+        }
+    }
+
+    private void acquireToken() {
+        try {
+            tokenBucket.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the IRS job registration rate limit.", e);
+        }
+    }
+
+    private static boolean isBackpressure(HttpStatusCodeException e) {
+        return e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS) || e.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private Duration retryAfter(HttpStatusCodeException e, int attempt) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException ignored) {
+                // HTTP dates are not used by IRS, fall back to the backoff
+            }
+        }
+        return backoff.multipliedBy(1L << Math.min(attempt - 1, 10));
+    }
+
+    private static Counter registrations(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("irs.jobs.registrations")
+                .description("IRS job registrations processed by the registration pipeline")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,240 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.JobRepositoryImpl.JOB_STATUS_COMPLETED;
+
+/**
+ * Registry of the IRS jobs in the irs_job table with one row per global asset id, direction, BOM lifecycle and
+ * aspects. A job is registered at IRS only by the caller which reserved its row; further requests for the same key
+ * are coalesced onto the job in flight until IRS reports it as finished or the in-flight timeout has passed, after
+ * which a job whose callback got lost is registered again. A running job whose next poll is still scheduled is never
+ * taken over, as polling it refreshes its in-flight state; the maximum poll interval is therefore kept below the
+ * in-flight timeout.
+ */
+@Slf4j
+@Component
+public class IrsJobRegistry {
+
+    private static final String RESERVE_QUERY = """
+            INSERT INTO public.irs_job (global_asset_id, direction, bom_lifecycle, aspects, job_id, status, registered_on, updated_on)
+            VALUES (:globalAssetId, :direction, :bomLifecycle, :aspects, NULL, 'REGISTERING', :now, :now)
+            ON CONFLICT (global_asset_id, direction, bom_lifecycle, aspects) DO UPDATE
+                SET job_id = NULL, status = 'REGISTERING', registered_on = EXCLUDED.registered_on, updated_on = EXCLUDED.updated_on,
+                    polls = 0, next_poll_on = NULL
+                WHERE irs_job.status IN ('COMPLETED', 'FAILED')
+                   OR (irs_job.updated_on < :staleBefore
+                       AND (irs_job.status <> 'RUNNING' OR irs_job.next_poll_on IS NULL OR irs_job.next_poll_on <= :now))
+            RETURNING id
+            """;
+
+    private static final String CLAIM_OVERDUE_QUERY = """
+            SELECT * FROM public.irs_job
+            WHERE status = 'RUNNING' AND job_id IS NOT NULL AND next_poll_on <= :now
+            ORDER BY next_poll_on
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final int MAX_POLL_BACKOFF_EXPONENT = 10;
+
+    private static final List<IrsJobStatus> IN_FLIGHT = List.of(IrsJobStatus.REGISTERING, IrsJobStatus.RUNNING);
+    private static final List<String> FAILED_JOB_STATES = List.of("ERROR", "CANCELED");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Clock clock;
+    private final Duration inFlightTimeout;
+    private final Duration callbackDeadline;
+    private final Duration maxPollInterval;
+
+    public IrsJobRegistry(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${traceability.irsJobs.inFlightTimeout:PT1H}") Duration inFlightTimeout,
+            @Value("${traceability.irsJobs.callbackDeadline:PT15M}") Duration callbackDeadline,
+            @Value("${traceability.irsJobs.maxPollInterval:PT30M}") Duration maxPollInterval) {
+        if (maxPollInterval.compareTo(inFlightTimeout) >= 0) {
+            throw new IllegalArgumentException("traceability.irsJobs.maxPollInterval (%s) must be shorter than traceability.irsJobs.inFlightTimeout (%s), otherwise jobs still running at IRS are registered again."
+                    .formatted(maxPollInterval, inFlightTimeout));
+        }
+        this.clock = clock;
+        this.inFlightTimeout = inFlightTimeout;
+        this.callbackDeadline = callbackDeadline;
+        this.maxPollInterval = maxPollInterval;
+        IN_FLIGHT.forEach(status -> Gauge.builder("irs.jobs.in.flight", this, registry -> registry.countByStatus(status))
+                .description("IRS jobs registered by trace-x and not finished yet")
+                .tag("status", status.name())
+                .register(meterRegistry));
+    }
+
+    /**
+     * Reserves the registration of a job for the key unless a job for it is in flight.
+     *
+     * @return the id of the reserved registry entry, or empty if the request is coalesced onto the job in flight
+     */
+    @Transactional
+    public Optional<Long> reserve(String globalAssetId, Direction direction, BomLifecycle bomLifecycle, Collection<String> aspects) {
+        Instant now = clock.instant();
+        List<?> reserved = entityManager.createNativeQuery(RESERVE_QUERY)
+                .setParameter("globalAssetId", globalAssetId)
+                .setParameter("direction", direction.name())
+                .setParameter("bomLifecycle", bomLifecycle.name())
+                .setParameter("aspects", aspectsKey(aspects))
+                .setParameter("now", now)
+                .setParameter("staleBefore", now.minus(inFlightTimeout))
+                .getResultList();
+        return reserved.stream().findFirst().map(id -> ((Number) id).longValue());
+    }
+
+    /**
+     * Marks the job as running at IRS. Unless its callback arrives first, the job is polled once the callback deadline
+     * has passed.
+     */
+    @Transactional
+    public void registered(Long id, String jobId) {
+        IrsJobEntity job = update(id, IrsJobStatus.RUNNING, jobId);
+        if (job != null) {
+            job.setPolls(0);
+            job.setNextPollOn(job.getUpdatedOn().plus(callbackDeadline));
+        }
+    }
+
+    @Transactional
+    public void registrationFailed(Long id) {
+        update(id, IrsJobStatus.FAILED, null);
+    }
+
+    /**
+     * Marks the job as finished if IRS reported a final state for it, which frees its key for the next registration.
+     */
+    @Transactional
+    public void finish(String jobId, String jobState) {
+        IrsJobStatus status;
+        if (JOB_STATUS_COMPLETED.equals(jobState)) {
+            status = IrsJobStatus.COMPLETED;
+        } else if (FAILED_JOB_STATES.contains(jobState)) {
+            status = IrsJobStatus.FAILED;
+        } else {
+            return;
+        }
+        entityManager.createQuery("UPDATE IrsJobEntity j SET j.status = :status, j.updatedOn = :now WHERE j.jobId = :jobId AND j.status IN :inFlight")
+                .setParameter("status", status)
+                .setParameter("now", clock.instant())
+                .setParameter("jobId", jobId)
+                .setParameter("inFlight", IN_FLIGHT)
+                .executeUpdate();
+    }
+
+    /**
+     * Claims up to limit running jobs whose callback is overdue and schedules their next poll with a backoff doubling
+     * with every poll up to the maximum poll interval, so that other instances skip them meanwhile.
+     */
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<IrsJobEntity> claimOverdue(int limit) {
+        Instant now = clock.instant();
+        List<IrsJobEntity> jobs = entityManager.createNativeQuery(CLAIM_OVERDUE_QUERY, IrsJobEntity.class)
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .getResultList();
+        jobs.forEach(job -> {
+            job.setPolls(job.getPolls() + 1);
+            job.setNextPollOn(now.plus(pollInterval(job.getPolls())));
+        });
+        return jobs;
+    }
+
+    /**
+     * Keeps a job which IRS reported as still running in flight, so that it is not registered again meanwhile.
+     */
+    @Transactional
+    public void stillRunning(String jobId) {
+        entityManager.createQuery("UPDATE IrsJobEntity j SET j.updatedOn = :now WHERE j.jobId = :jobId AND j.status = :running")
+                .setParameter("now", clock.instant())
+                .setParameter("jobId", jobId)
+                .setParameter("running", IrsJobStatus.RUNNING)
+                .executeUpdate();
+    }
+
+    /**
+     * Marks a job which IRS does not know anymore as failed, which frees its key for the next registration.
+     */
+    @Transactional
+    public void lost(String jobId) {
+        entityManager.createQuery("UPDATE IrsJobEntity j SET j.status = :failed, j.updatedOn = :now WHERE j.jobId = :jobId AND j.status IN :inFlight")
+                .setParameter("failed", IrsJobStatus.FAILED)
+                .setParameter("now", clock.instant())
+                .setParameter("jobId", jobId)
+                .setParameter("inFlight", IN_FLIGHT)
+                .executeUpdate();
+    }
+
+    @Transactional(readOnly = true)
+    public List<IrsJobEntity> findByStatus(Collection<IrsJobStatus> statuses) {
+        return entityManager.createQuery("SELECT j FROM IrsJobEntity j WHERE j.status IN :statuses ORDER BY j.registeredOn", IrsJobEntity.class)
+                .setParameter("statuses", statuses)
+                .getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long countByStatus(IrsJobStatus status) {
+        return entityManager.createQuery("SELECT count(j) FROM IrsJobEntity j WHERE j.status = :status", Long.class)
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+
+    Duration pollInterval(int polls) {
+        Duration interval = callbackDeadline.multipliedBy(1L << Math.min(polls - 1, MAX_POLL_BACKOFF_EXPONENT));
+        return interval.compareTo(maxPollInterval) > 0 ? maxPollInterval : interval;
+    }
+
+    private IrsJobEntity update(Long id, IrsJobStatus status, String jobId) {
+        IrsJobEntity job = entityManager.find(IrsJobEntity.class, id);
+        if (job != null) {
+            job.setStatus(status);
+            job.setJobId(jobId);
+            job.setUpdatedOn(clock.instant());
+        }
+        return job;
+    }
+
+    static String aspectsKey(Collection<String> aspects) {
+        return String.join(",", aspects.stream().sorted().distinct().toList());
+    }
+}
@@ -0,0 +1,52 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
+
+import java.time.Instant;
+import java.util.List;
+
+public record IrsJobResponse(
+        String globalAssetId,
+        Direction direction,
+        BomLifecycle bomLifecycle,
+        List<String> aspects,
+        String jobId,
+        IrsJobStatus status,
+        Instant registeredOn,
+        Instant updatedOn,
+        int polls,
+        Instant nextPollOn) {
+
+    public static IrsJobResponse from(IrsJobEntity entity) {
+        return new IrsJobResponse(
+                entity.getGlobalAssetId(),
+                entity.getDirection(),
+                entity.getBomLifecycle(),
+                List.of(entity.getAspects().split(",")),
+                entity.getJobId(),
+                entity.getStatus(),
+                entity.getRegisteredOn(),
+                entity.getUpdatedOn(),
+                entity.getPolls(),
+                entity.getNextPollOn());
+    }
+}
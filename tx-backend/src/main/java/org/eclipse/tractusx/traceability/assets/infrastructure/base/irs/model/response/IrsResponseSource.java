@@ -0,0 +1,40 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response;
+
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+
+/**
+ * An IRS job response which can be read more than once without holding all of it in memory.
+ */
+@FunctionalInterface
+public interface IrsResponseSource {
+
+    void accept(IrsResponseVisitor visitor);
+
+    static IrsResponseSource of(IRSResponse irsResponse) {
+        return visitor -> {
+            visitor.jobStatus(irsResponse.jobStatus());
+            emptyIfNull(irsResponse.relationships()).forEach(visitor::relationship);
+            irsResponse.shells().forEach(visitor::shell);
+            irsResponse.tombstones().forEach(visitor::tombstone);
+            irsResponse.submodels().forEach(visitor::submodel);
+        };
+    }
+}
@@ -0,0 +1,43 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response;
+
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Tombstone;
+
+/**
+ * Receives the sections of an IRS job response element by element, in the order they appear in the response.
+ */
+public interface IrsResponseVisitor {
+
+    default void jobStatus(JobStatus jobStatus) {
+    }
+
+    default void relationship(Relationship relationship) {
+    }
+
+    default void shell(Shell shell) {
+    }
+
+    default void tombstone(Tombstone tombstone) {
+    }
+
+    default void submodel(IrsSubmodel submodel) {
+    }
+}
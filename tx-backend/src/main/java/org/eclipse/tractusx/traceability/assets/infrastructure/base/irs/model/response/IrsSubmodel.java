@@ -20,6 +20,8 @@ import org.eclipse.tractusx.traceability.generated.TractionBatteryCode100Schema;
 
 @Getter
 public class IrsSubmodel {
+    private static final ObjectMapper PAYLOAD_WRITER = new ObjectMapper().registerModule(new JavaTimeModule());
+
     @JsonTypeInfo(
             use = JsonTypeInfo.Id.NAME,
             include = JsonTypeInfo.As.EXTERNAL_PROPERTY,
@@ -68,10 +70,8 @@ public class IrsSubmodel {
     public IrsSubmodel(@JsonProperty("aspectType") String aspectType, @JsonProperty("payload") Object payload) {
         this.aspectType = aspectType;
         this.payload = payload;
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
         try {
-            this.payloadRaw = objectMapper.writeValueAsString(payload);
+            this.payloadRaw = PAYLOAD_WRITER.writeValueAsString(payload);
         } catch (JsonProcessingException exception) {
             this.payloadRaw = exception.getMessage();
         }
@@ -47,6 +47,7 @@ import java.util.Optional;
 
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.enrichAssetBase;
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.enrichUpwardAndDownwardDescriptions;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.indexByGlobalAssetId;
 
 @Component
 @Slf4j
@@ -63,8 +64,8 @@ public class ImportAssetMapper implements AssetBaseMappers<List<ImportRequest.As
             AssetMetaInfoRequest assetMetaInfoRequest = assetImportRequest.assetMetaInfoRequest();
             List<IrsSubmodel> submodels = assetImportRequest.submodels();
             Map<String, List<Descriptions>> descriptionMap = extractRelationshipToDescriptionMap(assetMetaInfoRequest, submodels);
-            List<DetailAspectModel> tractionBatteryCode = MapperHelper.extractTractionBatteryCode(submodels, assetMetaInfoRequest.catenaXId(), assetBaseMapperProvider);
-            List<DetailAspectModel> partSiteInformationAsPlanned = MapperHelper.extractPartSiteInformationAsPlanned(submodels, assetBaseMapperProvider);
+            Map<String, DetailAspectModel> tractionBatteryCode = indexByGlobalAssetId(MapperHelper.extractTractionBatteryCode(submodels, assetMetaInfoRequest.catenaXId(), assetBaseMapperProvider));
+            Map<String, DetailAspectModel> partSiteInformationAsPlanned = indexByGlobalAssetId(MapperHelper.extractPartSiteInformationAsPlanned(submodels, assetBaseMapperProvider));
             List<AssetBase> mainSubmodels = submodels.stream().map(irsSubmodel -> {
                 Optional<SubmodelMapper> mapper = assetBaseMapperProvider.getMainSubmodelMapper(irsSubmodel);
                 if (mapper.isPresent()) {
@@ -21,31 +21,36 @@ package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.r
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Tombstone;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.aspect.DetailAspectModel;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.mapper.TombstoneMapper;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseSource;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseVisitor;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Shell;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.AssetBaseMappers;
-import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.RelationshipMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.IrsResponseIndex;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.SubmodelMapper;
 import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.enrichAssetBase;
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.enrichUpwardAndDownwardDescriptions;
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.getContractAgreementId;
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.getOwner;
 import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.getShortId;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.MapperHelper.indexByGlobalAssetId;
 
 @Component
 @Slf4j
@@ -58,59 +63,111 @@ public class IrsResponseAssetMapper implements AssetBaseMappers<IRSResponse> {
 
     @Override
     public List<AssetBase> toAssetBaseList(IRSResponse irsResponse) {
-        Map<String, List<Descriptions>> descriptionMap = extractRelationshipToDescriptionMap(irsResponse);
-        List<DetailAspectModel> tractionBatteryCode = MapperHelper.extractTractionBatteryCode(irsResponse.submodels(), irsResponse.jobStatus().globalAssetId(), assetBaseMapperProvider);
-        List<DetailAspectModel> partSiteInformationAsPlanned = MapperHelper.extractPartSiteInformationAsPlanned(irsResponse.submodels(), assetBaseMapperProvider);
-        List<AssetBase> tombstones = TombstoneMapper.mapTombstones(irsResponse.jobStatus(), irsResponse.tombstones(), objectMapper);
-        if (tombstones != null) {
+        List<AssetBase> assets = new ArrayList<>();
+        toAssetBaseBatches(IrsResponseSource.of(irsResponse), Integer.MAX_VALUE, assets::addAll);
+        return assets;
+    }
+
+    /**
+     * Maps the response in two passes over the source. The first pass indexes the job status, relationships, shells,
+     * tombstones and detail aspect submodels, the second one maps the main submodels and hands them to the consumer
+     * in batches of at most batchSize assets, so that the submodel payloads are never held all at once.
+     * Tombstones follow as the last batch.
+     */
+    public void toAssetBaseBatches(IrsResponseSource source, int batchSize, Consumer<List<AssetBase>> batchConsumer) {
+        ResponseIndexer indexer = new ResponseIndexer();
+        source.accept(indexer);
+        JobStatus jobStatus = indexer.jobStatus;
+        Map<String, DetailAspectModel> tractionBatteryCode = indexByGlobalAssetId(MapperHelper.extractTractionBatteryCode(indexer.detailSubmodels, jobStatus.globalAssetId(), assetBaseMapperProvider));
+        Map<String, DetailAspectModel> partSiteInformationAsPlanned = indexByGlobalAssetId(MapperHelper.extractPartSiteInformationAsPlanned(indexer.detailSubmodels, assetBaseMapperProvider));
+
+        List<AssetBase> batch = new ArrayList<>();
+        source.accept(new IrsResponseVisitor() {
+            @Override
+            public void submodel(IrsSubmodel irsSubmodel) {
+                Optional<SubmodelMapper> mapper = assetBaseMapperProvider.getMainSubmodelMapper(irsSubmodel);
+                if (mapper.isEmpty()) {
+                    return;
+                }
+                AssetBase assetBase = mapper.get().extractSubmodel(irsSubmodel);
+                assetBase.setOwner(getOwner(assetBase, jobStatus));
+                assetBase.setIdShort(getShortId(indexer.index, assetBase.getId()));
+                assetBase.setContractAgreementId(getContractAgreementId(indexer.index, assetBase.getId()));
+                assetBase.setManufacturerId(getManufacturerId(jobStatus, assetBase));
+                enrichUpwardAndDownwardDescriptions(indexer.index.getDescriptionsByCatenaXId(), assetBase);
+                enrichAssetBase(tractionBatteryCode, assetBase);
+                enrichAssetBase(partSiteInformationAsPlanned, assetBase);
+                batch.add(assetBase);
+                if (batch.size() >= batchSize) {
+                    publish(batch, batchConsumer);
+                }
+            }
+        });
+        publish(batch, batchConsumer);
+
+        List<AssetBase> tombstones = TombstoneMapper.mapTombstones(jobStatus, indexer.tombstones, objectMapper);
+        if (!tombstones.isEmpty()) {
             log.info("Found {} tombstones", tombstones.size());
+            batchConsumer.accept(tombstones);
         }
-        List<AssetBase> submodelAssets = new ArrayList<>(irsResponse
-                .submodels()
-                .stream()
-                .map(irsSubmodel -> {
-                    Optional<SubmodelMapper> mapper = assetBaseMapperProvider.getMainSubmodelMapper(irsSubmodel);
-                    if (mapper.isPresent()) {
-                        AssetBase assetBase = mapper.get().extractSubmodel(irsSubmodel);
-                        assetBase.setOwner(getOwner(assetBase, irsResponse));
-                        assetBase.setIdShort(getShortId(irsResponse.shells(), assetBase.getId()));
-                        assetBase.setContractAgreementId(getContractAgreementId(irsResponse.shells(), assetBase.getId()));
-                        assetBase.setManufacturerId(getManufacturerId(irsResponse, assetBase));
-                        assetBase.setManufacturerName(bpnService.findByBpn(assetBase.getManufacturerId()));
-                        enrichUpwardAndDownwardDescriptions(descriptionMap, assetBase);
-                        enrichAssetBase(tractionBatteryCode, assetBase);
-                        enrichAssetBase(partSiteInformationAsPlanned, assetBase);
-                        return assetBase;
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .toList());
-
-        if (tombstones != null) {
-            submodelAssets.addAll(tombstones);
+    }
+
+    private void publish(List<AssetBase> batch, Consumer<List<AssetBase>> batchConsumer) {
+        if (batch.isEmpty()) {
+            return;
         }
-        return submodelAssets;
+        List<AssetBase> assets = List.copyOf(batch);
+        batch.clear();
+        enrichManufacturerNames(assets);
+        batchConsumer.accept(assets);
+    }
+
+    private void enrichManufacturerNames(List<AssetBase> assets) {
+        Map<String, String> manufacturerNames = bpnService.findByBpns(assets.stream().map(AssetBase::getManufacturerId).toList());
+        assets.stream()
+                .filter(assetBase -> assetBase.getManufacturerId() != null)
+                .forEach(assetBase -> assetBase.setManufacturerName(manufacturerNames.get(assetBase.getManufacturerId())));
     }
 
+    private class ResponseIndexer implements IrsResponseVisitor {
+        private final IrsResponseIndex index = new IrsResponseIndex();
+        private final List<Tombstone> tombstones = new ArrayList<>();
+        private final List<IrsSubmodel> detailSubmodels = new ArrayList<>();
+        private JobStatus jobStatus;
 
-    @NotNull
-    private Map<String, List<Descriptions>> extractRelationshipToDescriptionMap(IRSResponse irsResponse) {
-        Map<String, List<Descriptions>> descriptionMap = new HashMap<>();
-        irsResponse.relationships().forEach(relationship -> {
-            Optional<RelationshipMapper> relationshipMapper = assetBaseMapperProvider.getRelationshipMapper(relationship);
-            if (relationshipMapper.isPresent()) {
-                Descriptions descriptions = relationshipMapper.get().extractDescription(relationship);
-                String catenaXIdString = String.valueOf(relationship.getCatenaXId());
-                descriptionMap.computeIfAbsent(catenaXIdString, key -> new ArrayList<>()).add(descriptions);
+        @Override
+        public void jobStatus(JobStatus jobStatus) {
+            this.jobStatus = jobStatus;
+        }
+
+        @Override
+        public void relationship(Relationship relationship) {
+            assetBaseMapperProvider.getRelationshipMapper(relationship)
+                    .ifPresent(relationshipMapper -> index.addDescription(String.valueOf(relationship.getCatenaXId()), relationshipMapper.extractDescription(relationship)));
+        }
+
+        @Override
+        public void shell(Shell shell) {
+            index.addShell(shell);
+        }
+
+        @Override
+        public void tombstone(Tombstone tombstone) {
+            tombstones.add(tombstone);
+        }
+
+        @Override
+        public void submodel(IrsSubmodel irsSubmodel) {
+            if (assetBaseMapperProvider.getAsBuiltDetailMapper(irsSubmodel).isPresent()
+                    || assetBaseMapperProvider.getAsPlannedDetailMapper(irsSubmodel).isPresent()) {
+                detailSubmodels.add(irsSubmodel);
             }
-        });
-        return descriptionMap;
+        }
     }
 
-    private String getManufacturerId(IRSResponse irsResponse, AssetBase assetBase) {
-        if (assetBase.getManufacturerId() == null && assetBase.getId().equals(irsResponse.jobStatus().globalAssetId())) {
-            return irsResponse.jobStatus().parameter().bpn();
+    private String getManufacturerId(JobStatus jobStatus, AssetBase assetBase) {
+        if (assetBase.getManufacturerId() == null && assetBase.getId().equals(jobStatus.globalAssetId())) {
+            return jobStatus.parameter().bpn();
         }
         return assetBase.getManufacturerId();
     }
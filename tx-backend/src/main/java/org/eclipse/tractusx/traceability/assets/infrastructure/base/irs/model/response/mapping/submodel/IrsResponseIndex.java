@@ -0,0 +1,53 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel;
+
+import lombok.Getter;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Shell;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup tables over one IRS job response. Built once per response so that mapping a single asset does not
+ * scan the shells and relationships of the whole job again.
+ */
+public class IrsResponseIndex {
+
+    private final Map<String, List<Shell>> shellsByGlobalAssetId = new HashMap<>();
+    @Getter
+    private final Map<String, List<Descriptions>> descriptionsByCatenaXId = new HashMap<>();
+
+    public void addShell(Shell shell) {
+        if (shell.payload() != null && shell.payload().globalAssetId() != null) {
+            shellsByGlobalAssetId.computeIfAbsent(shell.payload().globalAssetId(), key -> new ArrayList<>()).add(shell);
+        }
+    }
+
+    public void addDescription(String catenaXId, Descriptions descriptions) {
+        descriptionsByCatenaXId.computeIfAbsent(catenaXId, key -> new ArrayList<>()).add(descriptions);
+    }
+
+    public List<Shell> shellsOf(String globalAssetId) {
+        return shellsByGlobalAssetId.getOrDefault(globalAssetId, List.of());
+    }
+}
@@ -8,8 +8,8 @@ import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.aspect.DetailAspectModel;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
-import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Shell;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.AssetBaseMapperProvider;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.asbuilt.AsBuiltDetailMapper;
@@ -20,11 +20,11 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
@@ -33,31 +33,27 @@ import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 @Slf4j
 public class MapperHelper {
 
-    public static Owner getOwner(AssetBase assetBase, IRSResponse irsResponse) {
-        boolean isOwn = assetBase.getId().equals(irsResponse.jobStatus().globalAssetId());
+    public static Owner getOwner(AssetBase assetBase, JobStatus jobStatus) {
+        boolean isOwn = assetBase.getId().equals(jobStatus.globalAssetId());
         if (isOwn) {
             return Owner.OWN;
-        } else if (irsResponse.jobStatus().parameter().direction().equalsIgnoreCase(Direction.DOWNWARD.name())) {
+        } else if (jobStatus.parameter().direction().equalsIgnoreCase(Direction.DOWNWARD.name())) {
             return Owner.SUPPLIER;
         } else {
             return Owner.CUSTOMER;
         }
     }
 
-    public static String getShortId(List<Shell> shells, String globalAssetId) {
-        return shells.stream()
-                .filter(shell -> shell.payload().idShort() != null)
-                .map(shell -> Map.entry(shell.payload().globalAssetId(), shell.payload().idShort()))
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (existingValue, newValue) -> existingValue
-                )).get(globalAssetId);
+    public static String getShortId(IrsResponseIndex index, String globalAssetId) {
+        return index.shellsOf(globalAssetId).stream()
+                .map(shell -> shell.payload().idShort())
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
     }
 
-    public static String getContractAgreementId(List<Shell> shells, String globalAssetId) {
-        return shells.stream()
-                .filter(shell -> globalAssetId.equals(shell.payload().globalAssetId()))
+    public static String getContractAgreementId(IrsResponseIndex index, String globalAssetId) {
+        return index.shellsOf(globalAssetId).stream()
                 .map(Shell::contractAgreementId)
                 .findFirst()
                 .orElse(null);
@@ -76,11 +72,19 @@ public class MapperHelper {
         }
     }
 
-    public static void enrichAssetBase(List<DetailAspectModel> detailAspectModels, AssetBase assetBase) {
+    public static void enrichAssetBase(Map<String, DetailAspectModel> detailAspectModelsByGlobalAssetId, AssetBase assetBase) {
+        DetailAspectModel detailAspectModel = detailAspectModelsByGlobalAssetId.get(assetBase.getId());
+        if (detailAspectModel != null) {
+            assetBase.setDetailAspectModels(List.of(detailAspectModel));
+        }
+    }
+
+    public static Map<String, DetailAspectModel> indexByGlobalAssetId(List<DetailAspectModel> detailAspectModels) {
+        Map<String, DetailAspectModel> detailAspectModelsByGlobalAssetId = new HashMap<>();
         detailAspectModels.stream()
-                .filter(detailAspectModel -> detailAspectModel.getGlobalAssetId().equals(assetBase.getId()))
-                .findFirst()
-                .ifPresent(detailAspectModel -> assetBase.setDetailAspectModels(List.of(detailAspectModel)));
+                .filter(detailAspectModel -> detailAspectModel.getGlobalAssetId() != null)
+                .forEach(detailAspectModel -> detailAspectModelsByGlobalAssetId.putIfAbsent(detailAspectModel.getGlobalAssetId(), detailAspectModel));
+        return detailAspectModelsByGlobalAssetId;
     }
 
     public static void enrichUpwardAndDownwardDescriptions(Map<String, List<Descriptions>> descriptionsMap, AssetBase assetBase) {
@@ -26,9 +26,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.QualityType;
+import org.eclipse.tractusx.traceability.common.export.ExportColumn;
+
+import java.util.List;
 
 @NoArgsConstructor
 @Getter
@@ -59,4 +64,36 @@ public class AssetBaseEntity {
     private String policyId;
     private String tombstone;
     private String contractAgreementId;
+
+    /**
+     * Applies the result of an IRS job to this already stored asset.
+     */
+    public void updateFromIrs(AssetBase asset) {
+        if (owner == Owner.UNKNOWN) {
+            owner = asset.getOwner();
+        }
+        tombstone = asset.getTombstone() == null ? "" : asset.getTombstone();
+        importState = ImportState.PERSISTENT;
+        importNote = ImportNote.PERSISTED;
+    }
+
+    public static <E extends AssetBaseEntity> List<ExportColumn<E>> exportColumns() {
+        return List.of(
+                new ExportColumn<>("id", AssetBaseEntity::getId),
+                new ExportColumn<>("idShort", AssetBaseEntity::getIdShort),
+                new ExportColumn<>("semanticModelId", AssetBaseEntity::getSemanticModelId),
+                new ExportColumn<>("manufacturerId", AssetBaseEntity::getManufacturerId),
+                new ExportColumn<>("manufacturerName", AssetBaseEntity::getManufacturerName),
+                new ExportColumn<>("nameAtManufacturer", AssetBaseEntity::getNameAtManufacturer),
+                new ExportColumn<>("manufacturerPartId", AssetBaseEntity::getManufacturerPartId),
+                new ExportColumn<>("owner", AssetBaseEntity::getOwner),
+                new ExportColumn<>("classification", AssetBaseEntity::getClassification),
+                new ExportColumn<>("qualityType", AssetBaseEntity::getQualityType),
+                new ExportColumn<>("van", AssetBaseEntity::getVan),
+                new ExportColumn<>("semanticDataModel", AssetBaseEntity::getSemanticDataModel),
+                new ExportColumn<>("importState", AssetBaseEntity::getImportState),
+                new ExportColumn<>("importNote", AssetBaseEntity::getImportNote),
+                new ExportColumn<>("policyId", AssetBaseEntity::getPolicyId),
+                new ExportColumn<>("contractAgreementId", AssetBaseEntity::getContractAgreementId));
+    }
 }
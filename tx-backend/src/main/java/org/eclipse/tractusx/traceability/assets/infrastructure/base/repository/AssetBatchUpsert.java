@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@UtilityClass
+public class AssetBatchUpsert {
+
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * Loads the existing assets of each batch with one IN query, updates them in place with
+     * {@link AssetBaseEntity#updateFromIrs(AssetBase)} and persists the new ones, so that the flush at the end of the
+     * batch writes all of them with JDBC batching. An asset contained twice is inserted once and then updated.
+     *
+     * @param existingLoader loads the stored entities with the given ids
+     * @param toEntity       maps a new asset to its entity
+     */
+    public <E extends AssetBaseEntity> void saveOrUpdateAll(List<AssetBase> assets, Function<List<String>, List<E>> existingLoader,
+                                                            Function<AssetBase, E> toEntity, EntityManager entityManager) {
+        ListUtils.partition(assets, BATCH_SIZE).forEach(batch -> {
+            Map<String, E> entities = new HashMap<>();
+            existingLoader.apply(batch.stream().map(AssetBase::getId).distinct().toList())
+                    .forEach(entity -> entities.put(entity.getId(), entity));
+            batch.forEach(asset -> {
+                E existing = entities.get(asset.getId());
+                if (existing == null) {
+                    E entity = toEntity.apply(asset);
+                    entityManager.persist(entity);
+                    entities.put(entity.getId(), entity);
+                } else {
+                    existing.updateFromIrs(asset);
+                }
+            });
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    /**
+     * Writes the imported assets which are not stored yet or are still {@link ImportState#TRANSIENT}, assets already
+     * synchronized with IRS are left untouched. The import states of each batch are fetched with one projection query,
+     * the transient assets to overwrite are loaded with one IN query so that merging them needs no further select, and
+     * the new assets are persisted. The flush at the end of the batch writes all of them with JDBC batching.
+     *
+     * @param importStateLoader loads id and import state of the stored assets with the given ids
+     * @param existingLoader    loads the stored entities with the given ids
+     * @param toEntity          maps an asset to its entity
+     * @param toDomain          maps a written entity back to its asset
+     * @return the written assets
+     */
+    public <E extends AssetBaseEntity> List<AssetBase> saveAllIfNotInIrsSync(List<AssetBase> assets, Function<List<String>, List<Object[]>> importStateLoader,
+                                                                            Function<List<String>, List<E>> existingLoader, Function<AssetBase, E> toEntity,
+                                                                            Function<E, AssetBase> toDomain, EntityManager entityManager) {
+        List<AssetBase> written = new ArrayList<>();
+        ListUtils.partition(assets, BATCH_SIZE).forEach(batch -> {
+            Map<String, ImportState> importStates = new HashMap<>();
+            importStateLoader.apply(batch.stream().map(AssetBase::getId).distinct().toList())
+                    .forEach(row -> importStates.put((String) row[0], (ImportState) row[1]));
+            List<String> transientIds = importStates.entrySet().stream()
+                    .filter(importState -> importState.getValue() == ImportState.TRANSIENT)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (!transientIds.isEmpty()) {
+                existingLoader.apply(transientIds);
+            }
+
+            Set<String> persistedIds = new HashSet<>();
+            List<E> entities = new ArrayList<>();
+            batch.forEach(asset -> {
+                ImportState importState = importStates.get(asset.getId());
+                if (importState != null && importState != ImportState.TRANSIENT) {
+                    return;
+                }
+                if (importState != null) {
+                    asset.setImportNote(ImportNote.TRANSIENT_UPDATED);
+                }
+                E entity = toEntity.apply(asset);
+                if (importState == null && persistedIds.add(asset.getId())) {
+                    entityManager.persist(entity);
+                    entities.add(entity);
+                } else {
+                    entities.add(entityManager.merge(entity));
+                }
+            });
+            entityManager.flush();
+            entities.forEach(entity -> written.add(toDomain.apply(entity)));
+            entityManager.clear();
+        });
+        return written;
+    }
+}
@@ -0,0 +1,90 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.experimental.UtilityClass;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the part tree below or above an asset with one recursive query instead of one request per level.
+ */
+@UtilityClass
+public class AssetTreeQuery {
+
+    /*
+     * The relation is a query with the columns from_id, to_id and id_short (of the to_id asset). It is inlined twice
+     * instead of being a common table expression, so that PostgreSQL does not materialize the whole relation table.
+     * Each row carries the path of ids from the requested asset, an asset already on the path is not expanded again,
+     * which stops cycles. An asset reached on several paths is reported once with its lowest level.
+     */
+    private static final String TREE_QUERY = """
+            WITH RECURSIVE tree(id, id_short, level, path) AS (
+                SELECT CAST(asset.id AS varchar), CAST(asset.id_short AS varchar), 0, ARRAY[CAST(asset.id AS varchar)]
+                FROM %1$s asset
+                WHERE asset.id = :assetId
+                UNION ALL
+                SELECT CAST(relation.to_id AS varchar), CAST(relation.id_short AS varchar), tree.level + 1, tree.path || CAST(relation.to_id AS varchar)
+                FROM tree
+                JOIN (%2$s) relation ON relation.from_id = tree.id
+                WHERE tree.level < :depth AND relation.to_id IS NOT NULL AND NOT CAST(relation.to_id AS varchar) = ANY(tree.path)
+            ), node AS (
+                SELECT id, max(id_short) AS id_short, min(level) AS level
+                FROM tree
+                GROUP BY id
+            )
+            SELECT node.id AS id, coalesce(asset.id_short, node.id_short) AS id_short, node.level AS level, relation.to_id AS related_id
+            FROM node
+            LEFT JOIN %1$s asset ON asset.id = node.id
+            LEFT JOIN (%2$s) relation ON relation.from_id = node.id AND relation.to_id IS NOT NULL
+            ORDER BY node.level, node.id, relation.to_id
+            """;
+
+    /**
+     * @param assetTable    table of the assets
+     * @param relationQuery query of the relation to follow with the columns from_id, to_id and id_short
+     * @return the nodes ordered by level, starting with the requested asset, or an empty list if it does not exist
+     */
+    public List<AssetTreeNode> findTree(String assetTable, String relationQuery, String assetId, int depth, EntityManager entityManager) {
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = entityManager.createNativeQuery(TREE_QUERY.formatted(assetTable, relationQuery), Tuple.class)
+                .setParameter("assetId", assetId)
+                .setParameter("depth", depth)
+                .getResultList();
+
+        Map<String, AssetTreeNode> nodes = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            AssetTreeNode node = nodes.computeIfAbsent(row.get("id", String.class), id -> new AssetTreeNode(
+                    id, row.get("id_short", String.class), ((Number) row.get("level")).intValue(), new ArrayList<>()));
+            String relatedId = row.get("related_id", String.class);
+            if (relatedId != null) {
+                node.relatedIds().add(relatedId);
+            }
+        }
+        return nodes.values().stream()
+                .map(node -> new AssetTreeNode(node.id(), node.idShort(), node.level(), List.copyOf(node.relatedIds())))
+                .toList();
+    }
+}
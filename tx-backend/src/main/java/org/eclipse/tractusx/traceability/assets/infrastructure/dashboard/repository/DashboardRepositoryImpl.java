@@ -0,0 +1,116 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.dashboard.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.model.Dashboard;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.repository.DashboardRepository;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class DashboardRepositoryImpl implements DashboardRepository {
+
+    /*
+     * Calculates all dashboard figures in one statement. Parts with open notifications are the distinct assets as
+     * built linked to a notification in one of the active states, the notification counts cover all states.
+     */
+    private static final String DASHBOARD_QUERY = """
+            WITH as_built AS (SELECT count(*) FILTER (WHERE asset.owner = 'CUSTOMER') AS customer_parts,
+                                     count(*) FILTER (WHERE asset.owner = 'SUPPLIER') AS supplier_parts,
+                                     count(*) FILTER (WHERE asset.owner = 'OWN')      AS own_parts
+                              FROM assets_as_built asset),
+                 as_planned AS (SELECT count(*) FILTER (WHERE asset.owner = 'CUSTOMER') AS customer_parts,
+                                       count(*) FILTER (WHERE asset.owner = 'SUPPLIER') AS supplier_parts,
+                                       count(*) FILTER (WHERE asset.owner = 'OWN')      AS own_parts
+                                FROM assets_as_planned asset),
+                 parts_with_open_notifications AS (
+                     SELECT count(DISTINCT asset.id) FILTER (WHERE asset.owner = 'OWN' AND notification.type = 'ALERT')              AS own_alerts,
+                            count(DISTINCT asset.id) FILTER (WHERE asset.owner = 'OWN' AND notification.type = 'INVESTIGATION')      AS own_investigations,
+                            count(DISTINCT asset.id) FILTER (WHERE asset.owner = 'SUPPLIER' AND notification.type = 'ALERT')         AS supplier_alerts,
+                            count(DISTINCT asset.id) FILTER (WHERE asset.owner = 'SUPPLIER' AND notification.type = 'INVESTIGATION') AS supplier_investigations,
+                            count(DISTINCT asset.id) FILTER (WHERE asset.owner = 'CUSTOMER' AND notification.type = 'ALERT')         AS customer_alerts,
+                            count(DISTINCT asset.id) FILTER (WHERE asset.owner = 'CUSTOMER' AND notification.type = 'INVESTIGATION') AS customer_investigations
+                     FROM notification notification
+                              JOIN assets_as_built_notifications notification_assets ON notification_assets.notification_id = notification.id
+                              JOIN assets_as_built asset ON asset.id = notification_assets.asset_id
+                     WHERE notification.status IN (:activeStates)),
+                 notifications AS (SELECT count(*) FILTER (WHERE notification.side = 'RECEIVER' AND notification.type = 'ALERT')         AS received_alerts,
+                                          count(*) FILTER (WHERE notification.side = 'SENDER' AND notification.type = 'ALERT')           AS sent_alerts,
+                                          count(*) FILTER (WHERE notification.side = 'RECEIVER' AND notification.type = 'INVESTIGATION') AS received_investigations,
+                                          count(*) FILTER (WHERE notification.side = 'SENDER' AND notification.type = 'INVESTIGATION')   AS sent_investigations
+                                   FROM notification notification)
+            SELECT as_built.customer_parts                           AS as_built_customer_parts,
+                   as_built.supplier_parts                           AS as_built_supplier_parts,
+                   as_built.own_parts                                AS as_built_own_parts,
+                   as_planned.customer_parts                         AS as_planned_customer_parts,
+                   as_planned.supplier_parts                         AS as_planned_supplier_parts,
+                   as_planned.own_parts                              AS as_planned_own_parts,
+                   parts_with_open_notifications.own_alerts,
+                   parts_with_open_notifications.own_investigations,
+                   parts_with_open_notifications.supplier_alerts,
+                   parts_with_open_notifications.supplier_investigations,
+                   parts_with_open_notifications.customer_alerts,
+                   parts_with_open_notifications.customer_investigations,
+                   notifications.received_alerts,
+                   notifications.sent_alerts,
+                   notifications.received_investigations,
+                   notifications.sent_investigations
+            FROM as_built, as_planned, parts_with_open_notifications, notifications
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Dashboard getDashboard() {
+        Tuple result = (Tuple) entityManager.createNativeQuery(DASHBOARD_QUERY, Tuple.class)
+                .setParameter("activeStates", NotificationStatusBaseEntity.from(NotificationStatus.ACTIVE_STATES).stream().map(Enum::name).toList())
+                .getSingleResult();
+
+        return Dashboard.builder()
+                .asBuiltCustomerParts(count(result, "as_built_customer_parts"))
+                .asPlannedCustomerParts(count(result, "as_planned_customer_parts"))
+                .asBuiltSupplierParts(count(result, "as_built_supplier_parts"))
+                .asPlannedSupplierParts(count(result, "as_planned_supplier_parts"))
+                .asBuiltOwnParts(count(result, "as_built_own_parts"))
+                .asPlannedOwnParts(count(result, "as_planned_own_parts"))
+                .myPartsWithOpenAlerts(count(result, "own_alerts"))
+                .myPartsWithOpenInvestigations(count(result, "own_investigations"))
+                .supplierPartsWithOpenAlerts(count(result, "supplier_alerts"))
+                .customerPartsWithOpenAlerts(count(result, "customer_alerts"))
+                .supplierPartsWithOpenInvestigations(count(result, "supplier_investigations"))
+                .customerPartsWithOpenInvestigations(count(result, "customer_investigations"))
+                .receivedActiveAlerts(count(result, "received_alerts"))
+                .receivedActiveInvestigations(count(result, "received_investigations"))
+                .sentActiveAlerts(count(result, "sent_alerts"))
+                .sentActiveInvestigations(count(result, "sent_investigations"))
+                .build();
+    }
+
+    private static long count(Tuple result, String alias) {
+        return result.get(alias, Number.class).longValue();
+    }
+}
@@ -0,0 +1,82 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobChunk;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "import_job_chunk", schema = "public")
+public class ImportJobChunkEntity {
+
+    private static final String ERRORS_DELIMITER = "\n";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String importJobId;
+    private int chunkIndex;
+    @Enumerated(EnumType.STRING)
+    private ImportJobStatus status;
+    private int assets;
+    private int persistedAssets;
+    private String errors;
+    private Instant completedOn;
+
+    public static ImportJobChunkEntity from(String importJobId, ImportJobChunk chunk) {
+        ImportJobChunkEntity entity = new ImportJobChunkEntity();
+        entity.setImportJobId(importJobId);
+        entity.setChunkIndex(chunk.index());
+        entity.setStatus(chunk.status());
+        entity.setAssets(chunk.assets());
+        entity.setPersistedAssets(chunk.persistedAssets());
+        entity.setErrors(toErrorString(chunk.errors()));
+        entity.setCompletedOn(chunk.completedOn());
+        return entity;
+    }
+
+    public ImportJobChunk toDomain() {
+        return new ImportJobChunk(chunkIndex, status, assets, persistedAssets, toErrorList(errors), completedOn);
+    }
+
+    public static String toErrorString(List<String> errors) {
+        return errors.isEmpty() ? null : String.join(ERRORS_DELIMITER, errors);
+    }
+
+    public static List<String> toErrorList(String errors) {
+        return errors == null ? List.of() : List.of(errors.split(ERRORS_DELIMITER));
+    }
+}
@@ -39,10 +39,8 @@ import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.Ass
 import org.eclipse.tractusx.traceability.assets.infrastructure.asplanned.model.AssetAsPlannedEntity;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -58,6 +56,8 @@ public class ImportJobEntity {
     private Instant completedOn;
     @Enumerated(EnumType.STRING)
     private ImportJobStatus importJobStatus;
+    private int progress;
+    private String errors;
 
     @OneToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "import_job_assets_as_built", joinColumns = @JoinColumn(name = "import_job_id"), inverseJoinColumns = @JoinColumn(name = "asset_as_built_id"))
@@ -67,18 +67,6 @@ public class ImportJobEntity {
     @JoinTable(name = "import_job_assets_as_planned", joinColumns = @JoinColumn(name = "import_job_id"), inverseJoinColumns = @JoinColumn(name = "asset_as_planned_id"))
     private List<AssetAsPlannedEntity> assetsAsPlanned;
 
-    public static ImportJobEntity from(ImportJob importJob) {
-        return ImportJobEntity.builder()
-                .id(importJob.getId().toString())
-                .startedOn(importJob.getStartedOn())
-                .completedOn(importJob.getCompletedOn())
-                .importJobStatus(importJob.getStatus())
-                .assetsAsBuilt(importJob.getAssetAsBuilt().stream().map(AssetAsBuiltEntity::from).collect(Collectors.toCollection(ArrayList::new)))
-                .assetsAsPlanned(importJob.getAssetAsPlanned().stream().map(AssetAsPlannedEntity::from).collect(Collectors.toCollection(ArrayList::new)))
-                .build();
-
-    }
-
     public ImportJob toDomain() {
         return ImportJob.builder()
                 .id(UUID.fromString(id))
@@ -87,6 +75,8 @@ public class ImportJobEntity {
                 .status(importJobStatus)
                 .assetAsBuilt(assetsAsBuilt.stream().map(AssetAsBuiltEntity::toDomain).toList())
                 .assetAsPlanned(assetsAsPlanned.stream().map(AssetAsPlannedEntity::toDomain).toList())
+                .progress(progress)
+                .errors(ImportJobChunkEntity.toErrorList(errors))
                 .build();
     }
 }
@@ -18,25 +18,37 @@
  ********************************************************************************/
 package org.eclipse.tractusx.traceability.assets.infrastructure.importJob.repository;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportJobNotFoundException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobChunk;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.ImportJobRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobChunkEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.importJob.model.ImportJobEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
 @Slf4j
 public class ImportJobRepositoryImpl implements ImportJobRepository {
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private final JpaImportJobRepository importJobRepository;
+    private final JpaImportJobChunkRepository importJobChunkRepository;
 
     @Override
     public ImportJob createJob() {
@@ -44,7 +56,7 @@ public class ImportJobRepositoryImpl implements ImportJobRepository {
         ImportJobEntity importJob = ImportJobEntity
                 .builder()
                 .startedOn(Instant.now())
-                .importJobStatus(ImportJobStatus.RUNNING)
+                .importJobStatus(ImportJobStatus.INITIALIZING)
                 .assetsAsBuilt(new ArrayList<>())
                 .assetsAsPlanned(new ArrayList<>())
                 .build();
@@ -53,16 +65,74 @@ public class ImportJobRepositoryImpl implements ImportJobRepository {
         return importJob.toDomain();
     }
 
+    /**
+     * Inserts the join rows directly instead of merging the job with all of its assets. The persistence context is
+     * flushed before and cleared afterwards, so that the entities of the chunks already imported are released.
+     */
+    @Override
+    @Transactional
+    public void addAssets(UUID importJobId, Collection<String> assetAsBuiltIds, Collection<String> assetAsPlannedIds) {
+        entityManager.flush();
+        insertJoinRows("import_job_assets_as_built", "asset_as_built_id", "assets_as_built", importJobId, assetAsBuiltIds);
+        insertJoinRows("import_job_assets_as_planned", "asset_as_planned_id", "assets_as_planned", importJobId, assetAsPlannedIds);
+        entityManager.clear();
+    }
+
+    @Override
+    @Transactional
+    public void updateStatus(UUID importJobId, ImportJobStatus status, Instant completedOn) {
+        entityManager.createQuery("UPDATE ImportJobEntity j SET j.importJobStatus = :status, j.completedOn = :completedOn WHERE j.id = :id")
+                .setParameter("status", status)
+                .setParameter("completedOn", completedOn)
+                .setParameter("id", importJobId.toString())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public void saveChunk(UUID importJobId, ImportJobChunk chunk, int progress) {
+        importJobChunkRepository.save(ImportJobChunkEntity.from(importJobId.toString(), chunk));
+        updateProgress(importJobId, progress);
+    }
+
+    @Override
+    @Transactional
+    public void updateProgress(UUID importJobId, int progress) {
+        entityManager.createQuery("UPDATE ImportJobEntity j SET j.progress = :progress WHERE j.id = :id")
+                .setParameter("progress", progress)
+                .setParameter("id", importJobId.toString())
+                .executeUpdate();
+    }
+
     @Override
-    public void save(ImportJobEntity importJobEntity) {
-        importJobRepository.save(importJobEntity);
+    @Transactional
+    public void failJob(UUID importJobId, List<String> errors, Instant completedOn) {
+        entityManager.createQuery("UPDATE ImportJobEntity j SET j.importJobStatus = :status, j.errors = :errors, j.completedOn = :completedOn WHERE j.id = :id")
+                .setParameter("status", ImportJobStatus.ERROR)
+                .setParameter("errors", ImportJobChunkEntity.toErrorString(errors))
+                .setParameter("completedOn", completedOn)
+                .setParameter("id", importJobId.toString())
+                .executeUpdate();
+    }
+
+    private void insertJoinRows(String joinTable, String assetColumn, String assetTable, UUID importJobId, Collection<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery("INSERT INTO public." + joinTable + " (import_job_id, " + assetColumn + ") SELECT :importJobId, asset.id FROM public." + assetTable + " asset WHERE asset.id IN (:assetIds)")
+                .setParameter("importJobId", importJobId.toString())
+                .setParameter("assetIds", assetIds)
+                .executeUpdate();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ImportJob getImportJob(String importJobId) {
         try {
             ImportJobEntity importJobEntity = importJobRepository.getReferenceById(importJobId);
-            return importJobEntity.toDomain();
+            ImportJob importJob = importJobEntity.toDomain();
+            importJob.setChunks(importJobChunkRepository.findByImportJobIdOrderByChunkIndex(importJobId).stream().map(ImportJobChunkEntity::toDomain).toList());
+            return importJob;
         } catch (EntityNotFoundException entityNotFoundException) {
             throw new ImportJobNotFoundException("Could not find import job with id " + importJobId, entityNotFoundException);
         }
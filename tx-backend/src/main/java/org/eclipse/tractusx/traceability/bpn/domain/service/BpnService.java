@@ -21,11 +21,19 @@ package org.eclipse.tractusx.traceability.bpn.domain.service;
 import bpn.request.BpnMappingRequest;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnEdcMapping;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface BpnService {
     String findByBpn(String bpn);
 
+    /**
+     * Resolves the manufacturer names of several BPNs with one lookup of the stored names, names which are not stored
+     * yet are fetched from BPDM concurrently and stored. BPNs without a known name are mapped to null.
+     */
+    Map<String, String> findByBpns(Collection<String> bpns);
+
     List<BpnEdcMapping> findAllBpnMappings();
 
     List<BpnEdcMapping> saveAllBpnEdcMappings(List<BpnMappingRequest> bpnEdcMappings);
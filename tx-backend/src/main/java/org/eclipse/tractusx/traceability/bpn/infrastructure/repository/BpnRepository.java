@@ -25,6 +25,7 @@ import org.eclipse.tractusx.traceability.bpn.domain.model.BpnEdcMapping;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BpnEntity;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartnerResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +43,8 @@ public interface BpnRepository {
 
     String findManufacturerName(String manufacturerId);
 
+    Map<String, String> findManufacturerNames(Collection<String> manufacturerIds);
+
     void updateManufacturers(Map<String, String> bpns);
 
     BpnEntity save(BusinessPartnerResponse businessPartner);
@@ -30,6 +30,8 @@ import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartne
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.NameResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -71,6 +73,14 @@ public class BpnRepositoryImpl implements BpnRepository {
         return null;
     }
 
+    @Override
+    public Map<String, String> findManufacturerNames(Collection<String> manufacturerIds) {
+        Map<String, String> manufacturerNames = new HashMap<>();
+        repository.findAllById(manufacturerIds)
+                .forEach(entity -> manufacturerNames.put(entity.getManufacturerId(), entity.getManufacturerName()));
+        return manufacturerNames;
+    }
+
     @Override
     public void updateManufacturers(Map<String, String> bpns) {
         List<BpnEntity> entities = bpns.entrySet().stream()
@@ -28,9 +28,19 @@ import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.client.BpdmClient;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BpnEntity;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartnerResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig.BPDM_LOOKUP_EXECUTOR;
 
 @Slf4j
 @Component
@@ -39,6 +49,8 @@ public class BpnServiceImpl implements BpnService {
 
     private final BpnRepository bpnRepository;
     private final BpdmClient bpdmClient;
+    @Qualifier(BPDM_LOOKUP_EXECUTOR)
+    private final TaskExecutor bpdmLookupExecutor;
 
     @Override
     public String findByBpn(String bpn) {
@@ -51,6 +63,32 @@ public class BpnServiceImpl implements BpnService {
         return manufacturerName;
     }
 
+    @Override
+    public Map<String, String> findByBpns(Collection<String> bpns) {
+        List<String> distinctBpns = bpns.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctBpns.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> manufacturerNames = new HashMap<>(bpnRepository.findManufacturerNames(distinctBpns));
+        List<CompletableFuture<BusinessPartnerResponse>> lookups = distinctBpns.stream()
+                .filter(bpn -> manufacturerNames.get(bpn) == null)
+                .map(bpn -> CompletableFuture.supplyAsync(() -> bpdmClient.getBusinessPartner(bpn), bpdmLookupExecutor))
+                .toList();
+        try {
+            CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        lookups.forEach(lookup -> {
+            BpnEntity bpnEntity = bpnRepository.save(lookup.join());
+            manufacturerNames.put(bpnEntity.getManufacturerId(), bpnEntity.getManufacturerName());
+        });
+        return manufacturerNames;
+    }
+
     @Override
     public List<BpnEdcMapping> findAllBpnMappings() {
         return bpnRepository.findAllWhereUrlNotNull();
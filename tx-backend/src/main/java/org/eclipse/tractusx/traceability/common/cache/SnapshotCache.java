@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Holds one computed value for at most the given time to live. Writers call {@link #invalidate()} so that the next
+ * read recomputes the value; within a transaction the value is invalidated again after commit, so that reads which
+ * still saw the old data do not keep it. A value whose computation overlapped an invalidation is returned but not kept.
+ * The time to live bounds the staleness caused by writes of other instances or writes bypassing the invalidation.
+ */
+public class SnapshotCache<T> {
+
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot<T> snapshot;
+
+    public SnapshotCache(Duration timeToLive) {
+        this(timeToLive, Clock.systemUTC());
+    }
+
+    public SnapshotCache(Duration timeToLive, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public T get(Supplier<T> loader) {
+        Snapshot<T> current = snapshot;
+        Instant now = clock.instant();
+        if (current != null && current.generation() == generation.get() && now.isBefore(current.expiresAt())) {
+            return current.value();
+        }
+
+        long loadGeneration = generation.get();
+        T value = loader.get();
+        if (loadGeneration == generation.get()) {
+            snapshot = new Snapshot<>(value, loadGeneration, now.plus(timeToLive));
+        }
+        return value;
+    }
+
+    public void invalidate() {
+        discard();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    discard();
+                }
+            });
+        }
+    }
+
+    private void discard() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private record Snapshot<T>(T value, long generation, Instant expiresAt) {
+    }
+}
@@ -21,6 +21,7 @@
 
 package org.eclipse.tractusx.traceability.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -33,6 +34,11 @@ public class AssetsAsyncConfig {
     public static final String UPDATE_NOTIFICATION_EXECUTOR = "updateNotificationExecutor";
 
     public static final String PUBLISH_ASSETS_EXECUTOR = "publishAssetsExecutor";
+    public static final String IRS_CALLBACK_EXECUTOR = "irsCallbackExecutor";
+    public static final String BPDM_LOOKUP_EXECUTOR = "bpdmLookupExecutor";
+    public static final String IRS_JOB_REGISTRATION_EXECUTOR = "irsJobRegistrationExecutor";
+    public static final String IMPORT_VALIDATION_EXECUTOR = "importValidationExecutor";
+    public static final String IMPORT_ASSETS_EXECUTOR = "importAssetsExecutor";
 
     @Bean(name = PUBLISH_ASSETS_EXECUTOR)
     public ThreadPoolTaskExecutor publishAssetsExecutor() {
@@ -73,4 +79,56 @@ public class AssetsAsyncConfig {
 
         return executor;
     }
+
+    @Bean(name = IRS_CALLBACK_EXECUTOR)
+    public ThreadPoolTaskExecutor irsCallbackExecutor(@Value("${traceability.irsCallback.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("%s-".formatted(IRS_CALLBACK_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = BPDM_LOOKUP_EXECUTOR)
+    public ThreadPoolTaskExecutor bpdmLookupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setThreadNamePrefix("%s-".formatted(BPDM_LOOKUP_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = IRS_JOB_REGISTRATION_EXECUTOR)
+    public ThreadPoolTaskExecutor irsJobRegistrationExecutor(@Value("${traceability.irsJobRegistration.parallelism:8}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("%s-".formatted(IRS_JOB_REGISTRATION_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = IMPORT_VALIDATION_EXECUTOR)
+    public ThreadPoolTaskExecutor importValidationExecutor(@Value("${traceability.assetsImport.validationParallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("%s-".formatted(IMPORT_VALIDATION_EXECUTOR));
+
+        return executor;
+    }
+
+    @Bean(name = IMPORT_ASSETS_EXECUTOR)
+    public ThreadPoolTaskExecutor importAssetsExecutor(@Value("${traceability.assetsImport.maxConcurrentImports:2}") int maxConcurrentImports,
+                                                       @Value("${traceability.assetsImport.queueCapacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentImports);
+        executor.setMaxPoolSize(maxConcurrentImports);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("%s-".formatted(IMPORT_ASSETS_EXECUTOR));
+
+        return executor;
+    }
 }
@@ -38,6 +38,7 @@ import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.Polic
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.PublishAssetException;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnNotFoundException;
 import org.eclipse.tractusx.traceability.common.domain.ParseLocalDateException;
+import org.eclipse.tractusx.traceability.common.model.InvalidCursorException;
 import org.eclipse.tractusx.traceability.common.model.UnsupportedSearchCriteriaFieldException;
 import org.eclipse.tractusx.traceability.common.request.exception.InvalidFilterException;
 import org.eclipse.tractusx.traceability.common.request.exception.InvalidSortException;
@@ -373,6 +374,14 @@ public class ErrorHandlingConfig implements AuthenticationFailureHandler {
                 .body(new ErrorResponse(exception.getMessage()));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(final InvalidCursorException exception) {
+        log.warn("InvalidCursorException exception", exception);
+
+        return ResponseEntity.status(BAD_REQUEST)
+                .body(new ErrorResponse(exception.getMessage()));
+    }
+
     @ExceptionHandler(SubmodelNotFoundException.class)
     ResponseEntity<ErrorResponse> handleSubmodelNotFoundException(SubmodelNotFoundException exception) {
         String errorMessage = exception
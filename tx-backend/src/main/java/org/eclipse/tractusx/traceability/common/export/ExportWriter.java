@@ -0,0 +1,107 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes rows one by one to the given output stream, either as one JSON object per line or as CSV with a header line.
+ * Nothing but the current row is kept in memory, so the size of an export is not limited by the heap.
+ */
+public class ExportWriter<T> {
+
+    private final ExportFormat format;
+    private final List<ExportColumn<T>> columns;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    public ExportWriter(ExportFormat format, List<ExportColumn<T>> columns, ObjectMapper objectMapper, OutputStream outputStream) {
+        this.format = format;
+        this.columns = columns;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (ExportFormat.CSV.equals(format)) {
+            writeLine(columns.stream().map(ExportColumn::name).map(ExportWriter::toCsvValue).collect(Collectors.joining(",")));
+        }
+    }
+
+    public void write(T item) {
+        if (ExportFormat.CSV.equals(format)) {
+            writeLine(columns.stream()
+                    .map(column -> toCsvValue(toValue(column.value().apply(item))))
+                    .collect(Collectors.joining(",")));
+            return;
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        columns.forEach(column -> row.put(column.name(), toValue(column.value().apply(item))));
+        try {
+            writeLine(objectMapper.writeValueAsString(row));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object toValue(Object value) {
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return value;
+    }
+
+    // Quotes values containing separators, quotes or line breaks as defined by RFC 4180
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,48 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.model;
+
+import java.util.Arrays;
+
+/**
+ * Defines how the total number of items of a paged list request is determined.
+ */
+public enum CountMode {
+    /**
+     * Separate count query over the filtered list.
+     */
+    EXACT,
+    /**
+     * Row estimate of the query planner statistics for unfiltered lists. Filtered lists and lists without planner
+     * statistics have no total unless the last page is reached, where the total is exact.
+     */
+    ESTIMATE,
+    /**
+     * No total, only the requested page is fetched.
+     */
+    NONE;
+
+    public static CountMode fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(countMode -> countMode.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Invalid count mode provided count=%s expected one of %s".formatted(value, Arrays.toString(values()))));
+    }
+}
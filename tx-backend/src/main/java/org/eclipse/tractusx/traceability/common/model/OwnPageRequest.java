@@ -0,0 +1,62 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * {@link PageRequest} carrying the paging options of {@link org.eclipse.tractusx.traceability.common.request.OwnPageable}
+ * which cannot be expressed by plain offset pagination. Repositories which support these options check for this type,
+ * all others simply treat it as a regular {@link PageRequest}.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class OwnPageRequest extends PageRequest {
+
+    /**
+     * Opaque cursor of the last item of the previous page, an empty value requests the first page in cursor mode.
+     */
+    private final String after;
+
+    private final CountMode countMode;
+
+    private OwnPageRequest(int page, int size, Sort sort, String after, CountMode countMode) {
+        super(page, size, sort);
+        this.after = after;
+        this.countMode = countMode;
+    }
+
+    public static OwnPageRequest ofCursor(int size, Sort sort, String after) {
+        return new OwnPageRequest(0, size, sort, after, CountMode.NONE);
+    }
+
+    public static OwnPageRequest of(int page, int size, Sort sort, CountMode countMode) {
+        return new OwnPageRequest(page, size, sort, null, countMode);
+    }
+
+    public boolean isCursorMode() {
+        return nonNull(after);
+    }
+}
@@ -22,14 +22,17 @@
 package org.eclipse.tractusx.traceability.common.model;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.beans.support.PagedListHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.function.Function;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @ArraySchema(arraySchema = @Schema(description = "PageResults", additionalProperties = Schema.AdditionalPropertiesValue.FALSE), minItems = 0, maxItems = Integer.MAX_VALUE)
 public record PageResult<T>(
         @ArraySchema(arraySchema = @Schema(description = "Content of PageResults"), minItems = 0, maxItems = Integer.MAX_VALUE)
@@ -41,9 +44,15 @@ public record PageResult<T>(
         @Schema(example = "10")
         Integer pageSize,
         @Schema(example = "2")
-        Long totalItems
+        Long totalItems,
+        @Schema(description = "Cursor of the next page, only set when the page was requested in cursor mode and further items exist", example = "eyJpZCI6InVybjp1dWlkOjEyMyJ9")
+        String nextCursor
 ) {
 
+    public PageResult(List<T> content, Integer page, Integer pageCount, Integer pageSize, Long totalItems) {
+        this(content, page, pageCount, pageSize, totalItems, null);
+    }
+
     public PageResult(List<T> data) {
         this(new PagedListHolder<>(data));
     }
@@ -59,4 +68,12 @@ public record PageResult<T>(
     public <R> PageResult(Page<R> page, Function<R, T> mapping) {
         this(page.getContent().stream().map(mapping).toList(), page.getPageable().getPageNumber(), page.getTotalPages(), page.getPageable().getPageSize(), page.getTotalElements());
     }
+
+    public <R> PageResult(Slice<R> slice, Function<R, T> mapping, Long totalItems) {
+        this(slice.getContent().stream().map(mapping).toList(),
+                slice.getNumber(),
+                totalItems == null ? null : (int) Math.ceil((double) totalItems / slice.getSize()),
+                slice.getSize(),
+                totalItems);
+    }
 }
@@ -20,10 +20,14 @@
 package org.eclipse.tractusx.traceability.common.repository;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.Getter;
 import org.eclipse.tractusx.traceability.common.domain.ParseLocalDateException;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteriaFilter;
@@ -31,9 +35,11 @@ import org.eclipse.tractusx.traceability.common.model.SearchCriteriaOperator;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteriaStrategy;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,60 +60,164 @@ public abstract class BaseSpecification<T> implements Specification<T> {
         this.searchCriteriaFilter = searchCriteriaFilter;
     }
 
-    protected Predicate createPredicate(SearchCriteriaFilter criteria, Root<?> root, CriteriaBuilder builder) {
+    protected Predicate createPredicate(SearchCriteriaFilter criteria, Root<?> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        if (isJoinQueryFieldName(criteria.getKey()) && isCollectionAttribute(root, getJoinTableName(criteria.getKey()))) {
+            // joining a to-many association would return the root once per matching associated entity,
+            // the correlated subquery keeps one row per root and matches if any associated entity fulfills the criteria
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Join<?, ?> join = correlate(subquery, root).join(getJoinTableName(criteria.getKey()));
+            Predicate predicate = createPredicate(criteria, join.get(getJoinTableFieldName(criteria.getKey())), builder);
+            if (predicate == null) {
+                return null;
+            }
+            return builder.exists(subquery.select(builder.literal(1)).where(predicate));
+        }
+        return createPredicate(criteria, getFieldPath(root, criteria), builder);
+    }
+
+    private Predicate createPredicate(SearchCriteriaFilter criteria, Path<Object> fieldPath, CriteriaBuilder builder) {
         String expectedFieldValue = criteria.getValue();
         String fieldName = getJoinTableFieldName(criteria.getKey());
-        Path<Object> fieldPath = getFieldPath(root, criteria);
+        // attribute type as declared in the JPA metamodel, used to compare against the column in its own type
+        Class<?> fieldType = fieldPath.getJavaType();
 
         if (SearchCriteriaStrategy.EXCLUDE.equals(criteria.getStrategy())) {
-            return builder.notEqual(
-                    fieldPath.as(String.class),
-                    expectedFieldValue);
+            return createNotEqualPredicate(fieldPath, fieldType, expectedFieldValue, builder);
         }
 
         if (SearchCriteriaStrategy.EQUAL.equals(criteria.getStrategy()) || NOTIFICATION_COUNT_EQUAL.equals(criteria.getStrategy())) {
-            return builder.equal(
-                    fieldPath.as(String.class),
-                    expectedFieldValue);
+            return createEqualPredicate(fieldPath, fieldType, expectedFieldValue, builder);
         }
         if (SearchCriteriaStrategy.STARTS_WITH.equals(criteria.getStrategy())) {
-            return builder.like(
-                    fieldPath.as(String.class),
-                    expectedFieldValue + "%");
+            return createStartsWithPredicate(fieldPath, fieldType, expectedFieldValue, builder);
         }
         if (SearchCriteriaStrategy.AT_LOCAL_DATE.equals(criteria.getStrategy())) {
             final LocalDate localDate = getParseLocalDate(expectedFieldValue, fieldName);
-            Predicate startingFrom = builder.greaterThanOrEqualTo(fieldPath.as(LocalDateTime.class),
-                    LocalDateTime.of(localDate, LocalTime.MIN));
-            Predicate endingAt = builder.lessThanOrEqualTo(fieldPath.as(LocalDateTime.class),
-                    LocalDateTime.of(localDate, LocalTime.MAX));
+            Predicate startingFrom = createDatePredicate(fieldPath, fieldType, localDate.atStartOfDay(), true, builder);
+            Predicate endingBefore = createDatePredicate(fieldPath, fieldType, localDate.plusDays(1).atStartOfDay(), false, builder);
 
-            return builder.and(startingFrom, endingAt);
+            return builder.and(startingFrom, endingBefore);
         }
         if (BEFORE_LOCAL_DATE.equals(criteria.getStrategy())) {
             final LocalDate localDate = getParseLocalDate(expectedFieldValue, fieldName);
 
-            return builder.lessThanOrEqualTo(fieldPath.as(LocalDateTime.class),
-                    LocalDateTime.of(localDate, LocalTime.MAX));
+            return createDatePredicate(fieldPath, fieldType, localDate.plusDays(1).atStartOfDay(), false, builder);
         }
         if (SearchCriteriaStrategy.AFTER_LOCAL_DATE.equals(criteria.getStrategy())) {
             final LocalDate localDate = getParseLocalDate(expectedFieldValue, fieldName);
 
-            return builder.greaterThanOrEqualTo(fieldPath.as(LocalDateTime.class),
-                    LocalDateTime.of(localDate, LocalTime.MIN));
+            return createDatePredicate(fieldPath, fieldType, localDate.atStartOfDay(), true, builder);
         }
 
         return null;
     }
 
+    private static Predicate createEqualPredicate(Path<Object> fieldPath, Class<?> fieldType, String expectedFieldValue, CriteriaBuilder builder) {
+        if (String.class.equals(fieldType)) {
+            return builder.equal(fieldPath, expectedFieldValue);
+        }
+        if (fieldType.isEnum()) {
+            // a value which is no constant of the enum cannot match any row
+            return toEnumConstant(fieldType, expectedFieldValue)
+                    .map(enumConstant -> builder.equal(fieldPath, enumConstant))
+                    .orElseGet(builder::disjunction);
+        }
+        return toNumber(fieldType, expectedFieldValue)
+                .map(number -> builder.equal(fieldPath, number))
+                .orElseGet(() -> builder.equal(fieldPath.as(String.class), expectedFieldValue));
+    }
+
+    private static Predicate createNotEqualPredicate(Path<Object> fieldPath, Class<?> fieldType, String expectedFieldValue, CriteriaBuilder builder) {
+        if (String.class.equals(fieldType)) {
+            return builder.notEqual(fieldPath, expectedFieldValue);
+        }
+        if (fieldType.isEnum()) {
+            return toEnumConstant(fieldType, expectedFieldValue)
+                    .map(enumConstant -> builder.notEqual(fieldPath, enumConstant))
+                    .orElseGet(() -> builder.isNotNull(fieldPath));
+        }
+        return toNumber(fieldType, expectedFieldValue)
+                .map(number -> builder.notEqual(fieldPath, number))
+                .orElseGet(() -> builder.notEqual(fieldPath.as(String.class), expectedFieldValue));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate createStartsWithPredicate(Path<Object> fieldPath, Class<?> fieldType, String expectedFieldValue, CriteriaBuilder builder) {
+        if (String.class.equals(fieldType)) {
+            return builder.like((Path<String>) (Path<?>) fieldPath, expectedFieldValue + "%");
+        }
+        if (fieldType.isEnum()) {
+            List<?> matchingConstants = Arrays.stream(fieldType.getEnumConstants())
+                    .filter(enumConstant -> ((Enum<?>) enumConstant).name().startsWith(expectedFieldValue))
+                    .toList();
+            return matchingConstants.isEmpty() ? builder.disjunction() : fieldPath.in(matchingConstants);
+        }
+        return builder.like(fieldPath.as(String.class), expectedFieldValue + "%");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate createDatePredicate(Path<Object> fieldPath, Class<?> fieldType, LocalDateTime boundary, boolean lowerBoundary, CriteriaBuilder builder) {
+        if (Instant.class.equals(fieldType)) {
+            // timestamps were compared as local date times of the database session, which uses the JVM time zone
+            Instant instantBoundary = boundary.atZone(ZoneId.systemDefault()).toInstant();
+            return compare((Path<Instant>) (Path<?>) fieldPath, instantBoundary, lowerBoundary, builder);
+        }
+        if (LocalDateTime.class.equals(fieldType)) {
+            return compare((Path<LocalDateTime>) (Path<?>) fieldPath, boundary, lowerBoundary, builder);
+        }
+        return compare(fieldPath.as(LocalDateTime.class), boundary, lowerBoundary, builder);
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate compare(Expression<? extends Y> expression, Y boundary, boolean lowerBoundary, CriteriaBuilder builder) {
+        return lowerBoundary ? builder.greaterThanOrEqualTo(expression, boundary) : builder.lessThan(expression, boundary);
+    }
+
+    private static Optional<Object> toEnumConstant(Class<?> enumType, String value) {
+        return Arrays.stream(enumType.getEnumConstants())
+                .filter(enumConstant -> ((Enum<?>) enumConstant).name().equals(value))
+                .findFirst()
+                .map(Object.class::cast);
+    }
+
+    private static Optional<Number> toNumber(Class<?> fieldType, String value) {
+        try {
+            if (Long.class.equals(fieldType) || long.class.equals(fieldType)) {
+                return Optional.of(Long.valueOf(value));
+            }
+            if (Integer.class.equals(fieldType) || int.class.equals(fieldType)) {
+                return Optional.of(Integer.valueOf(value));
+            }
+        } catch (NumberFormatException exception) {
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+
     private Path<Object> getFieldPath(Root<?> root, SearchCriteriaFilter criteria) {
         if (isJoinQueryFieldName(criteria.getKey())) {
-            Join<?, ?> join = root.join(getJoinTableName(criteria.getKey()));
-            return join.get(getJoinTableFieldName(criteria.getKey()));
+            return getOrCreateJoin(root, getJoinTableName(criteria.getKey())).get(getJoinTableFieldName(criteria.getKey()));
         }
         return root.get(criteria.getKey());
     }
 
+    // all criteria of one query on the same to-one association share its join
+    private static Join<?, ?> getOrCreateJoin(Root<?> root, String associationName) {
+        return root.getJoins().stream()
+                .filter(join -> JoinType.INNER.equals(join.getJoinType()))
+                .filter(join -> associationName.equals(join.getAttribute().getName()))
+                .findFirst()
+                .map(join -> (Join<?, ?>) join)
+                .orElseGet(() -> root.join(associationName));
+    }
+
+    private static boolean isCollectionAttribute(Root<?> root, String attributeName) {
+        return root.getModel().getAttribute(attributeName).isCollection();
+    }
+
+    private static <Y> Root<Y> correlate(Subquery<?> subquery, Root<Y> root) {
+        return subquery.correlate(root);
+    }
+
     private static LocalDate getParseLocalDate(String fieldValue, String fieldName) {
         try {
             return LocalDate.parse(fieldValue);
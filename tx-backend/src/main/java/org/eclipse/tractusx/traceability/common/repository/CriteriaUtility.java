@@ -22,8 +22,10 @@ package org.eclipse.tractusx.traceability.common.repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
@@ -31,6 +33,7 @@ import lombok.experimental.UtilityClass;
 import org.apache.commons.collections.CollectionUtils;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSide;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +43,13 @@ import static java.util.Objects.nonNull;
 @UtilityClass
 public class CriteriaUtility {
 
+    /**
+     * Number of distinct filter values returned when the client does not request a size.
+     */
+    public static final int DEFAULT_DISTINCT_VALUES_LIMIT = 100;
+
+    private static final String CODE_POINT_COLLATION = "ucs_basic";
+
     public List<String> getDistinctAssetFieldValues(
             String fieldName,
             String startWith,
@@ -55,8 +65,8 @@ public class CriteriaUtility {
         Path<String> fieldPath = root.get(fieldName);
 
         cq.select(fieldPath.as(String.class))
-                .distinct(true)
-                .orderBy(List.of(builder.asc(fieldPath.as(String.class))));
+                .groupBy(fieldPath)
+                .orderBy(caseInsensitiveOrder(builder, fieldPath.as(String.class)));
 
         List<Predicate> predicates = new ArrayList<>();
         if (nonNull(startWith)) {
@@ -96,8 +106,8 @@ public class CriteriaUtility {
         Path<String> fieldPath1 = getFieldPath(root, fieldName);
 
         cq.select(fieldPath1.as(String.class))
-                .distinct(true)
-                .orderBy(List.of(builder.asc(fieldPath1.as(String.class))));
+                .groupBy(fieldPath1)
+                .orderBy(caseInsensitiveOrder(builder, fieldPath1.as(String.class)));
 
         List<Predicate> predicates = new ArrayList<>();
         if (nonNull(startWith)) {
@@ -117,6 +127,18 @@ public class CriteriaUtility {
                 .getResultList();
     }
 
+    /**
+     * Orders by the lower-cased value first and by the value itself second, both by code point like {@link PrefixIndex},
+     * so that a lookup returns the same values whether it is answered by the index or by the database. The values are
+     * grouped instead of selected distinct because PostgreSQL only orders distinct results by selected expressions.
+     */
+    private List<Order> caseInsensitiveOrder(CriteriaBuilder builder, Expression<String> field) {
+        HibernateCriteriaBuilder hibernateBuilder = (HibernateCriteriaBuilder) builder;
+        return List.of(
+                builder.asc(hibernateBuilder.collate(builder.lower(field), CODE_POINT_COLLATION)),
+                builder.asc(hibernateBuilder.collate(field, CODE_POINT_COLLATION)));
+    }
+
     private Path<String> getFieldPath(Root<?> root, String fieldName) {
         if (isJoinQueryFieldName(fieldName)) {
             Join<?, ?> join = root.join(getJoinTableName(fieldName), JoinType.LEFT);
@@ -0,0 +1,134 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.experimental.UtilityClass;
+import org.eclipse.tractusx.traceability.common.model.InvalidCursorException;
+import org.eclipse.tractusx.traceability.common.model.OwnPageRequest;
+import org.eclipse.tractusx.traceability.common.model.PageResult;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+/**
+ * Keyset (cursor) pagination for {@link BaseSpecification} based repositories. The cursor is the base64 encoded JSON
+ * list of the sort orders, each with its direction and the value of the last row of a page. A cursor is only accepted
+ * for exactly the sort it was created for. The entity id is always appended as last sort key to make the order unique.
+ */
+@UtilityClass
+public class CursorUtility {
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final ObjectMapper CURSOR_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public <E, T> PageResult<T> getPage(
+            JpaSpecificationExecutor<E> repository,
+            Specification<E> specification,
+            OwnPageRequest pageRequest,
+            Function<E, T> mapping) {
+        Sort sort = withIdSort(pageRequest.getSort());
+        int pageSize = pageRequest.getPageSize();
+
+        Specification<E> seekSpecification = Specification.where(specification)
+                .and(new KeysetSpecification<>(sort, decode(pageRequest.getAfter(), sort), CURSOR_MAPPER::convertValue));
+        List<E> entities = repository.findBy(seekSpecification, query -> query.sortBy(sort).limit(pageSize + 1).all());
+
+        boolean hasNext = entities.size() > pageSize;
+        List<E> pageContent = hasNext ? entities.subList(0, pageSize) : entities;
+        String nextCursor = hasNext ? encode(pageContent.get(pageSize - 1), sort) : null;
+
+        return new PageResult<>(pageContent.stream().map(mapping).toList(), null, null, pageSize, null, nextCursor);
+    }
+
+    private Sort withIdSort(Sort sort) {
+        if (sort.getOrderFor(ID_PROPERTY) != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(Sort.Direction.ASC, ID_PROPERTY));
+    }
+
+    String encode(Object entity, Sort sort) {
+        BeanWrapperImpl entityWrapper = new BeanWrapperImpl(entity);
+        List<CursorKey> keys = sort.stream()
+                .map(order -> new CursorKey(order.getProperty(), order.getDirection(), entityWrapper.getPropertyValue(order.getProperty())))
+                .toList();
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(CURSOR_MAPPER.writeValueAsBytes(keys));
+        } catch (Exception exception) {
+            throw new IllegalStateException("Could not create cursor for sort %s".formatted(sort), exception);
+        }
+    }
+
+    Map<String, Object> decode(String cursor, Sort sort) {
+        if (cursor.isBlank()) {
+            return Map.of();
+        }
+
+        List<CursorKey> keys;
+        try {
+            keys = CURSOR_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.UTF_8)), new TypeReference<>() {
+            });
+        } catch (Exception exception) {
+            throw new InvalidCursorException("Invalid cursor provided after=%s".formatted(cursor), exception);
+        }
+
+        if (!belongsTo(keys, sort.toList())) {
+            throw new InvalidCursorException("Cursor after=%s does not belong to the requested sort %s".formatted(cursor, sort));
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        keys.forEach(key -> values.put(key.property(), key.value()));
+        return values;
+    }
+
+    private boolean belongsTo(List<CursorKey> keys, List<Sort.Order> orders) {
+        if (keys == null || keys.size() != orders.size()) {
+            return false;
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            CursorKey key = keys.get(i);
+            if (key == null || !order.getProperty().equals(key.property()) || order.getDirection() != key.direction()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record CursorKey(String property, Sort.Direction direction, Object value) {
+    }
+}
@@ -0,0 +1,82 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.repository;
+
+import org.eclipse.tractusx.traceability.common.cache.SnapshotCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Serves the distinct filter value lookups of the autocomplete endpoints from in-memory {@link PrefixIndex}es, one per
+ * entity, field and owner or side. An index is loaded with a single distinct query and kept until the owning
+ * repository invalidates its entity or the time to live expires. Fields with more than {@link #MAX_INDEXED_VALUES}
+ * distinct values are not kept in memory; for those, as for a time to live of zero, the caller queries the database.
+ */
+@Component
+public class FieldValueIndex {
+
+    static final int MAX_INDEXED_VALUES = 10_000;
+
+    private final Duration timeToLive;
+    private final Map<IndexKey, SnapshotCache<Optional<PrefixIndex>>> indexes = new ConcurrentHashMap<>();
+
+    public FieldValueIndex(@Value("${traceability.filterValuesIndexTimeToLive:PT1M}") Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @param valueLoader loads the distinct values of the field, limited to the given number of results
+     * @return the matching values, or empty if the field is not indexed and has to be queried directly
+     */
+    public Optional<List<String>> find(Class<?> entityClass, String fieldName, Object scope, String startWith, int resultLimit,
+                                       IntFunction<List<String>> valueLoader) {
+        if (timeToLive.isZero()) {
+            return Optional.empty();
+        }
+        return indexes.computeIfAbsent(new IndexKey(entityClass, fieldName, scope), key -> new SnapshotCache<>(timeToLive))
+                .get(() -> load(valueLoader))
+                .map(index -> index.startingWith(startWith, resultLimit));
+    }
+
+    public void invalidate(Class<?> entityClass) {
+        indexes.forEach((key, index) -> {
+            if (key.entityClass().equals(entityClass)) {
+                index.invalidate();
+            }
+        });
+    }
+
+    private Optional<PrefixIndex> load(IntFunction<List<String>> valueLoader) {
+        List<String> values = valueLoader.apply(MAX_INDEXED_VALUES + 1);
+        if (values.size() > MAX_INDEXED_VALUES) {
+            return Optional.empty();
+        }
+        return Optional.of(PrefixIndex.of(values));
+    }
+
+    private record IndexKey(Class<?> entityClass, String fieldName, Object scope) {
+    }
+}
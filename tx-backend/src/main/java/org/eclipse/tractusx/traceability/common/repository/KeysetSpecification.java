@@ -0,0 +1,94 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.eclipse.tractusx.traceability.common.model.InvalidCursorException;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Seek predicate selecting all rows which are sorted after the row described by the given sort key values.
+ * Null values are ordered the way PostgreSQL does by default: last in ascending and first in descending order.
+ */
+public class KeysetSpecification<T> implements Specification<T> {
+
+    private final transient Sort sort;
+    private final transient Map<String, Object> keys;
+    private final transient BiFunction<Object, Class<?>, Object> valueConverter;
+
+    KeysetSpecification(Sort sort, Map<String, Object> keys, BiFunction<Object, Class<?>, Object> valueConverter) {
+        this.sort = sort;
+        this.keys = keys;
+        this.valueConverter = valueConverter;
+    }
+
+    @Override
+    public Predicate toPredicate(@NotNull Root<T> root, @NotNull CriteriaQuery<?> query, @NotNull CriteriaBuilder builder) {
+        if (keys.isEmpty()) {
+            return null;
+        }
+
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<Comparable<Object>> path = root.get(order.getProperty());
+            Comparable<Object> value = toComparable(keys.get(order.getProperty()), path.getJavaType());
+
+            Predicate after = isAfter(builder, path, value, order.getDirection());
+            if (after != null) {
+                List<Predicate> alternative = new ArrayList<>(equalPrefix);
+                alternative.add(after);
+                alternatives.add(builder.and(alternative.toArray(new Predicate[0])));
+            }
+            equalPrefix.add(value == null ? builder.isNull(path) : builder.equal(path, value));
+        }
+        return builder.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    private static Predicate isAfter(CriteriaBuilder builder, Path<Comparable<Object>> path, Comparable<Object> value, Sort.Direction direction) {
+        if (direction.isAscending()) {
+            return value == null ? null : builder.or(builder.greaterThan(path, value), builder.isNull(path));
+        }
+        return value == null ? builder.isNotNull(path) : builder.lessThan(path, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> toComparable(Object value, Class<?> javaType) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return (Comparable<Object>) valueConverter.apply(value, javaType);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidCursorException("Cursor value %s cannot be converted to %s".formatted(value, javaType.getSimpleName()), exception);
+        }
+    }
+}
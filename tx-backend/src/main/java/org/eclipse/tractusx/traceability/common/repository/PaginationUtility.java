@@ -0,0 +1,135 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+import org.eclipse.tractusx.traceability.common.model.CountMode;
+import org.eclipse.tractusx.traceability.common.model.OwnPageRequest;
+import org.eclipse.tractusx.traceability.common.model.PageResult;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Executes {@link BaseSpecification} based list queries in the pagination and count mode requested by the
+ * {@link Pageable}. Plain {@link org.springframework.data.domain.PageRequest}s are executed as before with an exact
+ * count query.
+ */
+@UtilityClass
+public class PaginationUtility {
+
+    private static final String RELATION_ESTIMATE_QUERY = "SELECT reltuples FROM pg_class WHERE oid = to_regclass(:relationName)";
+
+    /**
+     * @param estimateRelationName table whose planner statistics estimate the unfiltered list size,
+     *                             {@code null} if there is no such table and an exact count has to be used
+     */
+    public <E, T> PageResult<T> getPage(
+            JpaSpecificationExecutor<E> repository,
+            Specification<E> specification,
+            Pageable pageable,
+            Function<E, T> mapping,
+            Class<E> entityClass,
+            String estimateRelationName,
+            EntityManager entityManager) {
+        if (!(pageable instanceof OwnPageRequest ownPageRequest)) {
+            return new PageResult<>(repository.findAll(specification, pageable), mapping);
+        }
+        if (ownPageRequest.isCursorMode()) {
+            return CursorUtility.getPage(repository, specification, ownPageRequest, mapping);
+        }
+        if (CountMode.EXACT.equals(ownPageRequest.getCountMode())) {
+            return new PageResult<>(repository.findAll(specification, pageable), mapping);
+        }
+
+        Slice<E> slice = findSlice(specification, pageable, entityClass, entityManager);
+        Long totalItems = CountMode.ESTIMATE.equals(ownPageRequest.getCountMode())
+                ? estimateTotalItems(specification, slice, estimateRelationName, entityManager)
+                : null;
+        return new PageResult<>(slice, mapping, totalItems);
+    }
+
+    // Fetches one item more than requested to find out if there is a next page instead of counting all items
+    private <E> Slice<E> findSlice(Specification<E> specification, Pageable pageable, Class<E> entityClass, EntityManager entityManager) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = builder.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        query.select(root);
+
+        if (nonNull(specification)) {
+            Predicate predicate = specification.toPredicate(root, query, builder);
+            if (nonNull(predicate)) {
+                query.where(predicate);
+            }
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        }
+
+        List<E> result = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = result.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? result.subList(0, pageable.getPageSize()) : result, pageable, hasNext);
+    }
+
+    /**
+     * @return the exact total on the last page, the planner estimate for unfiltered lists of tables with statistics,
+     * otherwise {@code null} as the total is unknown without a count query
+     */
+    private <E> Long estimateTotalItems(
+            Specification<E> specification,
+            Slice<E> slice,
+            String estimateRelationName,
+            EntityManager entityManager) {
+        long minimumTotalItems = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return minimumTotalItems;
+        }
+        if (nonNull(specification) || isNull(estimateRelationName)) {
+            return null;
+        }
+
+        List<?> estimate = entityManager.createNativeQuery(RELATION_ESTIMATE_QUERY)
+                .setParameter("relationName", estimateRelationName)
+                .getResultList();
+        // reltuples is negative as long as the table has never been analyzed
+        if (estimate.isEmpty() || ((Number) estimate.get(0)).longValue() < 0) {
+            return null;
+        }
+        return Math.max(((Number) estimate.get(0)).longValue(), minimumTotalItems + 1);
+    }
+}
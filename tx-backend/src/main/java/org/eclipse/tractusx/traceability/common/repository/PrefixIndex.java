@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Immutable sorted view of the distinct values of one field, answering case-insensitive prefix lookups with a range
+ * scan over the lower-cased values instead of a database query.
+ */
+public final class PrefixIndex {
+
+    private final NavigableMap<String, List<String>> valuesByLowerCaseValue;
+    private final boolean containsNull;
+
+    private PrefixIndex(NavigableMap<String, List<String>> valuesByLowerCaseValue, boolean containsNull) {
+        this.valuesByLowerCaseValue = valuesByLowerCaseValue;
+        this.containsNull = containsNull;
+    }
+
+    public static PrefixIndex of(Collection<String> values) {
+        TreeMap<String, List<String>> valuesByLowerCaseValue = new TreeMap<>();
+        values.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .forEach(value -> valuesByLowerCaseValue.computeIfAbsent(value.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(value));
+        return new PrefixIndex(Collections.unmodifiableNavigableMap(valuesByLowerCaseValue), values.stream().anyMatch(Objects::isNull));
+    }
+
+    /**
+     * Returns at most {@code resultLimit} values starting with the given prefix, ignoring case. Like the database
+     * lookup without a prefix, a {@code null} prefix matches all values including {@code null}.
+     */
+    public List<String> startingWith(String prefix, int resultLimit) {
+        if (prefix == null) {
+            List<String> values = new ArrayList<>(valuesByLowerCaseValue.values().stream().flatMap(List::stream).limit(resultLimit).toList());
+            if (containsNull && values.size() < resultLimit) {
+                values.add(null);
+            }
+            return values;
+        }
+        String lowerCasePrefix = prefix.toLowerCase(Locale.ROOT);
+        return valuesByLowerCaseValue.subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, false).values().stream()
+                .flatMap(List::stream)
+                .limit(resultLimit)
+                .toList();
+    }
+}
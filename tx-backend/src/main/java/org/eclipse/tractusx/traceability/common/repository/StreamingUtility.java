@@ -0,0 +1,81 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Reads all entities matching a {@link BaseSpecification} without loading them into memory at once.
+ */
+@UtilityClass
+public class StreamingUtility {
+
+    static final int FETCH_SIZE = 500;
+
+    /**
+     * Passes the matching entities ordered by id to the consumer. The rows are read through a database cursor with
+     * {@link #FETCH_SIZE} rows per round trip and the persistence context is cleared after each fetch, so memory stays
+     * constant independent of the number of rows. Has to run within a transaction, without one the PostgreSQL driver
+     * ignores the fetch size and reads the whole result. The entities are loaded through an empty fetch graph, so only
+     * their columns are read and none of their relations, not even eager ones.
+     */
+    public <E> void forEach(Specification<E> specification, Class<E> entityClass, EntityManager entityManager, Consumer<E> consumer) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = builder.createQuery(entityClass);
+        Root<E> root = query.from(entityClass);
+        query.select(root);
+
+        if (nonNull(specification)) {
+            Predicate predicate = specification.toPredicate(root, query, builder);
+            if (nonNull(predicate)) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(builder.asc(root.get("id")));
+
+        try (Stream<E> entities = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.createEntityGraph(entityClass))
+                .getResultStream()) {
+            Iterator<E> iterator = entities.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++count % FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
@@ -26,6 +26,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.eclipse.tractusx.traceability.common.model.BaseRequestFieldMapper;
+import org.eclipse.tractusx.traceability.common.model.CountMode;
+import org.eclipse.tractusx.traceability.common.model.OwnPageRequest;
 import org.eclipse.tractusx.traceability.common.model.UnsupportedSearchCriteriaFieldException;
 import org.eclipse.tractusx.traceability.common.request.exception.InvalidSortException;
 import org.springframework.data.domain.PageRequest;
@@ -45,6 +47,14 @@ public class OwnPageable {
     private Integer size;
     @ArraySchema(arraySchema = @Schema(description = "Content of Assets PageResults", additionalProperties = Schema.AdditionalPropertiesValue.FALSE, example = "manufacturerPartId,desc"), maxItems = Integer.MAX_VALUE)
     private List<String> sort;
+    @Schema(description = "Enables cursor pagination: pass the nextCursor of the previous page, or an empty value for the first page. The page parameter is ignored and no page counts are returned in this mode.", example = "eyJpZCI6InVybjp1dWlkOjEyMyJ9")
+    private String after;
+    @Schema(description = "Defines how totalItems is determined: exact (default), estimate or none. With estimate, unfiltered lists return the row estimate of the database statistics, filtered lists return a total only on their last page. Lists requested with none or in cursor mode do not return totals.", allowableValues = {"exact", "estimate", "none"}, example = "estimate")
+    private String count;
+
+    public OwnPageable(Integer page, Integer size, List<String> sort) {
+        this(page, size, sort, null, null);
+    }
 
     public static Pageable toPageable(OwnPageable ownPageable, BaseRequestFieldMapper fieldMapper) {
         int usedPage = 0;
@@ -64,6 +74,18 @@ public class OwnPageable {
             usedSort = toDomainSort(ownPageable.getSort(), fieldMapper);
         }
 
+        if (ownPageable.after != null) {
+            assertCursorSortable(usedSort);
+            return OwnPageRequest.ofCursor(usedPageSize, usedSort, ownPageable.getAfter());
+        }
+
+        if (ownPageable.count != null) {
+            CountMode countMode = CountMode.fromValue(ownPageable.getCount());
+            if (countMode != CountMode.EXACT) {
+                return OwnPageRequest.of(usedPage, usedPageSize, usedSort, countMode);
+            }
+        }
+
         return PageRequest.of(usedPage, usedPageSize, usedSort);
     }
 
@@ -86,4 +108,17 @@ public class OwnPageable {
         }
         return Sort.by(orders);
     }
+
+    // Cursor pagination seeks on the sort values of a single row, which is not possible for fields of to-many joins
+    private static void assertCursorSortable(Sort sort) {
+        sort.stream()
+                .filter(order -> order.getProperty().contains("_"))
+                .findFirst()
+                .ifPresent(order -> {
+                    throw new InvalidSortException(
+                            "Sort param {provided} is not supported in combination with cursor pagination"
+                                    .replace("{provided}", order.getProperty())
+                    );
+                });
+    }
 }
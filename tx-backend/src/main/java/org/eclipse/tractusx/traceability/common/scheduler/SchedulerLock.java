@@ -0,0 +1,128 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a scheduled job on one instance only when it is triggered on several instances at the same time. The instance
+ * which acquires the lease of the job in the scheduler_lock table runs it, the others skip the run. The lease expires
+ * after lockAtMostFor, so that a crashed instance does not block the job, and is renewed every half of lockAtMostFor
+ * while the job runs, so that a job running longer than that keeps it. After the run the lease is kept for at least
+ * lockAtLeastFor, so that instances whose trigger fires a little later due to clock skew skip the run as well.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final Clock clock;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final String instanceId;
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLock(
+            SchedulerLockRepository schedulerLockRepository,
+            Clock clock,
+            @Value("${traceability.scheduler.lockAtMostFor:PT1H}") Duration lockAtMostFor,
+            @Value("${traceability.scheduler.lockAtLeastFor:PT5M}") Duration lockAtLeastFor,
+            @Value("${HOSTNAME:trace-x}") String hostname) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.clock = clock;
+        this.lockAtMostFor = lockAtMostFor;
+        this.lockAtLeastFor = lockAtLeastFor;
+        this.instanceId = "%s-%s".formatted(hostname, UUID.randomUUID());
+    }
+
+    /**
+     * Runs the task if this instance acquires the lease of the job.
+     *
+     * @return true if the task ran on this instance
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        Instant lockedAt = clock.instant();
+        if (!schedulerLockRepository.acquire(name, instanceId, lockedAt, lockedAt.plus(lockAtMostFor))) {
+            log.info("Skipping scheduled job {}, it is running on another instance.", name);
+            return false;
+        }
+        Lease lease = new Lease(name);
+        long renewalPeriod = lockAtMostFor.toMillis() / 2;
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(lease::renew, renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            Instant releasedAt = clock.instant();
+            Instant minimalLockedUntil = lockedAt.plus(lockAtLeastFor);
+            lease.release(releasedAt.isAfter(minimalLockedUntil) ? releasedAt : minimalLockedUntil);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    /**
+     * Lease of one run. A renewal still in progress when the run ends cannot extend the lease after its release.
+     */
+    private final class Lease {
+
+        private final String name;
+        private boolean released;
+
+        private Lease(String name) {
+            this.name = name;
+        }
+
+        private synchronized void renew() {
+            if (released) {
+                return;
+            }
+            try {
+                schedulerLockRepository.extend(name, instanceId, clock.instant().plus(lockAtMostFor));
+            } catch (RuntimeException e) {
+                log.warn("Could not renew the lease of scheduled job {}.", name, e);
+            }
+        }
+
+        private synchronized void release(Instant lockedUntil) {
+            released = true;
+            schedulerLockRepository.release(name, instanceId, lockedUntil);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.scheduler;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Component
+public class SchedulerLockRepository {
+
+    private static final String ACQUIRE_QUERY = """
+            INSERT INTO public.scheduler_lock (name, locked_by, locked_at, locked_until)
+            VALUES (:name, :lockedBy, :now, :lockedUntil)
+            ON CONFLICT (name) DO UPDATE
+                SET locked_by = EXCLUDED.locked_by, locked_at = EXCLUDED.locked_at, locked_until = EXCLUDED.locked_until
+                WHERE scheduler_lock.locked_until <= :now
+            """;
+
+    private static final String UPDATE_LOCKED_UNTIL_QUERY = "UPDATE public.scheduler_lock SET locked_until = :lockedUntil WHERE name = :name AND locked_by = :lockedBy";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @return true if the lock was free or its lease had expired and is now held by the given owner
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean acquire(String name, String lockedBy, Instant now, Instant lockedUntil) {
+        return entityManager.createNativeQuery(ACQUIRE_QUERY)
+                .setParameter("name", name)
+                .setParameter("lockedBy", lockedBy)
+                .setParameter("now", now)
+                .setParameter("lockedUntil", lockedUntil)
+                .executeUpdate() > 0;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name, String lockedBy, Instant lockedUntil) {
+        updateLockedUntil(name, lockedBy, lockedUntil);
+    }
+
+    /**
+     * Extends the lease of a running job, as long as it is still held by the given owner.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void extend(String name, String lockedBy, Instant lockedUntil) {
+        updateLockedUntil(name, lockedBy, lockedUntil);
+    }
+
+    private void updateLockedUntil(String name, String lockedBy, Instant lockedUntil) {
+        entityManager.createNativeQuery(UPDATE_LOCKED_UNTIL_QUERY)
+                .setParameter("name", name)
+                .setParameter("lockedBy", lockedBy)
+                .setParameter("lockedUntil", lockedUntil)
+                .executeUpdate();
+    }
+}
@@ -31,7 +31,8 @@ public class ContractResponseMapper {
                 contractPageResult.page(),
                 contractPageResult.pageCount(),
                 contractPageResult.pageSize(),
-                contractPageResult.totalItems());
+                contractPageResult.totalItems(),
+                contractPageResult.nextCursor());
     }
 
     public static ContractResponse from(Contract contract) {
@@ -20,6 +20,8 @@ package org.eclipse.tractusx.traceability.contracts.infrastructure.repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -30,11 +32,11 @@ import org.eclipse.tractusx.irs.edc.client.contract.service.EdcContractAgreement
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.common.repository.BaseSpecification;
+import org.eclipse.tractusx.traceability.common.repository.PaginationUtility;
 import org.eclipse.tractusx.traceability.contracts.domain.exception.ContractException;
 import org.eclipse.tractusx.traceability.contracts.domain.model.Contract;
 import org.eclipse.tractusx.traceability.contracts.domain.repository.ContractRepository;
 import org.eclipse.tractusx.traceability.contracts.infrastructure.model.ContractAgreementView;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -47,6 +49,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
@@ -60,6 +63,9 @@ public class ContractRepositoryImpl implements ContractRepository {
     private final JpaContractAgreementInfoViewRepository contractAgreementInfoViewRepository;
     private final ObjectMapper objectMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public PageResult<Contract> getContractsByPageable(Pageable pageable, SearchCriteria searchCriteria) {
         try {
@@ -67,18 +73,20 @@ public class ContractRepositoryImpl implements ContractRepository {
                     .map(ContractSpecification::new)
                     .toList();
             Specification<ContractAgreementView> specification = BaseSpecification.toSpecification(contractAgreementSpecifications);
-            Page<ContractAgreementView> contractAgreementInfoViews = contractAgreementInfoViewRepository.findAll(specification, pageable);
+            PageResult<ContractAgreementView> contractAgreementInfoViews = PaginationUtility.getPage(contractAgreementInfoViewRepository,
+                    specification, pageable, Function.identity(), ContractAgreementView.class, null, entityManager);
 
-            if (contractAgreementInfoViews.getContent().isEmpty()) {
+            if (contractAgreementInfoViews.content().isEmpty()) {
                 log.warn("Cannot find contract agreement Ids for asset ids in searchCriteria: " + searchCriteria.getSearchCriteriaFilterList());
                 return new PageResult<>(List.of(), 0, 0, 0, 0L);
             }
 
-            return new PageResult<>(fetchEdcContractAgreements(contractAgreementInfoViews),
-                    contractAgreementInfoViews.getPageable().getPageNumber(),
-                    contractAgreementInfoViews.getTotalPages(),
-                    contractAgreementInfoViews.getPageable().getPageSize(),
-                    contractAgreementInfoViews.getTotalElements());
+            return new PageResult<>(fetchEdcContractAgreements(contractAgreementInfoViews.content()),
+                    contractAgreementInfoViews.page(),
+                    contractAgreementInfoViews.pageCount(),
+                    contractAgreementInfoViews.pageSize(),
+                    contractAgreementInfoViews.totalItems(),
+                    contractAgreementInfoViews.nextCursor());
 
         } catch (ContractAgreementException e) {
             throw new ContractException(e);
@@ -86,8 +94,8 @@ public class ContractRepositoryImpl implements ContractRepository {
 
     }
 
-    private List<Contract> fetchEdcContractAgreements(Page<ContractAgreementView> contractAgreementInfoViews) throws ContractAgreementException {
-        List<String> contractAgreementIds = contractAgreementInfoViews.getContent().stream().map(ContractAgreementView::getContractAgreementId).toList();
+    private List<Contract> fetchEdcContractAgreements(List<ContractAgreementView> contractAgreementInfoViews) throws ContractAgreementException {
+        List<String> contractAgreementIds = contractAgreementInfoViews.stream().map(ContractAgreementView::getContractAgreementId).toList();
         log.info("Trying to fetch contractAgreementIds from EDC: " + contractAgreementIds);
 
         List<EdcContractAgreementsResponse> contractAgreements = edcContractAgreementService.getContractAgreements(contractAgreementIds);
@@ -37,6 +37,6 @@ public class ContractSpecification extends BaseSpecification<ContractAgreementVi
 
     @Override
     public Predicate toPredicate(@NotNull Root<ContractAgreementView> root, @NotNull CriteriaQuery<?> query, @NotNull CriteriaBuilder builder) {
-        return createPredicate(getSearchCriteriaFilter(), root, builder);
+        return createPredicate(getSearchCriteriaFilter(), root, query, builder);
     }
 }
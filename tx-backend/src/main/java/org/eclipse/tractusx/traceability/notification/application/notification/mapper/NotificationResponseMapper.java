@@ -70,6 +70,11 @@ public class NotificationResponseMapper {
 
     public static PageResult<NotificationResponse> fromAsPageResult(PageResult<Notification> notificationPageResult) {
         List<NotificationResponse> investigationResponses = notificationPageResult.content().stream().map(NotificationResponseMapper::from).toList();
+        if (notificationPageResult.page() == null || notificationPageResult.totalItems() == null) {
+            // cursor mode and count mode "none" do not provide totals
+            return new PageResult<>(investigationResponses, notificationPageResult.page(), notificationPageResult.pageCount(),
+                    notificationPageResult.pageSize(), notificationPageResult.totalItems(), notificationPageResult.nextCursor());
+        }
         int pageNumber = notificationPageResult.page();
         int pageSize = notificationPageResult.pageSize();
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
@@ -28,6 +28,7 @@ import org.eclipse.tractusx.traceability.common.model.BPN;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
 import org.eclipse.tractusx.traceability.notification.application.notification.service.NotificationService;
 import org.eclipse.tractusx.traceability.notification.domain.base.exception.SendNotificationException;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
@@ -188,7 +189,7 @@ public abstract class AbstractNotificationService implements NotificationService
 
     @Override
     public List<String> getDistinctFilterValues(String fieldName, String startWith, Integer size, NotificationSide side) {
-        final Integer resultSize = Objects.isNull(size) ? Integer.MAX_VALUE : size;
+        final Integer resultSize = Objects.isNull(size) ? CriteriaUtility.DEFAULT_DISTINCT_VALUES_LIMIT : size;
 
         if (isSupportedEnumType(fieldName)) {
             return getAssetEnumFieldValues(fieldName);
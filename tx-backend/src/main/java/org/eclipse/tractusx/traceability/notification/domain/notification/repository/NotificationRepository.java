@@ -21,7 +21,6 @@
 
 package org.eclipse.tractusx.traceability.notification.domain.notification.repository;
 
-import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
@@ -50,8 +49,6 @@ public interface NotificationRepository {
 
     PageResult<Notification> getNotifications(Pageable pageable, SearchCriteria searchCriteria);
 
-    long countOpenNotificationsByOwnershipAndNotificationType(List<Owner> owners, NotificationType notificationType);
-
     List<String> getDistinctFieldValues(String fieldName, String startWith, Integer resultLimit, NotificationSide owner);
 
     void updateErrorMessage(Notification investigation);
@@ -47,5 +47,4 @@ public interface JpaNotificationRepository extends JpaRepository<NotificationEnt
 
     List<NotificationEntity> findAllByStatusIn(List<NotificationStatusBaseEntity> statuses);
 
-    List<NotificationEntity> findAllByStatusInAndType(List<NotificationStatusBaseEntity> statuses, NotificationTypeEntity type);
 }
@@ -24,20 +24,21 @@ import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
 import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository.JpaAssetAsBuiltRepository;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.eclipse.tractusx.traceability.common.repository.BaseSpecification;
 import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
+import org.eclipse.tractusx.traceability.common.repository.FieldValueIndex;
+import org.eclipse.tractusx.traceability.common.repository.PaginationUtility;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationAffectedPart;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationMessage;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSeverity;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSide;
-import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationsChangedEvent;
 import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationType;
 import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
@@ -45,13 +46,13 @@ import org.eclipse.tractusx.traceability.notification.infrastructure.notificatio
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity;
 import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationTypeEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -71,6 +72,10 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 
     private final Clock clock;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final FieldValueIndex fieldValueIndex;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -104,6 +109,7 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         jpaNotificationRepository.save(notificationEntity);
 
         notification.getNotifications().forEach(notificationMessage -> handleMessageCreate(notificationEntity, notificationMessage, assetEntities));
+        notificationsChanged();
 
         return new NotificationId(notificationEntity.getId());
     }
@@ -119,6 +125,7 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         notificationEntity.setDeclineReason(notification.getDeclineReason());
         handleMessageUpdate(notificationEntity, notification, null);
         jpaNotificationRepository.save(notificationEntity);
+        notificationsChanged();
     }
 
     @Override
@@ -136,6 +143,7 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         notificationEntity.setDeclineReason(notification.getDeclineReason());
         handleMessageUpdate(notificationEntity, notification, notificationSeverity);
         jpaNotificationRepository.save(notificationEntity);
+        notificationsChanged();
     }
 
     @Override
@@ -145,26 +153,15 @@ public class NotificationRepositoryImpl implements NotificationRepository {
                 .map(NotificationSpecification::new)
                 .toList();
         Specification<NotificationEntity> specification = BaseSpecification.toSpecification(notificationSpecifications);
-        return new PageResult<>(jpaNotificationRepository.findAll(specification, pageable), NotificationEntity::toDomain);
-    }
-
-    @Override
-    public long countOpenNotificationsByOwnershipAndNotificationType(List<Owner> owners, NotificationType notificationType) {
-        return jpaNotificationRepository.findAllByStatusInAndType(
-                        NotificationStatusBaseEntity.from(NotificationStatus.ACTIVE_STATES),
-                        NotificationTypeEntity.from(notificationType))
-                .stream()
-                .map(NotificationEntity::getAssets)
-                .flatMap(Collection::stream)
-                .filter(assetAsBuiltEntity -> owners.contains(assetAsBuiltEntity.getOwner()))
-                .distinct()
-                .toList()
-                .size();
+        return PaginationUtility.getPage(jpaNotificationRepository, specification, pageable, NotificationEntity::toDomain,
+                NotificationEntity.class, "notification", entityManager);
     }
 
     @Override
     public List<String> getDistinctFieldValues(String fieldName, String startWith, Integer resultLimit, NotificationSide side) {
-        return CriteriaUtility.getDistinctNotificationFieldValues(fieldName, startWith, resultLimit, side, NotificationEntity.class, entityManager);
+        return fieldValueIndex.find(NotificationEntity.class, fieldName, side, startWith, resultLimit,
+                        maxValues -> CriteriaUtility.getDistinctNotificationFieldValues(fieldName, null, maxValues, side, NotificationEntity.class, entityManager))
+                .orElseGet(() -> CriteriaUtility.getDistinctNotificationFieldValues(fieldName, startWith, resultLimit, side, NotificationEntity.class, entityManager));
     }
 
     @Override
@@ -200,6 +197,11 @@ public class NotificationRepositoryImpl implements NotificationRepository {
         return assetsAsBuiltRepository.findByIdIn(assetIds);
     }
 
+    private void notificationsChanged() {
+        fieldValueIndex.invalidate(NotificationEntity.class);
+        applicationEventPublisher.publishEvent(new NotificationsChangedEvent());
+    }
+
     private void handleMessageCreate(NotificationEntity notificationEntity, NotificationMessage messageDomain, List<AssetAsBuiltEntity> assetEntities) {
         NotificationMessageEntity notificationMessageEntity = toNotificationMessageEntity(notificationEntity, messageDomain, assetEntities);
 
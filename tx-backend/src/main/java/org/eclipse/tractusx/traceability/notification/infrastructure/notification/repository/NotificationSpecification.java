@@ -37,6 +37,6 @@ public class NotificationSpecification extends BaseSpecification<NotificationEnt
 
     @Override
     public Predicate toPredicate(@NotNull Root<NotificationEntity> root, @NotNull CriteriaQuery<?> query, @NotNull CriteriaBuilder builder) {
-        return createPredicate(getSearchCriteriaFilter(), root, builder);
+        return createPredicate(getSearchCriteriaFilter(), root, query, builder);
     }
 }
@@ -24,6 +24,7 @@ package org.eclipse.tractusx.traceability.shelldescriptor.application;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.traceability.common.config.ApplicationProfiles;
+import org.eclipse.tractusx.traceability.common.scheduler.SchedulerLock;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -37,10 +38,13 @@ import org.springframework.stereotype.Component;
 public class AssetsRefreshJob {
 
     private final DecentralRegistryService decentralRegistryService;
+    private final SchedulerLock schedulerLock;
 
-    @Scheduled(cron = "0 0 */2 * * ?", zone = "Europe/Berlin")
+    @Scheduled(cron = "${traceability.assetsRefreshCron:0 0 */2 * * ?}", zone = "Europe/Berlin")
     public void refresh() {
-        log.info("Refreshing registry");
-        decentralRegistryService.synchronizeAssets();
+        schedulerLock.runExclusively("assetsRefreshJob", () -> {
+            log.info("Refreshing registry");
+            decentralRegistryService.synchronizeAssets();
+        });
     }
 }
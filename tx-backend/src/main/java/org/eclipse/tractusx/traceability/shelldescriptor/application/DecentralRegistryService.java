@@ -19,6 +19,15 @@
 package org.eclipse.tractusx.traceability.shelldescriptor.application;
 
 public interface DecentralRegistryService {
+
+    /**
+     * Synchronizes the twins of the decentral registry and returns once their IRS jobs are registered.
+     */
     void synchronizeAssets();
 
+    /**
+     * Synchronizes the twins of the decentral registry in the background.
+     */
+    void synchronizeAssetsAsync();
+
 }
@@ -0,0 +1,43 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.shelldescriptor.domain.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ShellFingerprintRepository {
+
+    /**
+     * @return the fingerprints of the last synchronized shell descriptors by global asset id
+     */
+    Map<String, String> findAll();
+
+    /**
+     * @return when the last full synchronization started
+     */
+    Optional<Instant> findLastFullSyncOn();
+
+    void saveLastFullSyncOn(Instant synchronizedOn);
+
+    void saveAll(Map<String, String> fingerprintsByGlobalAssetId);
+
+    void deleteAll(Collection<String> globalAssetIds);
+}
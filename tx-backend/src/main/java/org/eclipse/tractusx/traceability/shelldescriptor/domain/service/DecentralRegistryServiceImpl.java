@@ -21,7 +21,10 @@
 
 package org.eclipse.tractusx.traceability.shelldescriptor.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.irs.component.Shell;
 import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
@@ -32,17 +35,36 @@ import org.eclipse.tractusx.traceability.common.config.AssetsAsyncConfig;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
 import org.eclipse.tractusx.traceability.shelldescriptor.application.DecentralRegistryService;
 import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.DecentralRegistryRepository;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellFingerprintRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel.BATCH;
 import static org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel.JUSTINSEQUENCE;
 import static org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel.PARTASPLANNED;
 import static org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel.SERIALPART;
 
-@RequiredArgsConstructor
+/**
+ * Synchronizes the twins of the decentral registry as a delta: only twins whose shell descriptor is new or changed
+ * since the last synchronization are synchronized, based on a fingerprint of each descriptor. As changes below a twin
+ * do not change its descriptor, all twins are synchronized again once the full synchronization interval has passed
+ * since the last full synchronization. Its time is stored in the database, which keeps the decision consistent across
+ * instances.
+ */
 @Slf4j
 @Component
 public class DecentralRegistryServiceImpl implements DecentralRegistryService {
@@ -51,39 +73,125 @@ public class DecentralRegistryServiceImpl implements DecentralRegistryService {
     private final AssetAsPlannedServiceImpl assetAsPlannedService;
     private final TraceabilityProperties traceabilityProperties;
     private final DecentralRegistryRepository decentralRegistryRepository;
+    private final ShellFingerprintRepository shellFingerprintRepository;
+    private final ObjectWriter fingerprintWriter;
+    private final Clock clock;
+    private final Duration fullSyncInterval;
 
 
     private static final List<String> AS_BUILT_ASPECT_TYPES = List.of(SERIALPART.getValue(), BATCH.getValue(), JUSTINSEQUENCE.getValue());
     private static final List<String> AS_PLANNED_ASPECT_TYPES = List.of(PARTASPLANNED.getValue());
 
+    public DecentralRegistryServiceImpl(
+            AssetAsBuiltServiceImpl assetAsBuiltService,
+            AssetAsPlannedServiceImpl assetAsPlannedService,
+            TraceabilityProperties traceabilityProperties,
+            DecentralRegistryRepository decentralRegistryRepository,
+            ShellFingerprintRepository shellFingerprintRepository,
+            ObjectMapper objectMapper,
+            Clock clock,
+            @Value("${traceability.registrySync.fullSyncInterval:P1D}") Duration fullSyncInterval) {
+        this.assetAsBuiltService = assetAsBuiltService;
+        this.assetAsPlannedService = assetAsPlannedService;
+        this.traceabilityProperties = traceabilityProperties;
+        this.decentralRegistryRepository = decentralRegistryRepository;
+        this.shellFingerprintRepository = shellFingerprintRepository;
+        this.fingerprintWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.clock = clock;
+        this.fullSyncInterval = fullSyncInterval;
+    }
+
     @Override
     @Async(value = AssetsAsyncConfig.LOAD_SHELL_DESCRIPTORS_EXECUTOR)
-    public void synchronizeAssets() {
-        List<Shell> shellDescriptors = decentralRegistryRepository.retrieveShellDescriptorsByBpn(traceabilityProperties.getBpn().toString());
-        List<String> asBuiltAssetIds = shellDescriptors.stream().map(Shell::payload).filter(this::isAsBuilt).map(AssetAdministrationShellDescriptor::getGlobalAssetId).toList();
-        List<String> asPlannedAssetIds = shellDescriptors.stream().map(Shell::payload).filter(this::isAsPlanned).map(AssetAdministrationShellDescriptor::getGlobalAssetId).toList();
-
-        List<String> existingAsBuiltInSyncAndTransientStates = assetAsBuiltService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION);
-        List<String> existingAsPlannedInSyncAndTransientStates = assetAsPlannedService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION);
-
-        List<String> asBuiltAssetsToSync = asBuiltAssetIds.stream().filter(assetId -> !existingAsBuiltInSyncAndTransientStates.contains(assetId)).toList();
-        List<String> asPlannedAssetsToSync = asPlannedAssetIds.stream().filter(assetId -> !existingAsPlannedInSyncAndTransientStates.contains(assetId)).toList();
+    public void synchronizeAssetsAsync() {
+        synchronizeAssets();
+    }
 
+    @Override
+    public void synchronizeAssets() {
+        Instant now = clock.instant();
+        boolean fullSync = shellFingerprintRepository.findLastFullSyncOn()
+                .map(lastFullSync -> !now.isBefore(lastFullSync.plus(fullSyncInterval)))
+                .orElse(true);
+
+        List<AssetAdministrationShellDescriptor> shellDescriptors = decentralRegistryRepository.retrieveShellDescriptorsByBpn(traceabilityProperties.getBpn().toString())
+                .stream().map(Shell::payload).toList();
+        Map<String, String> fingerprints = fingerprints(shellDescriptors);
+        Map<String, String> previousFingerprints = shellFingerprintRepository.findAll();
+        Set<String> changedAssetIds = new HashSet<>();
+        fingerprints.forEach((globalAssetId, fingerprint) -> {
+            if (fullSync || fingerprint == null || !fingerprint.equals(previousFingerprints.get(globalAssetId))) {
+                changedAssetIds.add(globalAssetId);
+            }
+        });
+
+        Set<String> existingAsBuiltInSyncAndTransientStates = new HashSet<>(assetAsBuiltService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION));
+        Set<String> existingAsPlannedInSyncAndTransientStates = new HashSet<>(assetAsPlannedService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION));
+
+        List<String> asBuiltAssetsToSync = assetIdsToSync(shellDescriptors, AS_BUILT_ASPECT_TYPES, changedAssetIds, existingAsBuiltInSyncAndTransientStates);
+        List<String> asPlannedAssetsToSync = assetIdsToSync(shellDescriptors, AS_PLANNED_ASPECT_TYPES, changedAssetIds, existingAsPlannedInSyncAndTransientStates);
+
+        log.info("{} sync of {} shells, {} new or changed", fullSync ? "Full" : "Delta", fingerprints.size(), changedAssetIds.size());
         log.info("Try to sync {} assets asBuilt", asBuiltAssetsToSync.size());
-        asBuiltAssetsToSync.forEach(assetAsBuiltService::synchronizeAssetsAsync);
+        Set<String> synchronizedAssetIds = new HashSet<>(assetAsBuiltService.synchronizeAssets(asBuiltAssetsToSync));
         log.info("Try to sync {} assets asPlanned", asPlannedAssetsToSync.size());
-        asPlannedAssetsToSync.forEach(assetAsPlannedService::synchronizeAssetsAsync);
+        synchronizedAssetIds.addAll(assetAsPlannedService.synchronizeAssets(asPlannedAssetsToSync));
+
+        // only twins whose IRS jobs are registered are remembered, the others are synchronized again by the next run
+        Map<String, String> synchronizedFingerprints = new HashMap<>();
+        synchronizedAssetIds.stream()
+                .filter(globalAssetId -> fingerprints.get(globalAssetId) != null)
+                .forEach(globalAssetId -> synchronizedFingerprints.put(globalAssetId, fingerprints.get(globalAssetId)));
+        shellFingerprintRepository.saveAll(synchronizedFingerprints);
+        shellFingerprintRepository.deleteAll(previousFingerprints.keySet().stream().filter(globalAssetId -> !fingerprints.containsKey(globalAssetId)).toList());
+        if (fullSync) {
+            shellFingerprintRepository.saveLastFullSyncOn(now);
+        }
     }
 
-
     // TODO: consider creating support method on AssetAdministrationShellDescriptor.is(BomLifecycle lifecycle) that will be usable on our code
     // IRS already have BomLifecycle in their domain so we can use it there also
-    private boolean isAsBuilt(AssetAdministrationShellDescriptor shellDescriptor) {
-        return !shellDescriptor.filterDescriptorsByAspectTypes(AS_BUILT_ASPECT_TYPES).isEmpty();
+    private List<String> assetIdsToSync(List<AssetAdministrationShellDescriptor> shellDescriptors, List<String> aspectTypes,
+                                        Set<String> changedAssetIds, Set<String> excludedAssetIds) {
+        return shellDescriptors.stream()
+                .filter(shellDescriptor -> !shellDescriptor.filterDescriptorsByAspectTypes(aspectTypes).isEmpty())
+                .map(AssetAdministrationShellDescriptor::getGlobalAssetId)
+                .filter(changedAssetIds::contains)
+                .filter(assetId -> !excludedAssetIds.contains(assetId))
+                .distinct()
+                .toList();
     }
 
-    private boolean isAsPlanned(AssetAdministrationShellDescriptor shellDescriptor) {
-        return !shellDescriptor.filterDescriptorsByAspectTypes(AS_PLANNED_ASPECT_TYPES).isEmpty();
+    /**
+     * Fingerprints the descriptors by their SHA-256 hash. Of several descriptors for the same twin the first one counts,
+     * a descriptor which cannot be fingerprinted gets null and is always synchronized.
+     */
+    private Map<String, String> fingerprints(List<AssetAdministrationShellDescriptor> shellDescriptors) {
+        MessageDigest digest = sha256();
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        shellDescriptors.forEach(shellDescriptor -> {
+            if (shellDescriptor.getGlobalAssetId() != null && !fingerprints.containsKey(shellDescriptor.getGlobalAssetId())) {
+                fingerprints.put(shellDescriptor.getGlobalAssetId(), fingerprint(shellDescriptor, digest));
+            }
+        });
+        return fingerprints;
+    }
+
+    private String fingerprint(AssetAdministrationShellDescriptor shellDescriptor, MessageDigest digest) {
+        try {
+            return HexFormat.of().formatHex(digest.digest(fingerprintWriter.writeValueAsBytes(shellDescriptor)));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not fingerprint shell descriptor of {}, synchronizing it as changed.", shellDescriptor.getGlobalAssetId(), e);
+            return null;
+        }
     }
-}
 
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+}
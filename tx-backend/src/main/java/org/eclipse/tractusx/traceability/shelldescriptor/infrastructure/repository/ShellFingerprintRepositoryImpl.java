@@ -0,0 +1,118 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.shelldescriptor.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellFingerprintRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ShellFingerprintRepositoryImpl implements ShellFingerprintRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String SAVE_LAST_FULL_SYNC_QUERY = """
+            INSERT INTO public.registry_full_sync (id, synchronized_on)
+            VALUES (1, :synchronizedOn)
+            ON CONFLICT (id) DO UPDATE SET synchronized_on = EXCLUDED.synchronized_on
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Clock clock;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, String> findAll() {
+        Map<String, String> fingerprints = new HashMap<>();
+        entityManager.createQuery("SELECT f.globalAssetId, f.fingerprint FROM ShellFingerprintEntity f", Object[].class)
+                .getResultStream()
+                .forEach(row -> fingerprints.put((String) row[0], (String) row[1]));
+        return fingerprints;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findLastFullSyncOn() {
+        return entityManager.createNativeQuery("SELECT synchronized_on FROM public.registry_full_sync WHERE id = 1", Instant.class)
+                .getResultStream()
+                .findFirst()
+                .map(Instant.class::cast);
+    }
+
+    @Override
+    @Transactional
+    public void saveLastFullSyncOn(Instant synchronizedOn) {
+        entityManager.createNativeQuery(SAVE_LAST_FULL_SYNC_QUERY)
+                .setParameter("synchronizedOn", synchronizedOn)
+                .executeUpdate();
+    }
+
+    /**
+     * Loads the stored fingerprints of each batch with one IN query, updates them in place and persists the new ones,
+     * so that the flush at the end of the batch writes all of them with JDBC batching.
+     */
+    @Override
+    @Transactional
+    public void saveAll(Map<String, String> fingerprintsByGlobalAssetId) {
+        Instant now = clock.instant();
+        ListUtils.partition(new ArrayList<>(fingerprintsByGlobalAssetId.keySet()), BATCH_SIZE).forEach(batch -> {
+            Map<String, ShellFingerprintEntity> existing = entityManager.createQuery("SELECT f FROM ShellFingerprintEntity f WHERE f.globalAssetId IN :ids", ShellFingerprintEntity.class)
+                    .setParameter("ids", batch)
+                    .getResultStream()
+                    .collect(Collectors.toMap(ShellFingerprintEntity::getGlobalAssetId, Function.identity()));
+            batch.forEach(globalAssetId -> {
+                ShellFingerprintEntity entity = existing.get(globalAssetId);
+                if (entity == null) {
+                    entityManager.persist(new ShellFingerprintEntity(globalAssetId, fingerprintsByGlobalAssetId.get(globalAssetId), now));
+                } else {
+                    entity.setFingerprint(fingerprintsByGlobalAssetId.get(globalAssetId));
+                    entity.setSynchronizedOn(now);
+                }
+            });
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Collection<String> globalAssetIds) {
+        ListUtils.partition(List.copyOf(globalAssetIds), BATCH_SIZE).forEach(batch ->
+                entityManager.createQuery("DELETE FROM ShellFingerprintEntity f WHERE f.globalAssetId IN :ids")
+                        .setParameter("ids", batch)
+                        .executeUpdate());
+    }
+}
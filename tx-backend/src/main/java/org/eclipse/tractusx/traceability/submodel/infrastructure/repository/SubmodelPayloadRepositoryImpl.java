@@ -33,6 +33,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
@@ -45,15 +46,21 @@ public class SubmodelPayloadRepositoryImpl implements SubmodelPayloadRepository
     private static final String ASSET_NOT_FOUND_EXCEPTION_TEMPLATE = "Asset with id: '%s' not found while saving submodels";
 
     @Override
-    public void savePayloadForAssetAsBuilt(String assetId, List<IrsSubmodel> submodels) {
-        AssetAsBuiltEntity asset = jpaAssetAsBuiltRepository.findById(assetId).orElseThrow(() -> new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId)));
-        jpaSubmodelPayloadRepository.saveAll(SubmodelPayloadEntity.from(asset, submodels));
+    public void savePayloadsForAssetsAsBuilt(Map<String, List<IrsSubmodel>> submodelsByAssetId) {
+        List<AssetAsBuiltEntity> assets = jpaAssetAsBuiltRepository.findAllById(submodelsByAssetId.keySet());
+        requireAllFound(submodelsByAssetId.keySet(), assets.stream().map(AssetAsBuiltEntity::getId).collect(Collectors.toSet()));
+        jpaSubmodelPayloadRepository.saveAll(assets.stream()
+                .flatMap(asset -> SubmodelPayloadEntity.from(asset, submodelsByAssetId.get(asset.getId())).stream())
+                .toList());
     }
 
     @Override
-    public void savePayloadForAssetAsPlanned(String assetId, List<IrsSubmodel> submodels) {
-        AssetAsPlannedEntity asset = jpaAssetAsPlannedRepository.findById(assetId).orElseThrow(() -> new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId)));
-        jpaSubmodelPayloadRepository.saveAll(SubmodelPayloadEntity.from(asset, submodels));
+    public void savePayloadsForAssetsAsPlanned(Map<String, List<IrsSubmodel>> submodelsByAssetId) {
+        List<AssetAsPlannedEntity> assets = jpaAssetAsPlannedRepository.findAllById(submodelsByAssetId.keySet());
+        requireAllFound(submodelsByAssetId.keySet(), assets.stream().map(AssetAsPlannedEntity::getId).collect(Collectors.toSet()));
+        jpaSubmodelPayloadRepository.saveAll(assets.stream()
+                .flatMap(asset -> SubmodelPayloadEntity.from(asset, submodelsByAssetId.get(asset.getId())).stream())
+                .toList());
     }
 
     @Override
@@ -69,6 +76,12 @@ public class SubmodelPayloadRepositoryImpl implements SubmodelPayloadRepository
         throw new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId));
     }
 
+    private static void requireAllFound(Set<String> assetIds, Set<String> foundAssetIds) {
+        assetIds.stream().filter(assetId -> !foundAssetIds.contains(assetId)).findFirst().ifPresent(assetId -> {
+            throw new AssetNotFoundException(ASSET_NOT_FOUND_EXCEPTION_TEMPLATE.formatted(assetId));
+        });
+    }
+
     private Map<String, String> toTypesAndPayloadsMap(List<SubmodelPayloadEntity> entities) {
         return entities.stream().map(entity -> Map.entry(entity.getAspectType(), entity.getJson()))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -0,0 +1,84 @@
+/* The view is recreated by R__create_asset_as_built_view.sql as a plain projection of the new counter columns */
+DROP VIEW IF EXISTS assets_as_built_view;
+
+ALTER TABLE public.assets_as_built ADD COLUMN received_active_alerts int8 NOT NULL DEFAULT 0;
+ALTER TABLE public.assets_as_built ADD COLUMN sent_active_alerts int8 NOT NULL DEFAULT 0;
+ALTER TABLE public.assets_as_built ADD COLUMN received_active_investigations int8 NOT NULL DEFAULT 0;
+ALTER TABLE public.assets_as_built ADD COLUMN sent_active_investigations int8 NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_notifications_asset_id ON public.assets_as_built_notifications (asset_id);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_notifications_notification_id ON public.assets_as_built_notifications (notification_id);
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_received_active_alerts ON public.assets_as_built (received_active_alerts);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_sent_active_alerts ON public.assets_as_built (sent_active_alerts);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_received_active_investigations ON public.assets_as_built (received_active_investigations);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_sent_active_investigations ON public.assets_as_built (sent_active_investigations);
+
+/* Recalculates the active notification counters of the given assets from their notification links */
+CREATE OR REPLACE FUNCTION public.refresh_assets_as_built_notification_counters(asset_ids varchar[]) RETURNS void AS
+$$
+BEGIN
+    UPDATE public.assets_as_built asset
+    SET received_active_alerts         = counters.received_active_alerts,
+        sent_active_alerts             = counters.sent_active_alerts,
+        received_active_investigations = counters.received_active_investigations,
+        sent_active_investigations     = counters.sent_active_investigations
+    FROM (SELECT affected.asset_id,
+                 count(notification.id) FILTER (WHERE notification.side = 'RECEIVER' AND notification.type = 'ALERT')         AS received_active_alerts,
+                 count(notification.id) FILTER (WHERE notification.side = 'SENDER' AND notification.type = 'ALERT')           AS sent_active_alerts,
+                 count(notification.id) FILTER (WHERE notification.side = 'RECEIVER' AND notification.type = 'INVESTIGATION') AS received_active_investigations,
+                 count(notification.id) FILTER (WHERE notification.side = 'SENDER' AND notification.type = 'INVESTIGATION')   AS sent_active_investigations
+          FROM (SELECT DISTINCT unnest(asset_ids) AS asset_id) affected
+                   LEFT JOIN public.assets_as_built_notifications notification_assets
+                             ON notification_assets.asset_id = affected.asset_id
+                   LEFT JOIN public.notification notification
+                             ON notification.id = notification_assets.notification_id
+                                 AND notification.status IN ('CREATED', 'SENT', 'RECEIVED', 'ACKNOWLEDGED', 'ACCEPTED', 'DECLINED')
+          GROUP BY affected.asset_id) counters
+    WHERE asset.id = counters.asset_id;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION public.assets_as_built_notifications_counter_trigger() RETURNS trigger AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM public.refresh_assets_as_built_notification_counters(ARRAY [OLD.asset_id]);
+        RETURN OLD;
+    END IF;
+    IF TG_OP = 'UPDATE' AND OLD.asset_id IS DISTINCT FROM NEW.asset_id THEN
+        PERFORM public.refresh_assets_as_built_notification_counters(ARRAY [OLD.asset_id, NEW.asset_id]);
+    ELSE
+        PERFORM public.refresh_assets_as_built_notification_counters(ARRAY [NEW.asset_id]);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION public.notification_counter_trigger() RETURNS trigger AS
+$$
+BEGIN
+    PERFORM public.refresh_assets_as_built_notification_counters(
+            ARRAY(SELECT notification_assets.asset_id
+                  FROM public.assets_as_built_notifications notification_assets
+                  WHERE notification_assets.notification_id = NEW.id));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER assets_as_built_notifications_counters
+    AFTER INSERT OR UPDATE OR DELETE
+    ON public.assets_as_built_notifications
+    FOR EACH ROW
+EXECUTE FUNCTION public.assets_as_built_notifications_counter_trigger();
+
+CREATE TRIGGER notification_counters
+    AFTER UPDATE OF status, side, type
+    ON public.notification
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status OR OLD.side IS DISTINCT FROM NEW.side OR OLD.type IS DISTINCT FROM NEW.type)
+EXECUTE FUNCTION public.notification_counter_trigger();
+
+/* Initial fill of the counters for all assets which already have notifications */
+SELECT public.refresh_assets_as_built_notification_counters(
+               ARRAY(SELECT DISTINCT notification_assets.asset_id FROM public.assets_as_built_notifications notification_assets));
@@ -0,0 +1,35 @@
+/* Indexes for the typed filter predicates of the asset, notification and notification message list endpoints.
+   Enum and timestamp filters compare the plain column, STARTS_WITH filters use the pattern operator class
+   so that LIKE 'value%' can be answered by an index range scan independent of the database collation. */
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_owner ON public.assets_as_built ("owner");
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_quality_type ON public.assets_as_built (quality_type);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_semantic_data_model ON public.assets_as_built (semantic_data_model);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_import_state ON public.assets_as_built (import_state);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_manufacturing_date ON public.assets_as_built (manufacturing_date);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_id_pattern ON public.assets_as_built (id varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_id_short_pattern ON public.assets_as_built (id_short varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_manufacturer_part_id_pattern ON public.assets_as_built (manufacturer_part_id varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_customer_part_id_pattern ON public.assets_as_built (customer_part_id varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_semantic_model_id_pattern ON public.assets_as_built (semantic_model_id varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_manufacturer_id_pattern ON public.assets_as_built (manufacturer_id varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_owner ON public.assets_as_planned ("owner");
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_semantic_data_model ON public.assets_as_planned (semantic_data_model);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_import_state ON public.assets_as_planned (import_state);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_validity_period_from ON public.assets_as_planned (validity_period_from);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_validity_period_to ON public.assets_as_planned (validity_period_to);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_id_pattern ON public.assets_as_planned (id varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_id_short_pattern ON public.assets_as_planned (id_short varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_manufacturer_part_id_pattern ON public.assets_as_planned (manufacturer_part_id varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_semantic_model_id_pattern ON public.assets_as_planned (semantic_model_id varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_notification_side_type_status ON public.notification (side, type, status);
+CREATE INDEX IF NOT EXISTS idx_notification_created ON public.notification (created);
+CREATE INDEX IF NOT EXISTS idx_notification_bpn_pattern ON public.notification (bpn varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_notification_message_notification_id ON public.notification_message (notification_id);
+CREATE INDEX IF NOT EXISTS idx_notification_message_severity ON public.notification_message (severity);
+CREATE INDEX IF NOT EXISTS idx_notification_message_target_date ON public.notification_message (target_date);
+CREATE INDEX IF NOT EXISTS idx_notification_message_created_by_pattern ON public.notification_message (created_by varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_notification_message_send_to_pattern ON public.notification_message (send_to varchar_pattern_ops);
@@ -0,0 +1,26 @@
+/* Indexes for the distinct filter value (autocomplete) lookups, which match lower(column) LIKE 'prefix%'.
+   Only prefix matching is offered, so btree indexes with the pattern operator class on the lower-cased column are
+   sufficient and no trigram extension is required. */
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_id_short ON public.assets_as_built (lower(id_short) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_manufacturer_part_id ON public.assets_as_built (lower(manufacturer_part_id) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_customer_part_id ON public.assets_as_built (lower(customer_part_id) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_name_at_manufacturer ON public.assets_as_built (lower(name_at_manufacturer) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_name_at_customer ON public.assets_as_built (lower(name_at_customer) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_manufacturer_name ON public.assets_as_built (lower(manufacturer_name) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_manufacturer_id ON public.assets_as_built (lower(manufacturer_id) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_lower_van ON public.assets_as_built (lower(van) varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_lower_id_short ON public.assets_as_planned (lower(id_short) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_lower_manufacturer_part_id ON public.assets_as_planned (lower(manufacturer_part_id) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_lower_name_at_manufacturer ON public.assets_as_planned (lower(name_at_manufacturer) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_lower_manufacturer_name ON public.assets_as_planned (lower(manufacturer_name) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_lower_manufacturer_id ON public.assets_as_planned (lower(manufacturer_id) varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_notification_lower_title ON public.notification (lower(title) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_notification_lower_bpn ON public.notification (lower(bpn) varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_notification_message_lower_created_by ON public.notification_message (lower(created_by) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_notification_message_lower_created_by_name ON public.notification_message (lower(created_by_name) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_notification_message_lower_send_to ON public.notification_message (lower(send_to) varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_notification_message_lower_send_to_name ON public.notification_message (lower(send_to_name) varchar_pattern_ops);
@@ -0,0 +1,8 @@
+/* Indexes for the recursive part tree query which follows the relation tables in both directions */
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_childs_asset_as_built_id ON public.assets_as_built_childs (asset_as_built_id);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_childs_id ON public.assets_as_built_childs (id);
+CREATE INDEX IF NOT EXISTS idx_assets_as_built_parents_asset_as_built_id ON public.assets_as_built_parents (asset_as_built_id);
+
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_childs_asset_as_planned_id ON public.assets_as_planned_childs (asset_as_planned_id);
+CREATE INDEX IF NOT EXISTS idx_assets_as_planned_childs_id ON public.assets_as_planned_childs (id);
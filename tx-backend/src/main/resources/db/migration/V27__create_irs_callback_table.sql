@@ -0,0 +1,17 @@
+/* Durable queue of IRS job callbacks, drained asynchronously by IrsCallbackWorker */
+
+CREATE TABLE IF NOT EXISTS public.irs_callback
+(
+    job_id          varchar(255)  NOT NULL,
+    job_state       varchar(50)   NOT NULL,
+    status          varchar(50)   NOT NULL,
+    attempts        int4          NOT NULL DEFAULT 0,
+    received_on     timestamptz   NOT NULL,
+    next_attempt_on timestamptz   NOT NULL,
+    processed_on    timestamptz   NULL,
+    last_error      varchar(1000) NULL,
+    CONSTRAINT irs_callback_pkey PRIMARY KEY (job_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_irs_callback_due ON public.irs_callback (next_attempt_on) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_irs_callback_processed_on ON public.irs_callback (processed_on) WHERE status = 'DONE';
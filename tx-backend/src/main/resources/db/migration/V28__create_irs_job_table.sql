@@ -0,0 +1,19 @@
+/* Registry of IRS jobs per asset, direction, BOM lifecycle and aspects, used to coalesce duplicate job registrations */
+
+CREATE TABLE IF NOT EXISTS public.irs_job
+(
+    id              bigserial     NOT NULL,
+    global_asset_id varchar(255)  NOT NULL,
+    direction       varchar(50)   NOT NULL,
+    bom_lifecycle   varchar(50)   NOT NULL,
+    aspects         varchar(2000) NOT NULL,
+    job_id          varchar(255)  NULL,
+    status          varchar(50)   NOT NULL,
+    registered_on   timestamptz   NOT NULL,
+    updated_on      timestamptz   NOT NULL,
+    CONSTRAINT irs_job_pkey PRIMARY KEY (id),
+    CONSTRAINT irs_job_key UNIQUE (global_asset_id, direction, bom_lifecycle, aspects)
+);
+
+CREATE INDEX IF NOT EXISTS idx_irs_job_job_id ON public.irs_job (job_id);
+CREATE INDEX IF NOT EXISTS idx_irs_job_status ON public.irs_job (status) WHERE status IN ('REGISTERING', 'RUNNING');
@@ -0,0 +1,8 @@
+/* Polling state of IRS jobs whose callback is overdue, used to reconcile jobs whose callback got lost */
+
+ALTER TABLE public.irs_job ADD COLUMN polls int4 NOT NULL DEFAULT 0;
+ALTER TABLE public.irs_job ADD COLUMN next_poll_on timestamptz NULL;
+
+UPDATE public.irs_job SET next_poll_on = updated_on WHERE status = 'RUNNING';
+
+CREATE INDEX IF NOT EXISTS idx_irs_job_next_poll_on ON public.irs_job (next_poll_on) WHERE status = 'RUNNING';
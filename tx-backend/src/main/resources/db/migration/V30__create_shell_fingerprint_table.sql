@@ -0,0 +1,9 @@
+/* Fingerprints of the shell descriptors synchronized by the last registry synchronization, used to synchronize only new or changed twins */
+
+CREATE TABLE IF NOT EXISTS public.shell_fingerprint
+(
+    global_asset_id varchar(255) NOT NULL,
+    fingerprint     varchar(64)  NOT NULL,
+    synchronized_on timestamptz  NOT NULL,
+    CONSTRAINT shell_fingerprint_pkey PRIMARY KEY (global_asset_id)
+);
@@ -0,0 +1,10 @@
+/* Leases of the scheduled jobs, so that a job triggered on several instances at the same time runs on one of them only */
+
+CREATE TABLE IF NOT EXISTS public.scheduler_lock
+(
+    name         varchar(100) NOT NULL,
+    locked_by    varchar(255) NOT NULL,
+    locked_at    timestamptz  NOT NULL,
+    locked_until timestamptz  NOT NULL,
+    CONSTRAINT scheduler_lock_pkey PRIMARY KEY (name)
+);
@@ -0,0 +1,19 @@
+/* Progress and results of import jobs running in the background, whose assets are committed in chunks */
+
+ALTER TABLE public.import_job ADD COLUMN IF NOT EXISTS progress int4 NOT NULL DEFAULT 0;
+ALTER TABLE public.import_job ADD COLUMN IF NOT EXISTS errors text NULL;
+
+CREATE TABLE IF NOT EXISTS public.import_job_chunk
+(
+    id               bigserial    NOT NULL,
+    import_job_id    varchar(255) NOT NULL,
+    chunk_index      int4         NOT NULL,
+    status           varchar(50)  NOT NULL,
+    assets           int4         NOT NULL,
+    persisted_assets int4         NOT NULL,
+    errors           text         NULL,
+    completed_on     timestamptz  NOT NULL,
+    CONSTRAINT import_job_chunk_pkey PRIMARY KEY (id),
+    CONSTRAINT import_job_chunk_unique UNIQUE (import_job_id, chunk_index),
+    CONSTRAINT fk_import_job_chunk_import_job FOREIGN KEY (import_job_id) REFERENCES public.import_job (id)
+);
@@ -0,0 +1,8 @@
+/* Time of the last full registry synchronization, which cannot be derived from the fingerprints as skipped twins keep their old ones */
+
+CREATE TABLE IF NOT EXISTS public.registry_full_sync
+(
+    id              smallint    NOT NULL,
+    synchronized_on timestamptz NOT NULL,
+    CONSTRAINT registry_full_sync_pkey PRIMARY KEY (id)
+);
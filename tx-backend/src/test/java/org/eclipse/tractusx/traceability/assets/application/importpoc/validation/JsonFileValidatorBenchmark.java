@@ -0,0 +1,99 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.application.importpoc.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.common.benchmark.Benchmark;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.traceability.common.benchmark.BenchmarkSupport.measure;
+
+/**
+ * Validates an import file of 10k assets, once with the schemas compiled for every submodel as before the schema
+ * registry, once with the registry on a single thread and once with the registry on a bounded pool.
+ */
+@Slf4j
+@Benchmark
+class JsonFileValidatorBenchmark {
+
+    private static final int ASSETS = 10_000;
+    private static final int PARALLELISM = 4;
+
+    @Test
+    void validateTenThousandAssets() throws Exception {
+        List<JsonNode> assets = tenThousandAssets();
+        JsonSchemaRegistry schemaRegistry = new JsonSchemaRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            JsonFileValidator sequential = new JsonFileValidator(schemaRegistry, Runnable::run);
+            JsonFileValidator parallel = new JsonFileValidator(schemaRegistry, executor);
+
+            Duration compiledPerSubmodel = measure(() -> assets.forEach(JsonFileValidatorBenchmark::validateCompilingPerSubmodel));
+            Duration registrySequential = measure(() -> assertThat(sequential.validateAssets(assets)).isEmpty());
+            Duration registryParallel = measure(() -> assertThat(parallel.validateAssets(assets)).isEmpty());
+
+            log.info("Validation of {} assets: compiled per submodel {} ms, registry on one thread {} ms, registry on {} threads {} ms",
+                    assets.size(), compiledPerSubmodel.toMillis(), registrySequential.toMillis(), PARALLELISM, registryParallel.toMillis());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<JsonNode> tenThousandAssets() throws Exception {
+        JsonNode root = new ObjectMapper().readTree(JsonFileValidatorBenchmark.class.getResourceAsStream("/testdata/import-request.json"));
+        List<JsonNode> assets = new ArrayList<>(ASSETS);
+        while (assets.size() < ASSETS) {
+            for (JsonNode asset : root.get("assets")) {
+                if (assets.size() == ASSETS) {
+                    break;
+                }
+                ObjectNode copy = asset.deepCopy();
+                copy.withObject("/assetMetaInfo").put("catenaXId", "urn:uuid:" + assets.size());
+                assets.add(copy);
+            }
+        }
+        return assets;
+    }
+
+    private static void validateCompilingPerSubmodel(JsonNode asset) {
+        try {
+            for (JsonNode submodel : asset.get("submodels")) {
+                String schemaPath = JsonSchemaRegistry.SUPPORTED_SCHEMA_VALIDATION.get(submodel.get("aspectType").asText());
+                JsonSchemaFactory.byDefault()
+                        .getJsonSchema(JsonLoader.fromURL(JsonFileValidatorBenchmark.class.getResource(schemaPath)))
+                        .validate(JsonLoader.fromString(submodel.get("payload").toString()));
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
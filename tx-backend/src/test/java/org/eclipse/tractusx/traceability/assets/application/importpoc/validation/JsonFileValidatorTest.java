@@ -0,0 +1,97 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.application.importpoc.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.exception.NotSupportedSchemaException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonFileValidatorTest {
+
+    private static final JsonSchemaRegistry schemaRegistry = new JsonSchemaRegistry();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final JsonFileValidator jsonFileValidator = new JsonFileValidator(schemaRegistry, executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenValidAssets_whenValidateAssets_thenNoErrors() throws IOException {
+        // given
+        List<JsonNode> assets = assets("/testdata/import-request.json");
+
+        // when
+        List<String> errors = jsonFileValidator.validateAssets(assets);
+
+        // then
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    void givenInvalidAssets_whenValidateAssetsInParallel_thenErrorsAreInOrderOfAssets() throws IOException {
+        // given
+        List<JsonNode> assets = new ArrayList<>(assets("/testdata/import-request.json"));
+        ObjectNode first = assets.get(0).deepCopy();
+        first.withObject("/assetMetaInfo").put("catenaXId", "first");
+        first.withArray("submodels").addObject().put("aspectType", "urn:samm:io.catenax.unknown:1.0.0#Unknown").putObject("payload");
+        ObjectNode last = assets.get(1).deepCopy();
+        last.withObject("/assetMetaInfo").put("catenaXId", "last");
+        last.withArray("submodels").addObject().putObject("payload");
+        assets.add(0, first);
+        assets.add(last);
+
+        // when
+        List<String> errors = jsonFileValidator.validateAssets(assets);
+
+        // then
+        assertThat(errors).containsExactly(
+                "'urn:samm:io.catenax.unknown:1.0.0#Unknown' is not supported",
+                "Missing property aspectType");
+    }
+
+    @Test
+    void givenUnsupportedSchema_whenGetSchema_thenNotSupported() {
+        assertThatThrownBy(() -> schemaRegistry.getSchema("urn:samm:io.catenax.unknown:1.0.0#Unknown"))
+                .isInstanceOf(NotSupportedSchemaException.class);
+    }
+
+    private List<JsonNode> assets(String resource) throws IOException {
+        JsonNode root = objectMapper.readTree(JsonFileValidatorTest.class.getResourceAsStream(resource));
+        List<JsonNode> assets = new ArrayList<>();
+        root.get("assets").forEach(assets::add);
+        return assets;
+    }
+}
@@ -1,21 +1,26 @@
 package org.eclipse.tractusx.traceability.assets.domain.base.service;
 
+import org.eclipse.tractusx.irs.component.enums.Direction;
 import org.eclipse.tractusx.traceability.assets.domain.base.AssetRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
+import org.eclipse.tractusx.traceability.common.export.ExportFormat;
 import org.eclipse.tractusx.traceability.common.model.PageResult;
 import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class AbstractAssetBaseServiceTest {
 
@@ -47,6 +52,15 @@ class AbstractAssetBaseServiceTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 11})
+    void givenDepthOutOfRange_whenGetAssetTree_thenThrowIllegalArgumentException(int depth) {
+        // when/then
+        assertThatThrownBy(() -> service.getAssetTree("assetId", Direction.DOWNWARD, depth))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Depth must be between 1 and 10.");
+    }
+
     static class TestService extends AbstractAssetBaseService {
 
         @Override
@@ -78,6 +92,10 @@ class AbstractAssetBaseServiceTest {
         public PageResult<AssetBase> getAssets(Pageable pageable, SearchCriteria searchCriteria) {
             return null;
         }
+
+        @Override
+        public void exportAssets(SearchCriteria searchCriteria, ExportFormat format, OutputStream outputStream) {
+        }
     }
 
 }
@@ -57,7 +57,7 @@ class SubmodelPayloadRepositoryIT extends IntegrationTestSpecification {
 
         assetsSupport.defaultAssetsStored();
         jpaAssetAsBuiltRepository.findAll();
-        submodelPayloadRepository.savePayloadForAssetAsBuilt(assetId, submodels);
+        submodelPayloadRepository.savePayloadsForAssetsAsBuilt(Map.of(assetId, submodels));
         importRequest.assets().stream().map(it -> it.assetMetaInfoRequest().catenaXId()).toList();
 
 
@@ -0,0 +1,77 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.common.benchmark.Benchmark;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.traceability.common.benchmark.BenchmarkSupport.measure;
+
+/**
+ * Reconciles imports of growing size, once with the linear scan over the persisted assets used before and once with
+ * {@link ImportServiceImpl#compareForUploadResult}, which indexes the persisted assets by id. Doubling the import should
+ * roughly double the time of the indexed comparison while it quadruples the time of the scan.
+ */
+@Slf4j
+@Benchmark
+class ImportReconciliationBenchmark {
+
+    private static final List<Integer> SIZES = List.of(10_000, 20_000, 40_000);
+
+    @Test
+    void reconcileGrowingImports() {
+        for (int size : SIZES) {
+            List<AssetBase> incoming = assets(size);
+            List<AssetBase> persisted = persistedHalf(incoming);
+
+            Duration scan = measure(() -> assertThat(compareScanningPersisted(incoming, persisted)).hasSize(size));
+            Duration indexed = measure(() -> assertThat(ImportServiceImpl.compareForUploadResult(incoming, persisted)).hasSize(size));
+
+            log.info("Reconciliation of {} assets: linear scan {} ms, indexed by id {} ms", size, scan.toMillis(), indexed.toMillis());
+        }
+    }
+
+    private static List<AssetBase> assets(int size) {
+        return IntStream.range(0, size).mapToObj(index -> AssetBase.builder().id("urn:uuid:" + index).build()).toList();
+    }
+
+    private static List<AssetBase> persistedHalf(List<AssetBase> incoming) {
+        List<AssetBase> persisted = new ArrayList<>(incoming.stream().filter(asset -> asset.getId().hashCode() % 2 == 0).toList());
+        Collections.shuffle(persisted);
+        return persisted;
+    }
+
+    private static Map<String, Boolean> compareScanningPersisted(List<AssetBase> incoming, List<AssetBase> persisted) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        incoming.forEach(asset -> result.put(asset.getId(),
+                persisted.stream().anyMatch(persistedAsset -> persistedAsset.getId().equals(asset.getId()))));
+        return result;
+    }
+}
@@ -19,10 +19,19 @@
 package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.JsonFileValidator;
+import org.eclipse.tractusx.traceability.assets.application.importpoc.validation.JsonSchemaRegistry;
 import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportException;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportRejectedException;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.exception.ImportValidationException;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJob;
+import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobChunk;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.model.ImportJobStatus;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.ImportJobRepository;
 import org.eclipse.tractusx.traceability.assets.domain.importpoc.repository.SubmodelPayloadRepository;
@@ -32,29 +41,43 @@ import org.eclipse.tractusx.traceability.common.properties.TraceabilityPropertie
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.eclipse.tractusx.traceability.testdata.AssetTestDataFactory.createAssetAsBuiltTestdata;
 import static org.eclipse.tractusx.traceability.testdata.AssetTestDataFactory.createAssetAsPlannedTestdata;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ImportServiceImplTest {
 
-    @InjectMocks
     private ImportServiceImpl importService;
 
     @Mock
@@ -72,31 +95,218 @@ class ImportServiceImplTest {
     @Mock
     private ImportAssetMapper assetMapper;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final JsonFileValidator jsonFileValidator = new JsonFileValidator(new JsonSchemaRegistry(), Runnable::run);
+
     @BeforeEach
     public void testSetup() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
+        importService = importService(500, Runnable::run);
+    }
 
-        importService = new ImportServiceImpl(objectMapper, assetAsPlannedRepository, assetAsBuiltRepository, traceabilityProperties, submodelPayloadRepository, importJobRepository, assetMapper);
+    private ImportServiceImpl importService(int chunkSize, Executor importAssetsExecutor) {
+        return new ImportServiceImpl(objectMapper, assetAsPlannedRepository, assetAsBuiltRepository, traceabilityProperties, submodelPayloadRepository, importJobRepository, assetMapper, jsonFileValidator, importAssetsExecutor, transactionManager, chunkSize);
+    }
 
+    private static MockMultipartFile multipartFile(String resource) throws IOException {
+        InputStream file = ImportServiceImplTest.class.getResourceAsStream(resource);
+        return new MockMultipartFile("file", "import-request.json", "application/json", file);
     }
 
-    @Test
-    void testImportRequestSuccessful() throws IOException {
+    private static ImportJob importJob() {
+        return ImportJob.builder().id(UUID.randomUUID()).startedOn(Instant.now()).status(ImportJobStatus.INITIALIZING).build();
+    }
 
-        InputStream file = ImportServiceImplTest.class.getResourceAsStream("/testdata/import-request.json");
-        // Convert the file to a MockMultipartFile
-        MockMultipartFile multipartFile = new MockMultipartFile(
-                "file",               // Parameter name in the multipart request
-                "import-request",             // Original file name
-                "application/json",   // Content type
-                file
-        );
+    private static <T extends Throwable> T failure(CompletableFuture<?> future, Class<T> type) {
+        return type.cast(catchThrowableOfType(future::join, CompletionException.class).getCause());
+    }
 
+    @Test
+    void testImportRequestSuccessful() throws IOException {
+        // given
+        ImportJob importJob = importJob();
         when(assetMapper.toAssetBaseList(any())).thenReturn(List.of(createAssetAsBuiltTestdata(), createAssetAsPlannedTestdata()));
         when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
-        importService.importAssets(multipartFile, new ImportJob(UUID.randomUUID(), Instant.now(), null, ImportJobStatus.RUNNING, List.of(), List.of()));
+
+        // when
+        Map<String, Boolean> result = importService.importAssetsAsync(multipartFile("/testdata/import-request.json"), importJob).join();
+
+        // then
+        assertThat(result).isNotEmpty();
         verify(assetAsBuiltRepository, times(1)).saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList());
         verify(assetAsPlannedRepository, times(1)).saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList());
+        verify(importJobRepository).updateStatus(importJob.getId(), ImportJobStatus.RUNNING, null);
+        verify(importJobRepository).updateStatus(eq(importJob.getId()), eq(ImportJobStatus.COMPLETED), any());
+    }
+
+    @Test
+    void givenChunkSize_whenImportAssets_thenEveryChunkIsCommittedWithItsResult() throws IOException {
+        // given
+        ImportJob importJob = importJob();
+        when(assetMapper.toAssetBaseList(any())).thenReturn(List.of(createAssetAsBuiltTestdata()));
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+
+        // when
+        importService(5, Runnable::run).importAssetsAsync(multipartFile("/testdata/import-request.json"), importJob).join();
+
+        // then the 18 assets of the file are validated and then imported in chunks of 5, 5, 5 and 3
+        verify(assetMapper, times(8)).toAssetBaseList(anyList());
+        verify(importJobRepository, times(4)).updateProgress(eq(importJob.getId()), anyInt());
+        verify(assetAsBuiltRepository, times(4)).saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList());
+        verify(importJobRepository, times(4)).addAssets(eq(importJob.getId()), anyList(), anyList());
+        verify(transactionManager, times(4)).commit(any());
+        ArgumentCaptor<ImportJobChunk> chunks = ArgumentCaptor.forClass(ImportJobChunk.class);
+        verify(importJobRepository, times(4)).saveChunk(eq(importJob.getId()), chunks.capture(), anyInt());
+        assertThat(chunks.getAllValues()).extracting(ImportJobChunk::index, ImportJobChunk::status, ImportJobChunk::assets)
+                .containsExactly(
+                        tuple(0, ImportJobStatus.COMPLETED, 5),
+                        tuple(1, ImportJobStatus.COMPLETED, 5),
+                        tuple(2, ImportJobStatus.COMPLETED, 5),
+                        tuple(3, ImportJobStatus.COMPLETED, 3));
+        verify(importJobRepository).saveChunk(eq(importJob.getId()), eq(chunks.getAllValues().get(3)), eq(100));
+    }
+
+    @Test
+    void givenInvalidChunk_whenImportAssets_thenNoChunkIsCommittedAndJobFails() throws IOException {
+        // given an import file whose seventh asset has a submodel without aspect type
+        ObjectNode importRequest = (ObjectNode) objectMapper.readTree(ImportServiceImplTest.class.getResourceAsStream("/testdata/import-request.json"));
+        ((ObjectNode) importRequest.withArray("assets").get(6).withArray("submodels").get(0)).remove("aspectType");
+        MockMultipartFile file = new MockMultipartFile("file", "import-request.json", "application/json", objectMapper.writeValueAsBytes(importRequest));
+        ImportJob importJob = importJob();
+        when(assetMapper.toAssetBaseList(any())).thenReturn(List.of(createAssetAsBuiltTestdata()));
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+
+        // when
+        ImportValidationException exception = failure(importService(5, Runnable::run).importAssetsAsync(file, importJob), ImportValidationException.class);
+
+        // then
+        assertThat(exception.getErrors()).containsExactly("Missing property aspectType");
+        ArgumentCaptor<ImportJobChunk> chunks = ArgumentCaptor.forClass(ImportJobChunk.class);
+        verify(importJobRepository).saveChunk(eq(importJob.getId()), chunks.capture(), anyInt());
+        assertThat(chunks.getValue().index()).isEqualTo(1);
+        assertThat(chunks.getValue().status()).isEqualTo(ImportJobStatus.ERROR);
+        assertThat(chunks.getValue().errors()).containsExactly("Missing property aspectType");
+        verify(importJobRepository).failJob(eq(importJob.getId()), eq(List.of("Missing property aspectType")), any());
+        verifyNoInteractions(assetAsBuiltRepository, assetAsPlannedRepository, transactionManager);
+    }
+
+    @Test
+    void givenAssetOfOtherBpn_whenImportAssets_thenNothingIsPersistedAndJobFails() throws IOException {
+        // given
+        ImportJob importJob = importJob();
+        when(assetMapper.toAssetBaseList(any())).thenReturn(List.of(AssetBase.builder().id("urn:uuid:other").manufacturerId("BPNL00000003OTHER").build()));
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+
+        // when
+        ImportValidationException exception = failure(
+                importService.importAssetsAsync(multipartFile("/testdata/import-request.json"), importJob),
+                ImportValidationException.class);
+
+        // then
+        assertThat(exception.getErrors()).containsExactly("At least one asset does not match the application bpn BPNL00000003CML1");
+        verifyNoInteractions(assetAsBuiltRepository, assetAsPlannedRepository, transactionManager);
+    }
+
+    @Test
+    void givenFailingRepository_whenImportAssets_thenJobFailsWithoutValidationErrors() throws IOException {
+        // given
+        ImportJob importJob = importJob();
+        when(assetMapper.toAssetBaseList(any())).thenReturn(List.of(createAssetAsBuiltTestdata()));
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+        when(assetAsBuiltRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList())).thenThrow(new IllegalStateException("connection lost"));
+
+        // when
+        ImportException exception = failure(
+                importService.importAssetsAsync(multipartFile("/testdata/import-request.json"), importJob),
+                ImportException.class);
+
+        // then
+        assertThat(exception).isNotInstanceOf(ImportValidationException.class).hasMessageContaining("connection lost");
+        verify(importJobRepository).failJob(eq(importJob.getId()), eq(List.of("connection lost")), any());
+    }
+
+    @Test
+    void givenInvalidAssets_whenImportAssets_thenErrorsOfAllAssetsAreReportedAndNothingIsPersisted() throws IOException {
+        // when
+        ImportValidationException exception = failure(
+                importService.importAssetsAsync(multipartFile("/testdata/importfiles/invalidImportFile.json"), importJob()),
+                ImportValidationException.class);
+
+        // then
+        assertThat(exception.getErrors()).containsExactlyInAnyOrder(
+                "Missing property aspectType",
+                "For Asset with ID: invalidUUID And aspectType: urn:samm:io.catenax.serial_part:3.0.0#SerialPart Following error occurred: object has missing required properties ([\"localIdentifiers\"])",
+                "For Asset with ID: urn:uuid:5205f736-8fc2-4585-b869-6bf36842369a And aspectType: urn:samm:io.catenax.single_level_bom_as_built:3.0.0#SingleLevelBomAsBuilt Following error occurred: object has missing required properties ([\"catenaXId\",\"childItems\"])"
+        );
+        verifyNoInteractions(assetMapper, assetAsBuiltRepository, assetAsPlannedRepository, transactionManager);
+    }
+
+    @Test
+    void givenFileWithoutAssets_whenImportAssets_thenJobFailsWithAssetsMissing() throws IOException {
+        // given
+        ImportJob importJob = importJob();
+
+        // when
+        ImportValidationException exception = failure(
+                importService.importAssetsAsync(multipartFile("/testdata/importfiles/invalidImportFileBadStructure.json"), importJob),
+                ImportValidationException.class);
+
+        // then
+        assertThat(exception.getErrors()).containsExactly("Could not find assets");
+        verify(importJobRepository).failJob(eq(importJob.getId()), eq(List.of("Could not find assets")), any());
+    }
+
+    @Test
+    void givenAllImportSlotsBusy_whenImportAssets_thenImportIsRejected() throws IOException {
+        // given
+        ImportJob importJob = importJob();
+        Executor busyExecutor = task -> {
+            throw new TaskRejectedException("queue full");
+        };
+
+        // when
+        ImportRejectedException exception = catchThrowableOfType(
+                () -> importService(500, busyExecutor).importAssetsAsync(multipartFile("/testdata/import-request.json"), importJob),
+                ImportRejectedException.class);
+
+        // then
+        assertThat(exception).isNotNull();
+        verify(importJobRepository).updateStatus(eq(importJob.getId()), eq(ImportJobStatus.ERROR), any());
+        verifyNoInteractions(assetMapper, assetAsBuiltRepository, assetAsPlannedRepository);
+    }
+
+    @Test
+    void givenPersistedAssets_whenImportAssets_thenPayloadsAreSavedInOneBatchPerLifecycle() throws IOException {
+        // given
+        AssetBase asBuilt = AssetBase.builder().id("urn:uuid:0733946c-59c6-41ae-9570-cb43a6e4eb01").semanticDataModel(SemanticDataModel.SERIALPART).manufacturerId("BPNL00000003CML1").build();
+        AssetBase asPlanned = AssetBase.builder().id("urn:uuid:0733946c-59c6-41ae-9570-cb43a6e4c79e").semanticDataModel(SemanticDataModel.PARTASPLANNED).manufacturerId("BPNL00000003CML1").build();
+        when(assetMapper.toAssetBaseList(any())).thenReturn(List.of(asBuilt, asPlanned));
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+        when(assetAsBuiltRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList())).thenReturn(List.of(asBuilt));
+        when(assetAsPlannedRepository.saveAllIfNotInIRSSyncAndUpdateImportStateAndNote(anyList())).thenReturn(List.of(asPlanned));
+
+        // when
+        importService.importAssetsAsync(multipartFile("/testdata/import-request.json"), importJob()).join();
+
+        // then
+        verify(submodelPayloadRepository, times(1)).savePayloadsForAssetsAsBuilt(argThat(submodels -> submodels.keySet().equals(Set.of(asBuilt.getId()))));
+        verify(submodelPayloadRepository, times(1)).savePayloadsForAssetsAsPlanned(argThat(submodels -> submodels.keySet().equals(Set.of(asPlanned.getId()))));
+    }
+
+    @Test
+    void givenIncomingAndPersistedAssets_whenCompareForUploadResult_thenEveryIncomingAssetIsReportedInOrder() {
+        // given
+        AssetBase first = AssetBase.builder().id("first").build();
+        AssetBase second = AssetBase.builder().id("second").build();
+        AssetBase third = AssetBase.builder().id("third").build();
+
+        // when
+        Map<String, Boolean> result = ImportServiceImpl.compareForUploadResult(List.of(first, second, third), List.of(third, first));
+
+        // then
+        assertThat(result).containsExactly(entry("first", true), entry("second", false), entry("third", true));
     }
 }
@@ -0,0 +1,85 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.domain.importpoc.service;
+
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublishServiceImplTest {
+
+    @Mock
+    private AssetAsPlannedRepository assetAsPlannedRepository;
+
+    @Mock
+    private AssetAsBuiltRepository assetAsBuiltRepository;
+
+    @Mock
+    private AsyncPublishService asyncPublishService;
+
+    @InjectMocks
+    private PublishServiceImpl publishService;
+
+    @Test
+    void givenAssets_whenPublishAssetsToCoreServices_thenPublishSynchronously() {
+        // given
+        List<AssetBase> assets = List.of(AssetBase.builder().id("urn:uuid:1").build());
+
+        // when
+        publishService.publishAssetsToCoreServices(assets, true);
+
+        // then
+        verify(asyncPublishService).publishAssetsToCoreServices(assets, true);
+        verify(asyncPublishService, never()).publishAssetsToCoreServicesAsync(anyList(), anyBoolean());
+    }
+
+    @Test
+    void givenTransientAsset_whenPublishAssets_thenPublishInBackground() {
+        // given
+        AssetBase asset = AssetBase.builder().id("urn:uuid:1").importState(ImportState.TRANSIENT).build();
+        when(assetAsBuiltRepository.existsById("urn:uuid:1")).thenReturn(true);
+        when(assetAsBuiltRepository.getAssetsById(List.of("urn:uuid:1"))).thenReturn(List.of(asset));
+        when(assetAsBuiltRepository.saveAll(List.of(asset))).thenReturn(List.of(asset));
+        when(assetAsPlannedRepository.getAssetsById(List.of("urn:uuid:1"))).thenReturn(List.of());
+        when(assetAsPlannedRepository.saveAll(List.of())).thenReturn(List.of());
+
+        // when
+        publishService.publishAssets("policyId", List.of("urn:uuid:1"), true);
+
+        // then
+        verify(asyncPublishService).publishAssetsToCoreServicesAsync(List.of(asset), true);
+        verify(asyncPublishService, never()).publishAssetsToCoreServices(anyList(), anyBoolean());
+    }
+}
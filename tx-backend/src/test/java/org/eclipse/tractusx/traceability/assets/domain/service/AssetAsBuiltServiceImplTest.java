@@ -30,7 +30,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class AssetAsBuiltServiceImplTest {
@@ -51,10 +56,35 @@ class AssetAsBuiltServiceImplTest {
         assetService.synchronizeAssetsAsync(globalAssetId);
 
         // then
-        verify(jobRepository).createJobToResolveAssets(globalAssetId, Direction.DOWNWARD, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
-        verify(jobRepository).createJobToResolveAssets(globalAssetId, Direction.UPWARD, Aspect.upwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
+        verify(jobRepository).createJobsToResolveAssets(List.of(globalAssetId), Direction.DOWNWARD, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
+        verify(jobRepository).createJobsToResolveAssets(List.of(globalAssetId), Direction.UPWARD, Aspect.upwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
     }
 
+    @Test
+    void synchronizeAssets_shouldCreateJobsForAllAssetsAtOnce() {
+        // given
+        List<String> globalAssetIds = List.of("123", "456");
+
+        // when
+        assetService.synchronizeAssetsAsync(globalAssetIds);
+
+        // then
+        verify(jobRepository).createJobsToResolveAssets(globalAssetIds, Direction.DOWNWARD, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
+        verify(jobRepository).createJobsToResolveAssets(globalAssetIds, Direction.UPWARD, Aspect.upwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
+    }
 
+    @Test
+    void givenFailedRegistration_whenSynchronizeAssets_thenReportOnlyAssetsRegisteredInEveryDirection() {
+        // given
+        List<String> globalAssetIds = List.of("123", "456", "789");
+        when(jobRepository.createJobsToResolveAssets(globalAssetIds, Direction.DOWNWARD, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT)).thenReturn(Set.of("123", "456"));
+        when(jobRepository.createJobsToResolveAssets(globalAssetIds, Direction.UPWARD, Aspect.upwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT)).thenReturn(Set.of("456", "789"));
+
+        // when
+        Set<String> result = assetService.synchronizeAssets(globalAssetIds);
+
+        // then
+        assertThat(result).containsExactly("456");
+    }
 }
 
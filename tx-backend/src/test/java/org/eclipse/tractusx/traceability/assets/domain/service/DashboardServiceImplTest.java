@@ -0,0 +1,97 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.domain.service;
+
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.model.Dashboard;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.repository.DashboardRepository;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.service.DashboardServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceImplTest {
+
+    @Mock
+    private DashboardRepository dashboardRepository;
+
+    private DashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardServiceImpl(dashboardRepository, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void givenDashboardSnapshot_whenGetDashboard_thenRepositoryIsQueriedOnce() {
+        // given
+        Dashboard dashboard = Dashboard.builder().asBuiltOwnParts(5).build();
+        when(dashboardRepository.getDashboard()).thenReturn(dashboard);
+
+        // when
+        dashboardService.getDashboard();
+        Dashboard result = dashboardService.getDashboard();
+
+        // then
+        assertThat(result).isEqualTo(dashboard);
+        verify(dashboardRepository, times(1)).getDashboard();
+    }
+
+    @Test
+    void givenNotificationsChanged_whenGetDashboard_thenDashboardIsRecalculated() {
+        // given
+        when(dashboardRepository.getDashboard()).thenReturn(
+                Dashboard.builder().receivedActiveAlerts(1).build(),
+                Dashboard.builder().receivedActiveAlerts(2).build());
+        dashboardService.getDashboard();
+
+        // when
+        dashboardService.onNotificationsChanged();
+        Dashboard result = dashboardService.getDashboard();
+
+        // then
+        assertThat(result.getReceivedActiveAlerts()).isEqualTo(2);
+    }
+
+    @Test
+    void givenAssetsChanged_whenGetDashboard_thenDashboardIsRecalculated() {
+        // given
+        when(dashboardRepository.getDashboard()).thenReturn(
+                Dashboard.builder().asBuiltOwnParts(1).build(),
+                Dashboard.builder().asBuiltOwnParts(2).build());
+        dashboardService.getDashboard();
+
+        // when
+        dashboardService.onAssetsChanged();
+        Dashboard result = dashboardService.getDashboard();
+
+        // then
+        assertThat(result.getAsBuiltOwnParts()).isEqualTo(2);
+    }
+}
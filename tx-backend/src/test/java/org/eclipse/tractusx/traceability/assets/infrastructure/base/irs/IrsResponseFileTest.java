@@ -0,0 +1,220 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.irs.component.Tombstone;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsResponseVisitor;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Shell;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.AssetBaseMapperProvider;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.IrsResponseAssetMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelBomAsBuiltMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelBomAsPlannedMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelUsageAsBuiltMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.BatchMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.JustInSequenceMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.PartAsPlannedMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.PartSiteInformationAsPlannedMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.SerialPartMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.TractionBatteryCodeMapper;
+import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IrsResponseFileTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE, true)
+            .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true)
+            .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .build()
+            .registerModules(new JavaTimeModule());
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("irs-job-", ".json");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    void givenJobResponse_whenJobStatus_thenReadsJobSection() throws IOException {
+        // given
+        IrsResponseFile responseFile = responseFile("response_200.json");
+
+        // when
+        JobStatus jobStatus = responseFile.jobStatus();
+
+        // then
+        assertThat(jobStatus.state()).isEqualTo("COMPLETED");
+        assertThat(jobStatus.globalAssetId()).isEqualTo(bound("response_200.json").jobStatus().globalAssetId());
+    }
+
+    @Test
+    void givenResponseStream_whenReadJobStatus_thenStopsAfterJobSection() throws IOException {
+        // given
+        String truncatedAfterJob = """
+                {"job": {"id": "job-1", "state": "RUNNING", "globalAssetId": "urn:uuid:1"}, "relationships": [{"catenaXId":""";
+
+        // when
+        JobStatus jobStatus;
+        try (JsonParser parser = objectMapper.createParser(truncatedAfterJob)) {
+            jobStatus = IrsResponseFile.readJobStatus(parser, objectMapper);
+        }
+
+        // then
+        assertThat(jobStatus.id()).isEqualTo("job-1");
+        assertThat(jobStatus.state()).isEqualTo("RUNNING");
+    }
+
+    @Test
+    void givenJobResponse_whenAccept_thenVisitsEveryElementOnce() throws IOException {
+        // given
+        IrsResponseFile responseFile = responseFile("response_200.json");
+        List<Object> visited = new ArrayList<>();
+
+        // when
+        responseFile.accept(new IrsResponseVisitor() {
+            @Override
+            public void jobStatus(JobStatus jobStatus) {
+                visited.add(jobStatus);
+            }
+
+            @Override
+            public void relationship(Relationship relationship) {
+                visited.add(relationship);
+            }
+
+            @Override
+            public void shell(Shell shell) {
+                visited.add(shell);
+            }
+
+            @Override
+            public void tombstone(Tombstone tombstone) {
+                visited.add(tombstone);
+            }
+
+            @Override
+            public void submodel(IrsSubmodel submodel) {
+                visited.add(submodel);
+            }
+        });
+
+        // then
+        assertThat(visited).filteredOn(JobStatus.class::isInstance).hasSize(1);
+        assertThat(visited).filteredOn(Relationship.class::isInstance).hasSize(14);
+        assertThat(visited).filteredOn(Shell.class::isInstance).hasSize(13);
+        assertThat(visited).filteredOn(Tombstone.class::isInstance).hasSize(1);
+        assertThat(visited).filteredOn(IrsSubmodel.class::isInstance).hasSize(23);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"response_200.json", "response_200_downward_asPlanned.json"})
+    void givenJobResponse_whenMappedInBatches_thenMatchesMappingOfBoundResponse(String stub) throws IOException {
+        // given
+        IrsResponseAssetMapper mapper = irsResponseAssetMapper();
+        IrsResponseFile responseFile = responseFile(stub);
+        List<List<AssetBase>> batches = new ArrayList<>();
+
+        // when
+        mapper.toAssetBaseBatches(responseFile, 2, batches::add);
+
+        // then
+        List<AssetBase> expected = mapper.toAssetBaseList(bound(stub));
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+        assertThat(batches.stream().flatMap(List::stream).toList())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void givenResponseFile_whenClose_thenDeletesFile() throws IOException {
+        // given
+        IrsResponseFile responseFile = responseFile("running_job_response_200.json");
+
+        // when
+        responseFile.close();
+
+        // then
+        assertThat(path).doesNotExist();
+    }
+
+    private IrsResponseFile responseFile(String stub) throws IOException {
+        try (InputStream inputStream = stub(stub)) {
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new IrsResponseFile(path, objectMapper);
+    }
+
+    private IRSResponse bound(String stub) throws IOException {
+        try (InputStream inputStream = stub(stub)) {
+            return objectMapper.readValue(inputStream, IRSResponse.class);
+        }
+    }
+
+    private InputStream stub(String stub) {
+        return getClass().getResourceAsStream("/stubs/irs/get/jobs/id/" + stub);
+    }
+
+    private IrsResponseAssetMapper irsResponseAssetMapper() {
+        BpnService bpnService = mock(BpnService.class);
+        when(bpnService.findByBpns(anyCollection())).thenReturn(Map.of());
+        AssetBaseMapperProvider assetBaseMapperProvider = new AssetBaseMapperProvider(
+                List.of(new SerialPartMapper(), new BatchMapper(), new JustInSequenceMapper(), new PartAsPlannedMapper()),
+                List.of(),
+                List.of(new SingleLevelBomAsBuiltMapper(), new SingleLevelBomAsPlannedMapper(), new SingleLevelUsageAsBuiltMapper()),
+                List.of(new PartSiteInformationAsPlannedMapper()),
+                List.of(new TractionBatteryCodeMapper()));
+        return new IrsResponseAssetMapper(assetBaseMapperProvider, objectMapper, bpnService);
+    }
+}
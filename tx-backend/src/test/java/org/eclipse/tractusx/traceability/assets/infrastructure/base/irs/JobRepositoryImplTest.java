@@ -19,6 +19,8 @@
 
 package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs;
 
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job.IrsJobRegistrationPipeline;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job.IrsJobRegistry;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.BomLifecycle;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.request.RegisterJobRequest;
 import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Direction;
@@ -27,6 +29,8 @@ import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.re
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepository;
 import org.eclipse.tractusx.traceability.common.model.BPN;
 import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -35,11 +39,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,17 +77,78 @@ class JobRepositoryImplTest {
     @Mock
     private IrsResponseAssetMapper assetMapperFactory;
 
+    @Mock
+    private IrsJobRegistry irsJobRegistry;
+
+    @Mock
+    private IrsJobRegistrationPipeline irsJobRegistrationPipeline;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(irsJobRegistrationPipeline.throttled(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
     @ParameterizedTest
     @MethodSource("provideDirections")
     void testFindAssets_completedJob_returnsConvertedAssets(Direction direction) {
         // Given
         when(traceabilityProperties.getBpn()).thenReturn(BPN.of("test"));
+        when(irsJobRegistry.reserve("1", direction, BomLifecycle.AS_BUILT, Aspect.downwardAspectsForAssetsAsBuilt())).thenReturn(Optional.of(7L));
+        when(jobClient.registerJob(any(RegisterJobRequest.class))).thenReturn("jobId");
 
         // When
         jobRepositoryImpl.createJobToResolveAssets("1", direction, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
 
         // Then
         verify(jobClient, times(1)).registerJob(any(RegisterJobRequest.class));
+        verify(irsJobRegistry).registered(7L, "jobId");
+    }
+
+    @Test
+    void testCreateJobToResolveAssets_jobInFlight_coalescesRequest() {
+        // Given
+        when(irsJobRegistry.reserve("1", Direction.DOWNWARD, BomLifecycle.AS_BUILT, Aspect.downwardAspectsForAssetsAsBuilt())).thenReturn(Optional.empty());
+
+        // When
+        jobRepositoryImpl.createJobToResolveAssets("1", Direction.DOWNWARD, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
+
+        // Then
+        verifyNoInteractions(jobClient);
+    }
+
+    @Test
+    void testCreateJobToResolveAssets_registrationFails_releasesReservation() {
+        // Given
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("test"));
+        when(irsJobRegistry.reserve("1", Direction.DOWNWARD, BomLifecycle.AS_BUILT, Aspect.downwardAspectsForAssetsAsBuilt())).thenReturn(Optional.of(7L));
+        when(jobClient.registerJob(any(RegisterJobRequest.class))).thenThrow(new IllegalStateException("IRS unavailable"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> jobRepositoryImpl.createJobToResolveAssets("1", Direction.DOWNWARD, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT));
+
+        // Then
+        verify(irsJobRegistry).registrationFailed(7L);
+    }
+
+    @Test
+    void testCreateJobsToResolveAssets_registersJobPerAssetThroughPipeline() {
+        // Given
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("test"));
+        when(irsJobRegistry.reserve(any(), any(), any(), any())).thenReturn(Optional.of(7L));
+        when(jobClient.registerJob(any(RegisterJobRequest.class))).thenReturn("jobId");
+        doAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            Consumer<String> registration = invocation.getArgument(1);
+            ids.forEach(registration);
+            return null;
+        }).when(irsJobRegistrationPipeline).registerAll(any(), any());
+
+        // When
+        jobRepositoryImpl.createJobsToResolveAssets(List.of("1", "2", "3"), Direction.DOWNWARD, Aspect.downwardAspectsForAssetsAsBuilt(), BomLifecycle.AS_BUILT);
+
+        // Then
+        verify(jobClient, times(3)).registerJob(any(RegisterJobRequest.class));
+        verify(irsJobRegistrationPipeline, times(3)).throttled(any());
     }
 
     private static Stream<Arguments> provideDirections() {
@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.callback;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.assets.domain.base.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IrsCallbackWorkerTest {
+
+    @Mock
+    IrsCallbackQueue irsCallbackQueue;
+
+    @Mock
+    JobRepository jobRepository;
+
+    SimpleMeterRegistry meterRegistry;
+
+    IrsCallbackWorker irsCallbackWorker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        irsCallbackWorker = new IrsCallbackWorker(irsCallbackQueue, jobRepository, new SyncTaskExecutor(), meterRegistry,
+                2, 3, Duration.ofSeconds(10), Duration.ofMinutes(15), Duration.ofDays(1));
+    }
+
+    @Test
+    void givenDueCallbacks_whenDrain_thenProcessAndCompleteThem() {
+        // given
+        when(irsCallbackQueue.claim(anyInt(), any()))
+                .thenReturn(List.of(callback("job-1", 1), callback("job-2", 1)))
+                .thenReturn(List.of());
+
+        // when
+        int processed = irsCallbackWorker.drain();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        verify(jobRepository).handleJobFinishedCallback("job-1", "COMPLETED");
+        verify(jobRepository).handleJobFinishedCallback("job-2", "COMPLETED");
+        verify(irsCallbackQueue).complete("job-1");
+        verify(irsCallbackQueue).complete("job-2");
+        verify(irsCallbackQueue).purge(Duration.ofDays(1));
+        assertThat(meterRegistry.get("irs.callback.processing").tag("outcome", "success").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void givenFailingCallback_whenProcess_thenRetryWithBackoff() {
+        // given
+        doThrow(new IllegalStateException("IRS not reachable")).when(jobRepository).handleJobFinishedCallback("job-1", "COMPLETED");
+
+        // when
+        irsCallbackWorker.process(callback("job-1", 2));
+
+        // then
+        verify(irsCallbackQueue).fail("job-1", "IRS not reachable", Duration.ofSeconds(20));
+        assertThat(meterRegistry.get("irs.callback.processing").tag("outcome", "retry").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFailingCallbackInLastAttempt_whenProcess_thenMarkAsFailed() {
+        // given
+        doThrow(new IllegalStateException("IRS not reachable")).when(jobRepository).handleJobFinishedCallback("job-1", "COMPLETED");
+
+        // when
+        irsCallbackWorker.process(callback("job-1", 3));
+
+        // then
+        verify(irsCallbackQueue).fail(eq("job-1"), eq("IRS not reachable"), isNull());
+        assertThat(meterRegistry.get("irs.callback.processing").tag("outcome", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenAttempts_whenRetryDelay_thenDoubleBackoffPerAttempt() {
+        assertThat(irsCallbackWorker.retryDelay(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(irsCallbackWorker.retryDelay(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(irsCallbackWorker.retryDelay(4)).isEqualTo(Duration.ofSeconds(80));
+    }
+
+    private static IrsCallbackEntity callback(String jobId, int attempts) {
+        IrsCallbackEntity callback = new IrsCallbackEntity();
+        callback.setJobId(jobId);
+        callback.setJobState("COMPLETED");
+        callback.setStatus(IrsCallbackStatus.PROCESSING);
+        callback.setAttempts(attempts);
+        return callback;
+    }
+}
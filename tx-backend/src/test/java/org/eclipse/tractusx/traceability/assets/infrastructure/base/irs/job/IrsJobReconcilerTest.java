@@ -0,0 +1,163 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.JobClient;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.callback.IrsCallbackQueue;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IrsJobReconcilerTest {
+
+    @Mock
+    IrsJobRegistry irsJobRegistry;
+
+    @Mock
+    IrsJobRegistrationPipeline irsJobRegistrationPipeline;
+
+    @Mock
+    IrsCallbackQueue irsCallbackQueue;
+
+    @Mock
+    JobClient jobClient;
+
+    SimpleMeterRegistry meterRegistry;
+
+    IrsJobReconciler irsJobReconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        irsJobReconciler = new IrsJobReconciler(irsJobRegistry, irsJobRegistrationPipeline, irsCallbackQueue, jobClient, meterRegistry, 2);
+        lenient().when(irsJobRegistrationPipeline.throttled(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    void givenOverdueJobs_whenReconcile_thenClaimBatchesUntilNoneAreLeft() {
+        // given
+        when(irsJobRegistry.claimOverdue(2))
+                .thenReturn(List.of(job("job-1"), job("job-2")))
+                .thenReturn(List.of(job("job-3")));
+        when(jobClient.getJobStatus(any())).thenReturn(jobStatus("RUNNING"));
+
+        // when
+        int polled = irsJobReconciler.reconcile();
+
+        // then
+        assertThat(polled).isEqualTo(3);
+        verify(irsJobRegistry, times(2)).claimOverdue(2);
+        verify(irsJobRegistry).stillRunning("job-3");
+        assertThat(meterRegistry.get("irs.jobs.polls").tag("outcome", "running").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void givenCompletedJob_whenPoll_thenProcessItLikeItsCallback() {
+        // given
+        when(jobClient.getJobStatus("job-1")).thenReturn(jobStatus("COMPLETED"));
+
+        // when
+        irsJobReconciler.poll("job-1");
+
+        // then
+        verify(irsJobRegistry).finish("job-1", "COMPLETED");
+        verify(irsCallbackQueue).enqueue("job-1", "COMPLETED");
+        verify(irsJobRegistry, never()).stillRunning(any());
+    }
+
+    @Test
+    void givenJobUnknownToIrs_whenPoll_thenMarkItAsLost() {
+        // given
+        when(jobClient.getJobStatus("job-1")).thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null));
+
+        // when
+        irsJobReconciler.poll("job-1");
+
+        // then
+        verify(irsJobRegistry).lost("job-1");
+        assertThat(meterRegistry.get("irs.jobs.polls").tag("outcome", "lost").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenIrsUnavailable_whenPoll_thenKeepJobForNextPoll() {
+        // given
+        when(jobClient.getJobStatus("job-1")).thenThrow(new IllegalStateException("IRS unavailable"));
+
+        // when
+        irsJobReconciler.poll("job-1");
+
+        // then
+        verify(irsJobRegistry, never()).lost(any());
+        verify(irsJobRegistry, never()).finish(any(), any());
+        assertThat(meterRegistry.get("irs.jobs.polls").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenRepeatedPolls_whenPollInterval_thenDoubleUpToMaximum() {
+        // given
+        IrsJobRegistry registry = new IrsJobRegistry(mock(Clock.class), meterRegistry, Duration.ofHours(3), Duration.ofMinutes(15), Duration.ofHours(2));
+
+        // when / then
+        assertThat(registry.pollInterval(1)).isEqualTo(Duration.ofMinutes(15));
+        assertThat(registry.pollInterval(2)).isEqualTo(Duration.ofMinutes(30));
+        assertThat(registry.pollInterval(4)).isEqualTo(Duration.ofHours(2));
+        assertThat(registry.pollInterval(20)).isEqualTo(Duration.ofHours(2));
+    }
+
+    @Test
+    void givenMaxPollIntervalNotShorterThanInFlightTimeout_whenCreateRegistry_thenReject() {
+        // when / then
+        assertThatThrownBy(() -> new IrsJobRegistry(mock(Clock.class), meterRegistry, Duration.ofHours(1), Duration.ofMinutes(15), Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxPollInterval");
+    }
+
+    private static IrsJobEntity job(String jobId) {
+        IrsJobEntity job = new IrsJobEntity();
+        job.setJobId(jobId);
+        return job;
+    }
+
+    private static JobStatus jobStatus(String state) {
+        return new JobStatus("job", state, null, null, "urn:uuid:1", null);
+    }
+}
@@ -0,0 +1,167 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IrsJobRegistrationPipelineTest {
+
+    private static final int PARALLELISM = 3;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private IrsJobRegistrationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(10);
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new IrsJobRegistrationPipeline(executor, meterRegistry, PARALLELISM, 1000, 3, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenManyAssets_whenRegisterAll_thenBoundParallelismAndWaitForAll() {
+        // given
+        List<Integer> items = IntStream.range(0, 30).boxed().toList();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger processed = new AtomicInteger();
+
+        // when
+        Set<Integer> registered = pipeline.registerAll(items, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+            processed.incrementAndGet();
+            if (item % 10 == 0) {
+                throw new IllegalStateException("IRS unavailable");
+            }
+        });
+
+        // then
+        assertThat(processed).hasValue(30);
+        assertThat(registered).hasSize(27).doesNotContain(0, 10, 20);
+        assertThat(maxRunning.get()).isBetween(1, PARALLELISM);
+        assertThat(meterRegistry.get("irs.jobs.registrations").tag("outcome", "registered").counter().count()).isEqualTo(27);
+        assertThat(meterRegistry.get("irs.jobs.registrations").tag("outcome", "failed").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("irs.jobs.registrations.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void givenTooManyRequests_whenThrottled_thenRetryAfterBackoff() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String jobId = pipeline.throttled(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", retryAfter("0"), null, null);
+            }
+            return "jobId";
+        });
+
+        // then
+        assertThat(jobId).isEqualTo("jobId");
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("irs.jobs.registrations.throttled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenServiceUnavailable_whenThrottledExceedsMaxAttempts_thenRethrow() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when / then
+        assertThatThrownBy(() -> pipeline.throttled(() -> {
+            calls.incrementAndGet();
+            throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", HttpHeaders.EMPTY, null, null);
+        })).isInstanceOf(HttpServerErrorException.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void givenBadRequest_whenThrottled_thenRethrowWithoutRetry() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when / then
+        assertThatThrownBy(() -> pipeline.throttled(() -> {
+            calls.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, null, null);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void givenRateLimit_whenTokensAreUsedUp_thenWaitForRefillAndPause() {
+        // given
+        long[] now = {0};
+        TokenBucket tokenBucket = new TokenBucket(2, () -> now[0]);
+
+        // when / then
+        assertThat(tokenBucket.tryAcquire()).isZero();
+        assertThat(tokenBucket.tryAcquire()).isZero();
+        assertThat(tokenBucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        now[0] += TimeUnit.MILLISECONDS.toNanos(500);
+        assertThat(tokenBucket.tryAcquire()).isZero();
+
+        tokenBucket.pause(Duration.ofSeconds(3));
+        now[0] += TimeUnit.SECONDS.toNanos(1);
+        assertThat(tokenBucket.tryAcquire()).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    private static HttpHeaders retryAfter(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, value);
+        return headers;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelBomAsBuiltMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.SerialPartMapper;
+import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
+import org.eclipse.tractusx.traceability.common.benchmark.Benchmark;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.IrsResponseAssetMapperTest.MANUFACTURER_BPN;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.IrsResponseAssetMapperTest.syntheticResponse;
+import static org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory.IrsResponseAssetMapperTest.syntheticShells;
+import static org.eclipse.tractusx.traceability.common.benchmark.BenchmarkSupport.measure;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Maps IRS responses of a binary part tree with up to 50k nodes.
+ */
+@Slf4j
+@Benchmark
+class IrsResponseAssetMapperBenchmark {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    void mapLargeResponse(int nodes) {
+        BpnService bpnService = mock(BpnService.class);
+        when(bpnService.findByBpns(anyCollection())).thenReturn(Map.of(MANUFACTURER_BPN, "Manufacturer"));
+        AssetBaseMapperProvider assetBaseMapperProvider = new AssetBaseMapperProvider(
+                List.of(new SerialPartMapper()), List.of(), List.of(new SingleLevelBomAsBuiltMapper()), List.of(), List.of());
+        IrsResponseAssetMapper irsResponseAssetMapper = new IrsResponseAssetMapper(assetBaseMapperProvider, new ObjectMapper(), bpnService);
+        IRSResponse irsResponse = syntheticResponse(nodes, syntheticShells(nodes));
+
+        Duration mapping = measure(() -> assertThat(irsResponseAssetMapper.toAssetBaseList(irsResponse)).hasSize(nodes));
+
+        log.info("Mapped IRS response with {} nodes in {} ms", nodes, mapping.toMillis());
+    }
+}
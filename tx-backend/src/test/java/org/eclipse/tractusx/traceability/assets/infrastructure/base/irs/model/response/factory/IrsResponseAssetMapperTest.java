@@ -0,0 +1,165 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.factory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.irs.component.GlobalAssetIdentification;
+import org.eclipse.tractusx.irs.component.LinkedItem;
+import org.eclipse.tractusx.irs.component.Relationship;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IRSResponse;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.IrsSubmodel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.JobStatus;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Parameter;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.Shell;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.relationship.SingleLevelBomAsBuiltMapper;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.model.response.mapping.submodel.SerialPartMapper;
+import org.eclipse.tractusx.traceability.bpn.domain.service.BpnService;
+import org.eclipse.tractusx.traceability.generated.SerialPart300Schema;
+import org.eclipse.tractusx.traceability.generated.UrnSammIoCatenaxSerialPart300KeyValueList;
+import org.eclipse.tractusx.traceability.generated.UrnSammIoCatenaxSerialPart300ManufacturingCharacteristic;
+import org.eclipse.tractusx.traceability.generated.UrnSammIoCatenaxSerialPart300PartTypeInformationCharacteristic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IrsResponseAssetMapperTest {
+
+    private static final String SERIAL_PART_ASPECT = "urn:samm:io.catenax.serial_part:3.0.0#SerialPart";
+    static final String MANUFACTURER_BPN = "BPNL00000003CML1";
+
+    @Mock
+    private BpnService bpnService;
+
+    private IrsResponseAssetMapper irsResponseAssetMapper;
+
+    @BeforeEach
+    void setUp() {
+        AssetBaseMapperProvider assetBaseMapperProvider = new AssetBaseMapperProvider(
+                List.of(new SerialPartMapper()), List.of(), List.of(new SingleLevelBomAsBuiltMapper()), List.of(), List.of());
+        irsResponseAssetMapper = new IrsResponseAssetMapper(assetBaseMapperProvider, new ObjectMapper(), bpnService);
+        when(bpnService.findByBpns(anyCollection())).thenReturn(Map.of(MANUFACTURER_BPN, "Manufacturer"));
+    }
+
+    @Test
+    void givenShellsAndRelationships_whenToAssetBaseList_thenEnrichesAssetsFromIndex() {
+        // given
+        List<Shell> shells = new ArrayList<>(syntheticShells(3));
+        shells.add(0, new Shell("firstContract", new Shell.Payload(catenaXId(1), null, "shellWithoutIdShort")));
+        IRSResponse irsResponse = syntheticResponse(3, shells);
+
+        // when
+        List<AssetBase> assets = irsResponseAssetMapper.toAssetBaseList(irsResponse);
+
+        // then
+        assertThat(assets).hasSize(3);
+        AssetBase root = assets.get(0);
+        assertThat(root.getOwner()).isEqualTo(Owner.OWN);
+        assertThat(root.getIdShort()).isEqualTo("idShort-0");
+        assertThat(root.getContractAgreementId()).isEqualTo("contract-0");
+        assertThat(root.getManufacturerName()).isEqualTo("Manufacturer");
+        assertThat(root.getChildRelations()).extracting(Descriptions::id).containsExactly(catenaXId(1), catenaXId(2));
+        assertThat(root.getParentRelations()).isEmpty();
+
+        AssetBase child = assets.get(1);
+        assertThat(child.getOwner()).isEqualTo(Owner.SUPPLIER);
+        assertThat(child.getIdShort()).isEqualTo("idShort-1");
+        assertThat(child.getContractAgreementId()).isEqualTo("firstContract");
+        assertThat(child.getChildRelations()).isEmpty();
+    }
+
+    @Test
+    void givenPartTree_whenToAssetBaseList_thenMapsAllNodes() {
+        // given
+        int nodes = 100;
+        IRSResponse irsResponse = syntheticResponse(nodes, syntheticShells(nodes));
+
+        // when
+        List<AssetBase> assets = irsResponseAssetMapper.toAssetBaseList(irsResponse);
+
+        // then
+        assertThat(assets).hasSize(nodes);
+        assertThat(assets.get(nodes - 1).getIdShort()).isEqualTo("idShort-" + (nodes - 1));
+        assertThat(assets.get(nodes - 1).getParentRelations()).isEmpty();
+        assertThat(assets.get(0).getChildRelations()).hasSize(2);
+    }
+
+    // binary part tree: one serial part per node, every node except the root is a child of node (i - 1) / 2
+    static IRSResponse syntheticResponse(int nodes, List<Shell> shells) {
+        List<IrsSubmodel> submodels = new ArrayList<>(nodes);
+        List<Relationship> relationships = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            submodels.add(new IrsSubmodel(SERIAL_PART_ASPECT, serialPart(catenaXId(i))));
+            if (i > 0) {
+                relationships.add(Relationship.builder()
+                        .catenaXId(GlobalAssetIdentification.of(catenaXId((i - 1) / 2)))
+                        .linkedItem(LinkedItem.builder().childCatenaXId(GlobalAssetIdentification.of(catenaXId(i))).build())
+                        .aspectType("SingleLevelBomAsBuilt")
+                        .build());
+            }
+        }
+        JobStatus jobStatus = new JobStatus("jobId", "COMPLETED", null, null, catenaXId(0), new Parameter("downward", "asBuilt", MANUFACTURER_BPN));
+        return new IRSResponse(jobStatus, relationships, shells, submodels, List.of(), List.of());
+    }
+
+    static List<Shell> syntheticShells(int nodes) {
+        List<Shell> shells = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            shells.add(new Shell("contract-" + i, new Shell.Payload(catenaXId(i), "idShort-" + i, "shell-" + i)));
+        }
+        return shells;
+    }
+
+    private static SerialPart300Schema serialPart(String catenaXId) {
+        UrnSammIoCatenaxSerialPart300KeyValueList manufacturerId = new UrnSammIoCatenaxSerialPart300KeyValueList();
+        manufacturerId.setKey("manufacturerId");
+        manufacturerId.setValue(MANUFACTURER_BPN);
+        UrnSammIoCatenaxSerialPart300ManufacturingCharacteristic manufacturingInformation = new UrnSammIoCatenaxSerialPart300ManufacturingCharacteristic();
+        manufacturingInformation.setDate("2024-01-01T00:00:00Z");
+        manufacturingInformation.setCountry("DEU");
+        UrnSammIoCatenaxSerialPart300PartTypeInformationCharacteristic partTypeInformation = new UrnSammIoCatenaxSerialPart300PartTypeInformationCharacteristic();
+        partTypeInformation.setManufacturerPartId("part-" + catenaXId);
+        partTypeInformation.setNameAtManufacturer("name-" + catenaXId);
+
+        SerialPart300Schema serialPart = new SerialPart300Schema();
+        serialPart.setCatenaXId(catenaXId);
+        serialPart.setLocalIdentifiers(Set.of(manufacturerId));
+        serialPart.setManufacturingInformation(manufacturingInformation);
+        serialPart.setPartTypeInformation(partTypeInformation);
+        return serialPart;
+    }
+
+    private static String catenaXId(int node) {
+        return "urn:uuid:00000000-0000-0000-0000-%012d".formatted(node);
+    }
+}
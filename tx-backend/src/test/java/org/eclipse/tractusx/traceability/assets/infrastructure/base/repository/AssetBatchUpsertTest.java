@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.assets.infrastructure.base.repository;
+
+import jakarta.persistence.EntityManager;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.model.AssetBaseEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetBatchUpsertTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    void givenNewTransientAndSynchronizedAssets_whenSaveAllIfNotInIrsSync_thenOnlyNewAndTransientAssetsAreWritten() {
+        // given
+        AssetBase newAsset = AssetBase.builder().id("new").build();
+        AssetBase transientAsset = AssetBase.builder().id("transient").build();
+        AssetBase synchronizedAsset = AssetBase.builder().id("synchronized").build();
+        List<List<String>> loadedIds = new ArrayList<>();
+        Function<List<String>, List<AssetBaseEntity>> existingLoader = ids -> {
+            loadedIds.add(ids);
+            return List.of();
+        };
+        when(entityManager.merge(argThat((AssetBaseEntity entity) -> entity.getId().equals("transient")))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<AssetBase> result = AssetBatchUpsert.saveAllIfNotInIrsSync(List.of(newAsset, transientAsset, synchronizedAsset),
+                ids -> List.of(new Object[]{"transient", ImportState.TRANSIENT}, new Object[]{"synchronized", ImportState.PERSISTENT}),
+                existingLoader, AssetBatchUpsertTest::toEntity, AssetBatchUpsertTest::toDomain, entityManager);
+
+        // then
+        assertThat(result).extracting(AssetBase::getId).containsExactly("new", "transient");
+        assertThat(loadedIds).containsExactly(List.of("transient"));
+        assertThat(transientAsset.getImportNote()).isEqualTo(ImportNote.TRANSIENT_UPDATED);
+        assertThat(newAsset.getImportNote()).isNull();
+        InOrder order = inOrder(entityManager);
+        order.verify(entityManager).persist(argThat((AssetBaseEntity entity) -> entity.getId().equals("new")));
+        order.verify(entityManager).merge(argThat((AssetBaseEntity entity) -> entity.getId().equals("transient")));
+        order.verify(entityManager).flush();
+        order.verify(entityManager).clear();
+        verify(entityManager, never()).persist(argThat((AssetBaseEntity entity) -> entity.getId().equals("synchronized")));
+    }
+
+    @Test
+    void givenOnlyNewAssets_whenSaveAllIfNotInIrsSync_thenNoEntitiesAreLoaded() {
+        // given
+        AssetBase asset = AssetBase.builder().id("new").build();
+        List<List<String>> loadedIds = new ArrayList<>();
+
+        // when
+        List<AssetBase> result = AssetBatchUpsert.saveAllIfNotInIrsSync(List.of(asset), ids -> List.of(),
+                ids -> {
+                    loadedIds.add(ids);
+                    return List.<AssetBaseEntity>of();
+                }, AssetBatchUpsertTest::toEntity, AssetBatchUpsertTest::toDomain, entityManager);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(loadedIds).isEmpty();
+        verify(entityManager, times(1)).persist(argThat((AssetBaseEntity entity) -> entity.getId().equals("new")));
+    }
+
+    @Test
+    void givenAssetContainedTwice_whenSaveAllIfNotInIrsSync_thenItIsPersistedOnceAndThenMerged() {
+        // given
+        AssetBase first = AssetBase.builder().id("new").build();
+        AssetBase duplicate = AssetBase.builder().id("new").build();
+        when(entityManager.merge(argThat((AssetBaseEntity entity) -> entity.getId().equals("new")))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<AssetBase> result = AssetBatchUpsert.saveAllIfNotInIrsSync(List.of(first, duplicate), ids -> List.of(),
+                ids -> List.<AssetBaseEntity>of(), AssetBatchUpsertTest::toEntity, AssetBatchUpsertTest::toDomain, entityManager);
+
+        // then
+        assertThat(result).hasSize(2);
+        verify(entityManager, times(1)).persist(argThat((AssetBaseEntity entity) -> entity.getId().equals("new")));
+        verify(entityManager, times(1)).merge(argThat((AssetBaseEntity entity) -> entity.getId().equals("new")));
+    }
+
+    private static AssetBaseEntity toEntity(AssetBase asset) {
+        return AssetBaseEntity.builder().id(asset.getId()).importNote(asset.getImportNote()).build();
+    }
+
+    private static AssetBase toDomain(AssetBaseEntity entity) {
+        return AssetBase.builder().id(entity.getId()).importNote(entity.getImportNote()).build();
+    }
+}
@@ -22,6 +22,7 @@
 package org.eclipse.tractusx.traceability.assets.infrastructure.scheduler;
 
 import org.eclipse.tractusx.irs.registryclient.exceptions.RegistryServiceException;
+import org.eclipse.tractusx.traceability.common.scheduler.SchedulerLock;
 import org.eclipse.tractusx.traceability.shelldescriptor.domain.service.DecentralRegistryServiceImpl;
 import org.eclipse.tractusx.traceability.shelldescriptor.application.AssetsRefreshJob;
 import org.junit.jupiter.api.Test;
@@ -32,7 +33,12 @@ import org.springframework.scheduling.annotation.Scheduled;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class AssetsRefreshJobTest {
@@ -40,17 +46,33 @@ class AssetsRefreshJobTest {
     @Mock
     private DecentralRegistryServiceImpl registryFacade;
 
+    @Mock
+    private SchedulerLock schedulerLock;
+
     @Test
     void refresh_shouldCallLoadShellDescriptors() throws RegistryServiceException {
-        AssetsRefreshJob job = new AssetsRefreshJob(registryFacade);
+        when(schedulerLock.runExclusively(eq("assetsRefreshJob"), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        AssetsRefreshJob job = new AssetsRefreshJob(registryFacade, schedulerLock);
         job.refresh();
         verify(registryFacade).synchronizeAssets();
+        verify(registryFacade, never()).synchronizeAssetsAsync();
+    }
+
+    @Test
+    void refresh_shouldSkipWhenRunningOnAnotherInstance() {
+        when(schedulerLock.runExclusively(eq("assetsRefreshJob"), any())).thenReturn(false);
+        AssetsRefreshJob job = new AssetsRefreshJob(registryFacade, schedulerLock);
+        job.refresh();
+        verifyNoInteractions(registryFacade);
     }
 
     @Test
     void refresh_shouldBeScheduledForEveryTwoHours() throws NoSuchMethodException {
         Scheduled scheduledAnnotation = AssetsRefreshJob.class.getDeclaredMethod("refresh").getAnnotation(Scheduled.class);
         String cronExpression = scheduledAnnotation.cron();
-        assertEquals("0 0 */2 * * ?", cronExpression);
+        assertEquals("${traceability.assetsRefreshCron:0 0 */2 * * ?}", cronExpression);
     }
 }
@@ -0,0 +1,87 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SnapshotCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Test
+    void givenCachedValue_whenGetWithinTimeToLive_thenLoaderIsNotCalledAgain() {
+        SnapshotCache<Integer> cache = new SnapshotCache<>(Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(loads::incrementAndGet);
+        Integer result = cache.get(loads::incrementAndGet);
+
+        assertThat(result).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenExpiredValue_whenGet_thenValueIsReloaded() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(31));
+        SnapshotCache<Integer> cache = new SnapshotCache<>(Duration.ofSeconds(30), clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(loads::incrementAndGet);
+        Integer result = cache.get(loads::incrementAndGet);
+
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void givenInvalidatedValue_whenGet_thenValueIsReloaded() {
+        SnapshotCache<Integer> cache = new SnapshotCache<>(Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(loads::incrementAndGet);
+        cache.invalidate();
+        Integer result = cache.get(loads::incrementAndGet);
+
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_whenGet_thenLoadedValueIsNotKept() {
+        SnapshotCache<Integer> cache = new SnapshotCache<>(Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(() -> {
+            cache.invalidate();
+            return loads.incrementAndGet();
+        });
+        Integer result = cache.get(loads::incrementAndGet);
+
+        assertThat(result).isEqualTo(2);
+    }
+}
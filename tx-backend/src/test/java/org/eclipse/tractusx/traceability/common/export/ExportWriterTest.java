@@ -0,0 +1,81 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportWriterTest {
+
+    private static final List<ExportColumn<Map<String, Object>>> COLUMNS = List.of(
+            new ExportColumn<>("id", row -> row.get("id")),
+            new ExportColumn<>("owner", row -> row.get("owner")),
+            new ExportColumn<>("created", row -> row.get("created")),
+            new ExportColumn<>("count", row -> row.get("count")));
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void givenRows_whenWriteNdjson_thenOneJsonObjectPerLineIsWritten() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExportWriter<Map<String, Object>> exportWriter = new ExportWriter<>(ExportFormat.NDJSON, COLUMNS, objectMapper, outputStream);
+
+        // when
+        exportWriter.write(Map.of("id", "a", "owner", Owner.OWN, "created", Instant.parse("2024-01-01T10:00:00Z"), "count", 2L));
+        exportWriter.write(Map.of("id", "b"));
+        exportWriter.flush();
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                {"id":"a","owner":"OWN","created":"2024-01-01T10:00:00Z","count":2}
+                {"id":"b","owner":null,"created":null,"count":null}
+                """);
+    }
+
+    @Test
+    void givenValuesWithSeparators_whenWriteCsv_thenValuesAreQuoted() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExportWriter<Map<String, Object>> exportWriter = new ExportWriter<>(ExportFormat.CSV, COLUMNS, objectMapper, outputStream);
+
+        // when
+        exportWriter.write(Map.of("id", "a,\"b\"", "owner", Owner.SUPPLIER, "count", 1L));
+        exportWriter.flush();
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,owner,created,count
+                "a,""b\""",SUPPLIER,,1
+                """);
+    }
+}
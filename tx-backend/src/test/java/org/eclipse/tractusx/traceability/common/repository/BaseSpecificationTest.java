@@ -0,0 +1,192 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaFilter;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaOperator;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaStrategy;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationSeverity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BaseSpecificationTest {
+
+    @Mock
+    private Root<Object> root;
+
+    @Mock
+    private Path<Object> path;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder builder;
+
+    @Mock
+    private Predicate predicate;
+
+    @Test
+    void givenEnumField_whenEqual_thenCompareWithEnumConstant() {
+        givenField("owner", Owner.class);
+        when(builder.equal(path, Owner.OWN)).thenReturn(predicate);
+
+        Predicate result = toPredicate("owner", SearchCriteriaStrategy.EQUAL, "OWN");
+
+        assertThat(result).isEqualTo(predicate);
+        verify(path, never()).as(any());
+    }
+
+    @Test
+    void givenEnumField_whenEqualWithUnknownValue_thenMatchNothing() {
+        givenField("owner", Owner.class);
+        when(builder.disjunction()).thenReturn(predicate);
+
+        Predicate result = toPredicate("owner", SearchCriteriaStrategy.EQUAL, "UNKNOWN");
+
+        assertThat(result).isEqualTo(predicate);
+    }
+
+    @Test
+    void givenEnumField_whenStartsWith_thenMatchingEnumConstants() {
+        givenField("owner", Owner.class);
+        when(path.in(List.of(Owner.SUPPLIER))).thenReturn(predicate);
+
+        Predicate result = toPredicate("owner", SearchCriteriaStrategy.STARTS_WITH, "SUP");
+
+        assertThat(result).isEqualTo(predicate);
+    }
+
+    @Test
+    void givenStringField_whenStartsWith_thenLikeOnPlainColumn() {
+        givenField("idShort", String.class);
+        doReturn(predicate).when(builder).like(any(), eq("abc%"));
+
+        Predicate result = toPredicate("idShort", SearchCriteriaStrategy.STARTS_WITH, "abc");
+
+        assertThat(result).isEqualTo(predicate);
+        verify(path, never()).as(any());
+    }
+
+    @Test
+    void givenLongField_whenNotificationCountEqual_thenCompareWithNumber() {
+        givenField("receivedActiveAlerts", Long.class);
+        when(builder.equal(path, 2L)).thenReturn(predicate);
+
+        Predicate result = toPredicate("receivedActiveAlerts", SearchCriteriaStrategy.NOTIFICATION_COUNT_EQUAL, "2");
+
+        assertThat(result).isEqualTo(predicate);
+    }
+
+    @Test
+    void givenInstantField_whenAfterLocalDate_thenCompareWithStartOfDayInstant() {
+        givenField("createdDate", Instant.class);
+        Instant startOfDay = LocalDate.parse("2024-03-01").atStartOfDay(ZoneId.systemDefault()).toInstant();
+        doReturn(predicate).when(builder).greaterThanOrEqualTo(any(Path.class), eq(startOfDay));
+
+        Predicate result = toPredicate("createdDate", SearchCriteriaStrategy.AFTER_LOCAL_DATE, "2024-03-01");
+
+        assertThat(result).isEqualTo(predicate);
+        verify(path, never()).as(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenCollectionAssociationField_whenEqual_thenCorrelatedExistsSubqueryInsteadOfJoin() {
+        EntityType<Object> model = mock(EntityType.class);
+        Attribute<Object, ?> messages = mock(Attribute.class);
+        Subquery<Integer> subquery = mock(Subquery.class);
+        Root<Object> correlatedRoot = mock(Root.class);
+        Join<Object, Object> messagesJoin = mock(Join.class);
+        when(root.getModel()).thenReturn(model);
+        doReturn(messages).when(model).getAttribute("messages");
+        when(messages.isCollection()).thenReturn(true);
+        doReturn(subquery).when(query).subquery(Integer.class);
+        when(subquery.correlate(root)).thenReturn(correlatedRoot);
+        when(correlatedRoot.join("messages")).thenReturn(messagesJoin);
+        when(messagesJoin.get("severity")).thenReturn(path);
+        doReturn(NotificationSeverity.class).when(path).getJavaType();
+        Predicate severityPredicate = mock(Predicate.class);
+        when(builder.equal(path, NotificationSeverity.MINOR)).thenReturn(severityPredicate);
+        when(subquery.select(any())).thenReturn(subquery);
+        when(subquery.where(severityPredicate)).thenReturn(subquery);
+        when(builder.exists(subquery)).thenReturn(predicate);
+
+        Predicate result = toPredicate("messages_severity", SearchCriteriaStrategy.EQUAL, "MINOR");
+
+        assertThat(result).isEqualTo(predicate);
+        verify(root, never()).join(anyString());
+    }
+
+    private void givenField(String fieldName, Class<?> fieldType) {
+        when(root.get(fieldName)).thenReturn(path);
+        doReturn(fieldType).when(path).getJavaType();
+    }
+
+    private Predicate toPredicate(String key, SearchCriteriaStrategy strategy, String value) {
+        SearchCriteriaFilter filter = SearchCriteriaFilter.builder()
+                .key(key)
+                .strategy(strategy)
+                .value(value)
+                .operator(SearchCriteriaOperator.AND)
+                .build();
+        return new TestSpecification(filter).toPredicate(root, query, builder);
+    }
+
+    private static class TestSpecification extends BaseSpecification<Object> {
+
+        TestSpecification(SearchCriteriaFilter searchCriteriaFilter) {
+            super(searchCriteriaFilter);
+        }
+
+        @Override
+        public Predicate toPredicate(Root<Object> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+            return createPredicate(getSearchCriteriaFilter(), root, query, builder);
+        }
+    }
+}
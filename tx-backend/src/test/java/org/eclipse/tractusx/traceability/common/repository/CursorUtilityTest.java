@@ -0,0 +1,110 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.eclipse.tractusx.traceability.common.model.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class CursorUtilityTest {
+
+    private static final Sort CREATED_ON_DESC_ID_ASC = Sort.by(Sort.Order.desc("createdOn"), Sort.Order.asc("id"));
+
+    @Test
+    void givenCursorOfRow_whenDecodeWithSameSort_thenReturnSortKeyValuesInOrder() {
+        // given
+        String cursor = CursorUtility.encode(new Row("urn:uuid:1", Instant.parse("2024-03-01T10:15:30Z")), CREATED_ON_DESC_ID_ASC);
+
+        // when
+        Map<String, Object> keys = CursorUtility.decode(cursor, CREATED_ON_DESC_ID_ASC);
+
+        // then
+        assertThat(keys).containsExactly(entry("createdOn", "2024-03-01T10:15:30Z"), entry("id", "urn:uuid:1"));
+    }
+
+    @Test
+    void givenCursorOfRowWithNullValue_whenDecode_thenKeepNullValue() {
+        // given
+        String cursor = CursorUtility.encode(new Row("urn:uuid:1", null), CREATED_ON_DESC_ID_ASC);
+
+        // when
+        Map<String, Object> keys = CursorUtility.decode(cursor, CREATED_ON_DESC_ID_ASC);
+
+        // then
+        assertThat(keys).containsExactly(entry("createdOn", null), entry("id", "urn:uuid:1"));
+    }
+
+    @Test
+    void givenBlankCursor_whenDecode_thenReturnNoKeys() {
+        assertThat(CursorUtility.decode("", CREATED_ON_DESC_ID_ASC)).isEmpty();
+    }
+
+    @Test
+    void givenTamperedCursor_whenDecode_thenReject() {
+        assertThatThrownBy(() -> CursorUtility.decode("bm90LWpzb24", CREATED_ON_DESC_ID_ASC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void givenCursorOfOtherDirection_whenDecode_thenReject() {
+        // given
+        String cursor = CursorUtility.encode(new Row("urn:uuid:1", Instant.now()), Sort.by(Sort.Order.asc("createdOn"), Sort.Order.asc("id")));
+
+        // when / then
+        assertThatThrownBy(() -> CursorUtility.decode(cursor, CREATED_ON_DESC_ID_ASC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void givenCursorOfReorderedSort_whenDecode_thenReject() {
+        // given
+        String cursor = CursorUtility.encode(new Row("urn:uuid:1", Instant.now()), Sort.by(Sort.Order.asc("id"), Sort.Order.desc("createdOn")));
+
+        // when / then
+        assertThatThrownBy(() -> CursorUtility.decode(cursor, CREATED_ON_DESC_ID_ASC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void givenCursorOfOtherProperties_whenDecode_thenReject() {
+        // given
+        String cursor = CursorUtility.encode(new Row("urn:uuid:1", Instant.now()), Sort.by(Sort.Order.asc("id")));
+
+        // when / then
+        assertThatThrownBy(() -> CursorUtility.decode(cursor, CREATED_ON_DESC_ID_ASC))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private String id;
+        private Instant createdOn;
+    }
+}
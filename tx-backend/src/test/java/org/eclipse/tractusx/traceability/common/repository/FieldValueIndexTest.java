@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldValueIndexTest {
+
+    private static final List<String> VALUES = List.of("NO-246880451848384868750731", "NO-341449848714937445621543", "no-999", "DEU", "de-1");
+
+    @Test
+    void givenPrefix_whenStartingWith_thenMatchingValuesAreReturnedIgnoringCase() {
+        PrefixIndex index = PrefixIndex.of(VALUES);
+
+        List<String> result = index.startingWith("No-3", 10);
+
+        assertThat(result).containsExactly("NO-341449848714937445621543");
+    }
+
+    @Test
+    void givenResultLimit_whenStartingWith_thenResultIsLimitedInSortOrder() {
+        PrefixIndex index = PrefixIndex.of(VALUES);
+
+        List<String> result = index.startingWith("no", 2);
+
+        assertThat(result).containsExactly("NO-246880451848384868750731", "NO-341449848714937445621543");
+    }
+
+    @Test
+    void givenNullPrefix_whenStartingWith_thenAllValuesIncludingNullAreReturned() {
+        PrefixIndex index = PrefixIndex.of(Arrays.asList("b", null, "a"));
+
+        assertThat(index.startingWith(null, 10)).containsExactly("a", "b", null);
+        assertThat(index.startingWith("", 10)).containsExactly("a", "b");
+    }
+
+    @Test
+    void givenValuesDifferingInCase_whenStartingWith_thenSortedByLowerCaseValueThenByValue() {
+        PrefixIndex index = PrefixIndex.of(List.of("b", "B", "a_1", "A-2", "a"));
+
+        assertThat(index.startingWith(null, 10)).containsExactly("a", "A-2", "a_1", "B", "b");
+    }
+
+    @Test
+    void givenIndexedField_whenFindTwice_thenValuesAreLoadedOnce() {
+        FieldValueIndex fieldValueIndex = new FieldValueIndex(Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        fieldValueIndex.find(Object.class, "id", null, "no", 10, maxValues -> load(loads));
+        Optional<List<String>> result = fieldValueIndex.find(Object.class, "id", null, "de", 10, maxValues -> load(loads));
+
+        assertThat(result).contains(List.of("de-1", "DEU"));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenInvalidatedEntity_whenFind_thenValuesAreReloaded() {
+        FieldValueIndex fieldValueIndex = new FieldValueIndex(Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        fieldValueIndex.find(Object.class, "id", null, "no", 10, maxValues -> load(loads));
+        fieldValueIndex.invalidate(String.class);
+        fieldValueIndex.find(Object.class, "id", null, "no", 10, maxValues -> load(loads));
+        fieldValueIndex.invalidate(Object.class);
+        fieldValueIndex.find(Object.class, "id", null, "no", 10, maxValues -> load(loads));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void givenTooManyDistinctValues_whenFind_thenDatabaseLookupIsRequired() {
+        FieldValueIndex fieldValueIndex = new FieldValueIndex(Duration.ofMinutes(1));
+
+        Optional<List<String>> result = fieldValueIndex.find(Object.class, "id", null, "1", 10,
+                maxValues -> IntStream.range(0, maxValues).mapToObj(String::valueOf).toList());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void givenZeroTimeToLive_whenFind_thenDatabaseLookupIsRequired() {
+        FieldValueIndex fieldValueIndex = new FieldValueIndex(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<List<String>> result = fieldValueIndex.find(Object.class, "id", null, "no", 10, maxValues -> load(loads));
+
+        assertThat(result).isEmpty();
+        assertThat(loads).hasValue(0);
+    }
+
+    private List<String> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return VALUES;
+    }
+}
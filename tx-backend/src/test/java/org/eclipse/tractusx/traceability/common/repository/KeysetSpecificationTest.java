@@ -0,0 +1,176 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeysetSpecificationTest {
+
+    private static final Sort CREATED_ON_DESC_ID_ASC = Sort.by(Sort.Order.desc("createdOn"), Sort.Order.asc("id"));
+    private static final Instant CREATED_ON = Instant.parse("2024-03-01T10:15:30Z");
+
+    @Mock
+    private Root<Object> root;
+
+    @Mock
+    private Path<Comparable<Object>> createdOn;
+
+    @Mock
+    private Path<Comparable<Object>> id;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder builder;
+
+    @Test
+    void givenNoKeys_whenToPredicate_thenNoRestriction() {
+        assertThat(specification(Map.of()).toPredicate(root, query, builder)).isNull();
+    }
+
+    @Test
+    void givenEqualFirstKey_whenToPredicate_thenTieBreakOnSecondKey() {
+        // given
+        givenSortPaths();
+        Predicate createdOnBefore = mock(Predicate.class);
+        Predicate createdOnEqual = mock(Predicate.class);
+        Predicate idGreater = mock(Predicate.class);
+        Predicate idNull = mock(Predicate.class);
+        Predicate idAfter = mock(Predicate.class);
+        Predicate firstAlternative = mock(Predicate.class);
+        Predicate secondAlternative = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+        when(builder.lessThan(createdOn, comparable(CREATED_ON))).thenReturn(createdOnBefore);
+        when(builder.equal(createdOn, CREATED_ON)).thenReturn(createdOnEqual);
+        when(builder.greaterThan(id, comparable("urn:uuid:1"))).thenReturn(idGreater);
+        when(builder.isNull(id)).thenReturn(idNull);
+        when(builder.or(idGreater, idNull)).thenReturn(idAfter);
+        when(builder.and(createdOnBefore)).thenReturn(firstAlternative);
+        when(builder.and(new Predicate[]{createdOnEqual, idAfter})).thenReturn(secondAlternative);
+        when(builder.or(new Predicate[]{firstAlternative, secondAlternative})).thenReturn(seek);
+
+        // when
+        Predicate result = specification(keys(CREATED_ON.toString(), "urn:uuid:1")).toPredicate(root, query, builder);
+
+        // then
+        assertThat(result).isEqualTo(seek);
+    }
+
+    @Test
+    void givenNullValueInDescendingKey_whenToPredicate_thenNonNullRowsFollowAndNullRowsTieBreak() {
+        // given
+        givenSortPaths();
+        Predicate createdOnNotNull = mock(Predicate.class);
+        Predicate createdOnNull = mock(Predicate.class);
+        Predicate idGreater = mock(Predicate.class);
+        Predicate idNull = mock(Predicate.class);
+        Predicate idAfter = mock(Predicate.class);
+        Predicate firstAlternative = mock(Predicate.class);
+        Predicate secondAlternative = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+        when(builder.isNotNull(createdOn)).thenReturn(createdOnNotNull);
+        when(builder.isNull(createdOn)).thenReturn(createdOnNull);
+        when(builder.greaterThan(id, comparable("urn:uuid:1"))).thenReturn(idGreater);
+        when(builder.isNull(id)).thenReturn(idNull);
+        when(builder.or(idGreater, idNull)).thenReturn(idAfter);
+        when(builder.and(createdOnNotNull)).thenReturn(firstAlternative);
+        when(builder.and(new Predicate[]{createdOnNull, idAfter})).thenReturn(secondAlternative);
+        when(builder.or(new Predicate[]{firstAlternative, secondAlternative})).thenReturn(seek);
+
+        // when
+        Predicate result = specification(keys(null, "urn:uuid:1")).toPredicate(root, query, builder);
+
+        // then
+        assertThat(result).isEqualTo(seek);
+    }
+
+    @Test
+    void givenNullValueInAscendingKey_whenToPredicate_thenOnlyNullRowsWithGreaterTieBreakFollow() {
+        // given
+        givenSortPaths();
+        Sort sort = Sort.by(Sort.Order.asc("createdOn"), Sort.Order.asc("id"));
+        Predicate createdOnNull = mock(Predicate.class);
+        Predicate idGreater = mock(Predicate.class);
+        Predicate idNull = mock(Predicate.class);
+        Predicate idAfter = mock(Predicate.class);
+        Predicate alternative = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+        when(builder.isNull(createdOn)).thenReturn(createdOnNull);
+        when(builder.greaterThan(id, comparable("urn:uuid:1"))).thenReturn(idGreater);
+        when(builder.isNull(id)).thenReturn(idNull);
+        when(builder.or(idGreater, idNull)).thenReturn(idAfter);
+        when(builder.and(new Predicate[]{createdOnNull, idAfter})).thenReturn(alternative);
+        when(builder.or(alternative)).thenReturn(seek);
+
+        // when
+        Predicate result = new KeysetSpecification<>(sort, keys(null, "urn:uuid:1"), KeysetSpecificationTest::convert)
+                .toPredicate(root, query, builder);
+
+        // then
+        assertThat(result).isEqualTo(seek);
+    }
+
+    private void givenSortPaths() {
+        doReturn(createdOn).when(root).get("createdOn");
+        doReturn(id).when(root).get("id");
+        doReturn(Instant.class).when(createdOn).getJavaType();
+        doReturn(String.class).when(id).getJavaType();
+    }
+
+    private static KeysetSpecification<Object> specification(Map<String, Object> keys) {
+        return new KeysetSpecification<>(CREATED_ON_DESC_ID_ASC, keys, KeysetSpecificationTest::convert);
+    }
+
+    private static Map<String, Object> keys(String createdOn, String id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdOn", createdOn);
+        keys.put("id", id);
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+
+    private static Object convert(Object value, Class<?> javaType) {
+        return javaType == Instant.class ? Instant.parse((String) value) : value;
+    }
+}
@@ -0,0 +1,186 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.common.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.eclipse.tractusx.traceability.common.model.CountMode;
+import org.eclipse.tractusx.traceability.common.model.OwnPageRequest;
+import org.eclipse.tractusx.traceability.common.model.PageResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaginationUtilityTest {
+
+    private static final String RELATION = "assets_as_built";
+
+    @Mock
+    private JpaSpecificationExecutor<String> repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CriteriaBuilder builder;
+
+    @Mock
+    private CriteriaQuery<String> query;
+
+    @Mock
+    private Root<String> root;
+
+    @Mock
+    private TypedQuery<String> typedQuery;
+
+    @Test
+    void givenOneRowMoreThanPageSize_whenGetPageWithoutCount_thenReturnPageSizeRowsWithoutTotal() {
+        // given
+        givenRows("a", "b", "c");
+
+        // when
+        PageResult<String> result = getPage(null, 0, CountMode.NONE);
+
+        // then
+        assertThat(result.content()).containsExactly("a", "b");
+        assertThat(result.totalItems()).isNull();
+        assertThat(result.pageCount()).isNull();
+        verify(typedQuery).setMaxResults(3);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void givenExactlyPageSizeRowsOnLastPage_whenGetPageWithEstimate_thenReturnExactTotalWithoutEstimate() {
+        // given
+        givenRows("c", "d");
+
+        // when
+        PageResult<String> result = getPage(null, 1, CountMode.ESTIMATE);
+
+        // then
+        assertThat(result.content()).containsExactly("c", "d");
+        assertThat(result.totalItems()).isEqualTo(4);
+        verify(typedQuery).setFirstResult(2);
+        verify(entityManager, never()).createNativeQuery(anyString());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void givenNextPageOfUnfilteredList_whenGetPageWithEstimate_thenReturnPlannerEstimate() {
+        // given
+        givenRows("a", "b", "c");
+        givenEstimate(1000f);
+
+        // when
+        PageResult<String> result = getPage(null, 0, CountMode.ESTIMATE);
+
+        // then
+        assertThat(result.totalItems()).isEqualTo(1000);
+        assertThat(result.pageCount()).isEqualTo(500);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void givenOutdatedEstimateBelowRowsSeen_whenGetPageWithEstimate_thenReturnMoreThanRowsSeen() {
+        // given
+        givenRows("c", "d", "e");
+        givenEstimate(1f);
+
+        // when
+        PageResult<String> result = getPage(null, 1, CountMode.ESTIMATE);
+
+        // then
+        assertThat(result.totalItems()).isEqualTo(5);
+    }
+
+    @Test
+    void givenNeverAnalyzedTable_whenGetPageWithEstimate_thenReturnNoTotal() {
+        // given
+        givenRows("a", "b", "c");
+        givenEstimate(-1f);
+
+        // when
+        PageResult<String> result = getPage(null, 0, CountMode.ESTIMATE);
+
+        // then
+        assertThat(result.totalItems()).isNull();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenNextPageOfFilteredList_whenGetPageWithEstimate_thenReturnNoTotalWithoutCounting() {
+        // given
+        givenRows("a", "b", "c");
+        Specification<String> specification = mock(Specification.class);
+
+        // when
+        PageResult<String> result = getPage(specification, 0, CountMode.ESTIMATE);
+
+        // then
+        assertThat(result.totalItems()).isNull();
+        verify(entityManager, never()).createNativeQuery(anyString());
+        verifyNoInteractions(repository);
+    }
+
+    private void givenRows(String... rows) {
+        when(entityManager.getCriteriaBuilder()).thenReturn(builder);
+        when(builder.createQuery(String.class)).thenReturn(query);
+        when(query.from(String.class)).thenReturn(root);
+        when(entityManager.createQuery(query)).thenReturn(typedQuery);
+        when(typedQuery.setFirstResult(any(Integer.class))).thenReturn(typedQuery);
+        when(typedQuery.setMaxResults(any(Integer.class))).thenReturn(typedQuery);
+        when(typedQuery.getResultList()).thenReturn(List.of(rows));
+    }
+
+    private void givenEstimate(float reltuples) {
+        Query estimateQuery = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(estimateQuery);
+        when(estimateQuery.setParameter("relationName", RELATION)).thenReturn(estimateQuery);
+        doReturn(List.of(reltuples)).when(estimateQuery).getResultList();
+    }
+
+    private PageResult<String> getPage(Specification<String> specification, int page, CountMode countMode) {
+        return PaginationUtility.getPage(repository, specification, OwnPageRequest.of(page, 2, Sort.unsorted(), countMode),
+                Function.identity(), String.class, RELATION, entityManager);
+    }
+}
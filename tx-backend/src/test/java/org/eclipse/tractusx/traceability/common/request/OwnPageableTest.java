@@ -0,0 +1,100 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.request;
+
+import org.eclipse.tractusx.traceability.assets.application.asbuilt.mapper.AssetAsBuiltFieldMapper;
+import org.eclipse.tractusx.traceability.common.model.CountMode;
+import org.eclipse.tractusx.traceability.common.model.OwnPageRequest;
+import org.eclipse.tractusx.traceability.common.request.exception.InvalidSortException;
+import org.eclipse.tractusx.traceability.notification.application.notification.mapper.NotificationFieldMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OwnPageableTest {
+
+    @Test
+    void givenNoCursor_whenToPageable_thenOffsetPageRequest() {
+        OwnPageable ownPageable = OwnPageable.builder().page(2).size(10).sort(List.of("idShort,asc")).build();
+
+        Pageable pageable = OwnPageable.toPageable(ownPageable, new AssetAsBuiltFieldMapper());
+
+        assertThat(pageable).isEqualTo(PageRequest.of(2, 10, Sort.by(Sort.Direction.ASC, "idShort")));
+    }
+
+    @Test
+    void givenCursor_whenToPageable_thenCursorPageRequest() {
+        OwnPageable ownPageable = OwnPageable.builder().page(2).size(10).sort(List.of("idShort,asc")).after("").build();
+
+        Pageable pageable = OwnPageable.toPageable(ownPageable, new AssetAsBuiltFieldMapper());
+
+        assertThat(pageable).isInstanceOf(OwnPageRequest.class);
+        OwnPageRequest ownPageRequest = (OwnPageRequest) pageable;
+        assertThat(ownPageRequest.isCursorMode()).isTrue();
+        assertThat(ownPageRequest.getPageNumber()).isZero();
+        assertThat(ownPageRequest.getPageSize()).isEqualTo(10);
+        assertThat(ownPageRequest.getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "idShort"));
+    }
+
+    @Test
+    void givenCursorAndSortOnJoinedField_whenToPageable_thenThrowInvalidSortException() {
+        OwnPageable ownPageable = OwnPageable.builder().sort(List.of("createdBy,asc")).after("").build();
+        NotificationFieldMapper fieldMapper = new NotificationFieldMapper();
+
+        assertThatThrownBy(() -> OwnPageable.toPageable(ownPageable, fieldMapper))
+                .isInstanceOf(InvalidSortException.class);
+    }
+
+    @Test
+    void givenEstimateCount_whenToPageable_thenOffsetPageRequestWithCountMode() {
+        OwnPageable ownPageable = OwnPageable.builder().page(2).size(10).count("ESTIMATE").build();
+
+        Pageable pageable = OwnPageable.toPageable(ownPageable, new AssetAsBuiltFieldMapper());
+
+        assertThat(pageable).isInstanceOf(OwnPageRequest.class);
+        OwnPageRequest ownPageRequest = (OwnPageRequest) pageable;
+        assertThat(ownPageRequest.isCursorMode()).isFalse();
+        assertThat(ownPageRequest.getCountMode()).isEqualTo(CountMode.ESTIMATE);
+        assertThat(ownPageRequest.getPageNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void givenExactCount_whenToPageable_thenPlainPageRequest() {
+        OwnPageable ownPageable = OwnPageable.builder().page(2).size(10).count("exact").build();
+
+        Pageable pageable = OwnPageable.toPageable(ownPageable, new AssetAsBuiltFieldMapper());
+
+        assertThat(pageable).isEqualTo(PageRequest.of(2, 10, Sort.unsorted()));
+    }
+
+    @Test
+    void givenUnknownCount_whenToPageable_thenThrowIllegalArgumentException() {
+        OwnPageable ownPageable = OwnPageable.builder().count("approximate").build();
+        AssetAsBuiltFieldMapper fieldMapper = new AssetAsBuiltFieldMapper();
+
+        assertThatThrownBy(() -> OwnPageable.toPageable(ownPageable, fieldMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,135 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.common.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    @Mock
+    SchedulerLockRepository schedulerLockRepository;
+
+    @Mock
+    Clock clock;
+
+    SchedulerLock schedulerLock;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLock = new SchedulerLock(schedulerLockRepository, clock, Duration.ofHours(1), Duration.ofMinutes(5), "pod-1");
+    }
+
+    @Test
+    void givenFreeLock_whenRunExclusively_thenRunAndKeepLeaseForMinimalDuration() {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(10));
+        when(schedulerLockRepository.acquire(eq("job"), anyString(), eq(NOW), eq(NOW.plus(Duration.ofHours(1))))).thenReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when
+        boolean result = schedulerLock.runExclusively("job", () -> ran.set(true));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(ran).isTrue();
+        verify(schedulerLockRepository).release(eq("job"), anyString(), eq(NOW.plus(Duration.ofMinutes(5))));
+    }
+
+    @Test
+    void givenLongRun_whenRunExclusively_thenReleaseLeaseWhenDone() {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofMinutes(20)));
+        when(schedulerLockRepository.acquire(eq("job"), anyString(), any(), any())).thenReturn(true);
+
+        // when
+        schedulerLock.runExclusively("job", () -> {
+        });
+
+        // then
+        verify(schedulerLockRepository).release(eq("job"), anyString(), eq(NOW.plus(Duration.ofMinutes(20))));
+    }
+
+    @Test
+    void givenLockHeldByAnotherInstance_whenRunExclusively_thenSkip() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        when(schedulerLockRepository.acquire(eq("job"), anyString(), any(), any())).thenReturn(false);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when
+        boolean result = schedulerLock.runExclusively("job", () -> ran.set(true));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+        verify(schedulerLockRepository, never()).release(any(), any(), any());
+    }
+
+    @Test
+    void givenFailingTask_whenRunExclusively_thenReleaseAndRethrow() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        when(schedulerLockRepository.acquire(eq("job"), anyString(), any(), any())).thenReturn(true);
+
+        // when / then
+        assertThatThrownBy(() -> schedulerLock.runExclusively("job", () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(schedulerLockRepository).release(eq("job"), anyString(), eq(NOW.plus(Duration.ofMinutes(5))));
+    }
+
+    @Test
+    void givenRunLongerThanHalfTheLease_whenRunExclusively_thenRenewLeaseWhileRunning() {
+        // given
+        SchedulerLock shortLeaseLock = new SchedulerLock(schedulerLockRepository, clock, Duration.ofMillis(100), Duration.ZERO, "pod-1");
+        when(clock.instant()).thenReturn(NOW);
+        when(schedulerLockRepository.acquire(eq("job"), anyString(), any(), any())).thenReturn(true);
+
+        // when
+        shortLeaseLock.runExclusively("job", () -> await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                verify(schedulerLockRepository, atLeastOnce()).extend(eq("job"), anyString(), eq(NOW.plusMillis(100)))));
+
+        // then
+        verify(schedulerLockRepository).release(eq("job"), anyString(), eq(NOW));
+        shortLeaseLock.shutdown();
+    }
+}
@@ -21,6 +21,9 @@ package org.eclipse.tractusx.traceability.infrastructure.jpa.bpn_edc;
 
 import bpn.request.BpnMappingRequest;
 import org.eclipse.tractusx.traceability.bpn.domain.model.BpnNotFoundException;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.client.BpdmClient;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BpnEntity;
+import org.eclipse.tractusx.traceability.bpn.infrastructure.model.BusinessPartnerResponse;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnRepository;
 import org.eclipse.tractusx.traceability.bpn.infrastructure.repository.BpnServiceImpl;
 import org.junit.jupiter.api.Assertions;
@@ -30,8 +33,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -44,9 +53,31 @@ class BpnServiceImplTest {
     @Mock
     private BpnRepository bpnRepositoryMock;
 
+    @Mock
+    private BpdmClient bpdmClientMock;
+
     @InjectMocks
     private BpnServiceImpl bpnServiceImpl;
 
+    @Test
+    @DisplayName("Test findByBpns resolves stored names with one lookup and fetches missing ones once")
+    void testFindByBpns() {
+        // given
+        BpnServiceImpl bpnService = new BpnServiceImpl(bpnRepositoryMock, bpdmClientMock, new SyncTaskExecutor());
+        when(bpnRepositoryMock.findManufacturerNames(List.of("BPNL1", "BPNL2"))).thenReturn(Map.of("BPNL1", "Manufacturer 1"));
+        when(bpdmClientMock.getBusinessPartner("BPNL2")).thenReturn(BusinessPartnerResponse.builder().bpn("BPNL2").build());
+        when(bpnRepositoryMock.save(any(BusinessPartnerResponse.class)))
+                .thenReturn(BpnEntity.builder().manufacturerId("BPNL2").manufacturerName("Manufacturer 2").build());
+
+        // when
+        Map<String, String> result = bpnService.findByBpns(Arrays.asList("BPNL1", "BPNL2", "BPNL1", null, "BPNL2"));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("BPNL1", "Manufacturer 1", "BPNL2", "Manufacturer 2"));
+        verify(bpdmClientMock, times(1)).getBusinessPartner("BPNL2");
+        verify(bpdmClientMock, never()).getBusinessPartner("BPNL1");
+    }
+
 
     @Test
     @DisplayName("Test getBpnEdcMappings")
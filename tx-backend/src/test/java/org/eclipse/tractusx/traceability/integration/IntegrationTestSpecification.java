@@ -23,6 +23,7 @@ import org.awaitility.Awaitility;
 import org.eclipse.tractusx.traceability.integration.common.config.PostgreSQLConfig;
 import org.eclipse.tractusx.traceability.integration.common.config.RestAssuredConfig;
 import org.eclipse.tractusx.traceability.integration.common.config.RestitoConfig;
+import org.eclipse.tractusx.traceability.integration.common.config.StatementInspectorConfig;
 import org.eclipse.tractusx.traceability.integration.common.support.DatabaseSupport;
 import org.eclipse.tractusx.traceability.integration.common.support.OAuth2ApiSupport;
 import org.eclipse.tractusx.traceability.integration.common.support.OAuth2Support;
@@ -44,7 +45,7 @@ import static org.awaitility.Awaitility.await;
 @ActiveProfiles("integration-spring-boot")
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
 @AutoConfigureMockMvc
-@ContextConfiguration(initializers = {PostgreSQLConfig.Initializer.class, RestitoConfig.Initializer.class}, classes = {RestAssuredConfig.class})
+@ContextConfiguration(initializers = {PostgreSQLConfig.Initializer.class, RestitoConfig.Initializer.class}, classes = {RestAssuredConfig.class, StatementInspectorConfig.class})
 public class IntegrationTestSpecification {
 
     @Autowired
@@ -38,6 +38,7 @@ import static org.eclipse.tractusx.traceability.common.security.JwtRole.ADMIN;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -259,4 +260,66 @@ class AssetAsBuiltControllerAllIT extends IntegrationTestSpecification {
                 .statusCode(400);
     }
 
+    @Test
+    void shouldReturnAssetsPageByPageInCursorMode() throws JoseException {
+        //GIVEN
+        assetsSupport.defaultAssetsStored();
+
+        //WHEN
+        String nextCursor = given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .queryParam("size", 10)
+                .queryParam("sort", "manufacturerName,desc")
+                .queryParam("after", "")
+                .when()
+                .get("/api/assets/as-built")
+                .then()
+                .statusCode(200)
+                .body("content", hasSize(10))
+                .body("$", not(hasKey("totalItems")))
+                .extract().path("nextCursor");
+
+        //THEN
+        given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .queryParam("size", 10)
+                .queryParam("sort", "manufacturerName,desc")
+                .queryParam("after", nextCursor)
+                .when()
+                .get("/api/assets/as-built")
+                .then()
+                .statusCode(200)
+                .body("content", hasSize(3))
+                .body("$", not(hasKey("nextCursor")));
+    }
+
+    @Test
+    void shouldRejectCursorOfDifferentSort() throws JoseException {
+        //GIVEN
+        assetsSupport.defaultAssetsStored();
+        String nextCursor = given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .queryParam("size", 10)
+                .queryParam("after", "")
+                .when()
+                .get("/api/assets/as-built")
+                .then()
+                .statusCode(200)
+                .extract().path("nextCursor");
+
+        //THEN
+        given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .queryParam("size", 10)
+                .queryParam("sort", "idShort,asc")
+                .queryParam("after", nextCursor)
+                .when()
+                .get("/api/assets/as-built")
+                .then()
+                .statusCode(400);
+    }
 }
@@ -0,0 +1,91 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.integration.assets;
+
+import io.restassured.http.ContentType;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
+import org.jose4j.lang.JoseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.traceability.common.security.JwtRole.ADMIN;
+import static org.hamcrest.Matchers.startsWith;
+
+class AssetAsBuiltControllerExportIT extends IntegrationTestSpecification {
+
+    @Autowired
+    AssetsSupport assetsSupport;
+
+    @Test
+    void givenAssets_whenExportAsNdjson_thenReturnOneLinePerAsset() throws JoseException {
+        // given
+        assetsSupport.defaultAssetsStored();
+
+        // when
+        String body = given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/assets/as-built/export")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", startsWith("application/x-ndjson"))
+                .extract().asString();
+
+        // then
+        assertThat(body.lines()).hasSize(13)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":\"urn:uuid:"));
+    }
+
+    @Test
+    void givenAssets_whenExportAsCsvWithFilter_thenReturnHeaderAndFilteredAssets() throws JoseException {
+        // given
+        assetsSupport.defaultAssetsStored();
+
+        // when
+        String body = given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .queryParam("format", "CSV")
+                .queryParam("filter", "owner,EQUAL,OWN,AND")
+                .when()
+                .get("/api/assets/as-built/export")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", startsWith("text/csv"))
+                .extract().asString();
+
+        // then
+        assertThat(body.lines()).hasSize(2);
+        assertThat(body.lines().findFirst()).hasValueSatisfying(header -> assertThat(header).startsWith("id,idShort,"));
+    }
+
+    @Test
+    void shouldNotExportAssetsWhenUserIsNotAuthenticated() {
+        given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/assets/as-built/export")
+                .then()
+                .statusCode(401);
+    }
+}
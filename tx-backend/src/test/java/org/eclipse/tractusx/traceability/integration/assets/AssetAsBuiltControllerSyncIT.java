@@ -32,6 +32,8 @@ import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.eclipse.tractusx.traceability.common.security.JwtRole.ADMIN;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
 
 @DirtiesContext
 class AssetAsBuiltControllerSyncIT extends IntegrationTestSpecification {
@@ -98,4 +100,38 @@ class AssetAsBuiltControllerSyncIT extends IntegrationTestSpecification {
             return true;
         });
     }
+
+    @Test
+    void shouldCoalesceRepeatedSynchronizationOntoJobsInFlight() throws JoseException, InterruptedException {
+        //GIVEN
+        oAuth2ApiSupport.oauth2ApiReturnsTechnicalUserToken();
+        irsApiSupport.irsApiTriggerJob();
+        String syncRequest = asJson(Map.of("globalAssetIds", List.of("urn:uuid:d387fa8e-603c-42bd-98c3-4d87fef8d2bb")));
+
+        //WHEN
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(syncRequest)
+                    .header(oAuth2Support.jwtAuthorization(ADMIN))
+                    .when()
+                    .post("/api/assets/as-built/sync")
+                    .then()
+                    .statusCode(200);
+        }
+
+        //THEN
+        eventually(() -> {
+            given()
+                    .header(oAuth2Support.jwtAuthorization(ADMIN))
+                    .when()
+                    .get("/api/irs/jobs")
+                    .then()
+                    .statusCode(200)
+                    .body("size()", equalTo(2))
+                    .body("status", everyItem(equalTo("RUNNING")));
+            irsApiSupport.verifyIrsApiTriggerJobCalledTimes(2);
+            return true;
+        });
+    }
 }
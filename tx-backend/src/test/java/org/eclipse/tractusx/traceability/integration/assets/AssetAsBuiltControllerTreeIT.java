@@ -0,0 +1,110 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.assets;
+
+import io.restassured.http.ContentType;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
+import org.jose4j.lang.JoseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static io.restassured.RestAssured.given;
+import static org.eclipse.tractusx.traceability.common.security.JwtRole.ADMIN;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+class AssetAsBuiltControllerTreeIT extends IntegrationTestSpecification {
+
+    private static final String ROOT_ID = "urn:uuid:d387fa8e-603c-42bd-98c3-4d87fef8d2bb";
+
+    @Autowired
+    AssetsSupport assetsSupport;
+
+    @Test
+    void givenAssets_whenGetTreeWithDepthOne_thenReturnAssetAndDirectChildren() throws JoseException {
+        // given
+        assetsSupport.defaultAssetsStored();
+
+        // when/then
+        given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .queryParam("depth", 1)
+                .when()
+                .get("/api/assets/as-built/" + ROOT_ID + "/tree")
+                .then()
+                .statusCode(200)
+                .body("", hasSize(4))
+                .body("[0].id", equalTo(ROOT_ID))
+                .body("[0].level", equalTo(0))
+                .body("[0].relatedIds", containsInAnyOrder(
+                        "urn:uuid:587cfb38-7149-4f06-b1e0-0e9b6e98be2a",
+                        "urn:uuid:7fa65f10-9dc1-49fe-818a-09c7313a4562",
+                        "urn:uuid:6dafbcec-2fce-4cbb-a5a9-b3b32aa5cffc"))
+                .body("level", contains(0, 1, 1, 1));
+    }
+
+    @Test
+    void givenAssets_whenGetTreeWithDefaultDepth_thenReturnWholeTree() throws JoseException {
+        // given
+        assetsSupport.defaultAssetsStored();
+
+        // when/then
+        given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/assets/as-built/" + ROOT_ID + "/tree")
+                .then()
+                .statusCode(200)
+                .body("", hasSize(13));
+    }
+
+    @Test
+    void givenInvalidDepth_whenGetTree_thenReturnBadRequest() throws JoseException {
+        // given
+        assetsSupport.defaultAssetsStored();
+
+        // when/then
+        given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .queryParam("depth", 11)
+                .when()
+                .get("/api/assets/as-built/" + ROOT_ID + "/tree")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenUnknownAsset_whenGetTree_thenReturnNotFound() throws JoseException {
+        // when/then
+        given()
+                .header(oAuth2Support.jwtAuthorization(ADMIN))
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/assets/as-built/urn:uuid:unknown/tree")
+                .then()
+                .statusCode(404);
+    }
+}
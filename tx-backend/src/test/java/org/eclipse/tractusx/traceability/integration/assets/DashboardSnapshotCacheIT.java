@@ -0,0 +1,134 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.assets;
+
+import org.eclipse.tractusx.traceability.assets.application.dashboard.service.DashboardService;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetsChangedEvent;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.model.Dashboard;
+import org.eclipse.tractusx.traceability.assets.domain.dashboard.repository.DashboardRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository.JpaAssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.AlertsSupport;
+import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationId;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.NotificationStatus;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity.SENT;
+
+/**
+ * Runs with the dashboard snapshot enabled, which the integration test profile disables. The context has no web server
+ * so that it can run next to the cached default context, and it is closed afterwards.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@TestPropertySource(properties = "traceability.dashboardSnapshotTimeToLive=PT1H")
+@DirtiesContext
+class DashboardSnapshotCacheIT extends IntegrationTestSpecification {
+
+    @Autowired
+    DashboardService dashboardService;
+
+    @Autowired
+    DashboardRepository dashboardRepository;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    JpaAssetAsBuiltRepository jpaAssetAsBuiltRepository;
+
+    @Autowired
+    AssetsSupport assetsSupport;
+
+    @Autowired
+    AlertsSupport alertsSupport;
+
+    @Autowired
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        // the tables are cleared without a change event after each test
+        applicationEventPublisher.publishEvent(new AssetsChangedEvent());
+    }
+
+    @Test
+    void givenSnapshot_whenNotificationStoredWithoutChangeEvent_thenSnapshotIsServed() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        Dashboard snapshot = dashboardService.getDashboard();
+
+        // when
+        alertsSupport.storeAlertWithStatusAndAssets(SENT, ownAssets(), NotificationSideBaseEntity.SENDER);
+
+        // then
+        assertThat(dashboardService.getDashboard()).isEqualTo(snapshot);
+        assertThat(snapshot.getMyPartsWithOpenAlerts()).isZero();
+        assertThat(dashboardRepository.getDashboard().getMyPartsWithOpenAlerts()).isEqualTo(1);
+    }
+
+    @Test
+    void givenSnapshot_whenAssetsSaved_thenSnapshotIsRecomputed() {
+        // given
+        assertThat(dashboardService.getDashboard().getAsBuiltOwnParts()).isZero();
+
+        // when
+        assetsSupport.defaultAssetsStored();
+
+        // then
+        assertThat(dashboardService.getDashboard().getAsBuiltOwnParts()).isEqualTo(1);
+    }
+
+    @Test
+    void givenSnapshot_whenNotificationUpdated_thenSnapshotIsRecomputed() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        Long alertId = alertsSupport.storeAlertWithStatusAndAssets(SENT, ownAssets(), NotificationSideBaseEntity.SENDER);
+        assertThat(dashboardService.getDashboard().getMyPartsWithOpenAlerts()).isEqualTo(1);
+        Notification alert = notificationRepository.findOptionalNotificationById(new NotificationId(alertId)).orElseThrow();
+        alert.setNotificationStatus(NotificationStatus.CLOSED);
+
+        // when
+        notificationRepository.updateNotification(alert);
+
+        // then
+        assertThat(dashboardService.getDashboard().getMyPartsWithOpenAlerts()).isZero();
+    }
+
+    private List<AssetAsBuiltEntity> ownAssets() {
+        return jpaAssetAsBuiltRepository.findAll().stream()
+                .filter(asset -> asset.getOwner().equals(Owner.OWN))
+                .toList();
+    }
+}
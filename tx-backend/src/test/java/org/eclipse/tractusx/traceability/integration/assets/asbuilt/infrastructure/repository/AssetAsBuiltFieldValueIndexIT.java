@@ -0,0 +1,133 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.assets.asbuilt.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.repository.AssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository.JpaAssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.common.repository.CriteriaUtility;
+import org.eclipse.tractusx.traceability.common.repository.FieldValueIndex;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs with the filter values index enabled, which the integration test profile disables. The context has no web server
+ * so that it can run next to the cached default context, and it is closed afterwards.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@TestPropertySource(properties = "traceability.filterValuesIndexTimeToLive=PT1H")
+@DirtiesContext
+class AssetAsBuiltFieldValueIndexIT extends IntegrationTestSpecification {
+
+    private static final String ASSET_ID = "urn:uuid:d387fa8e-603c-42bd-98c3-4d87fef8d2bb";
+    private static final String NEW_ASSET_ID = "urn:uuid:0a6f5d4b-1f3e-4c8a-9b1d-2e7f3c4a5b6d";
+
+    @Autowired
+    AssetAsBuiltRepository assetAsBuiltRepository;
+
+    @Autowired
+    JpaAssetAsBuiltRepository jpaAssetAsBuiltRepository;
+
+    @Autowired
+    FieldValueIndex fieldValueIndex;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    AssetsSupport assetsSupport;
+
+    @BeforeEach
+    void setUp() {
+        // the tables are cleared without invalidating the index after each test
+        fieldValueIndex.invalidate(AssetAsBuiltEntity.class);
+    }
+
+    @Test
+    void givenIndexedField_whenAssetStoredWithoutRepository_thenIndexedValuesAreServed() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        List<String> indexedIds = assetAsBuiltRepository.getFieldValues("id", null, 200, null, List.of());
+
+        // when
+        jpaAssetAsBuiltRepository.save(AssetAsBuiltEntity.from(newAsset("Battery")));
+
+        // then
+        assertThat(assetAsBuiltRepository.getFieldValues("id", null, 200, null, List.of()))
+                .isEqualTo(indexedIds)
+                .doesNotContain(NEW_ASSET_ID);
+        assertThat(databaseFieldValues("id", null)).contains(NEW_ASSET_ID);
+    }
+
+    @Test
+    void givenIndexedField_whenAssetSavedThroughRepository_thenIndexIsReloaded() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        assertThat(assetAsBuiltRepository.getFieldValues("id", null, 200, null, List.of())).doesNotContain(NEW_ASSET_ID);
+
+        // when
+        assetAsBuiltRepository.save(newAsset("Battery"));
+
+        // then
+        assertThat(assetAsBuiltRepository.getFieldValues("id", null, 200, null, List.of())).contains(NEW_ASSET_ID);
+    }
+
+    @Test
+    void givenValuesDifferingInCase_whenGetFieldValues_thenIndexAndDatabaseReturnTheSameOrder() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        assetAsBuiltRepository.save(newAsset("battery pack"));
+
+        // when
+        List<String> indexed = assetAsBuiltRepository.getFieldValues("nameAtManufacturer", null, 200, null, List.of());
+        List<String> indexedWithPrefix = assetAsBuiltRepository.getFieldValues("nameAtManufacturer", "b", 200, null, List.of());
+
+        // then
+        assertThat(indexed).isEqualTo(databaseFieldValues("nameAtManufacturer", null));
+        assertThat(indexedWithPrefix)
+                .isEqualTo(databaseFieldValues("nameAtManufacturer", "b"))
+                .containsExactly("Battery", "battery pack");
+    }
+
+    private AssetBase newAsset(String nameAtManufacturer) {
+        AssetBase asset = assetAsBuiltRepository.getAssetById(ASSET_ID);
+        asset.setId(NEW_ASSET_ID);
+        asset.setNameAtManufacturer(nameAtManufacturer);
+        asset.setChildRelations(List.of());
+        asset.setParentRelations(List.of());
+        return asset;
+    }
+
+    private List<String> databaseFieldValues(String fieldName, String startWith) {
+        return CriteriaUtility.getDistinctAssetFieldValues(fieldName, startWith, 200, null, List.of(), AssetAsBuiltEntity.class, entityManager);
+    }
+}
@@ -0,0 +1,122 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.assets.asbuilt.infrastructure.repository;
+
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltViewEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository.JpaAssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository.JpaAssetAsBuiltViewRepository;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.AlertsSupport;
+import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
+import org.eclipse.tractusx.traceability.integration.common.support.InvestigationsSupport;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationSideBaseEntity;
+import org.eclipse.tractusx.traceability.notification.infrastructure.notification.repository.JpaNotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity.CLOSED;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity.CREATED;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity.RECEIVED;
+import static org.eclipse.tractusx.traceability.notification.infrastructure.notification.model.NotificationStatusBaseEntity.SENT;
+
+class AssetAsBuiltNotificationCountersIT extends IntegrationTestSpecification {
+
+    private static final String ASSET_ID = "urn:uuid:d387fa8e-603c-42bd-98c3-4d87fef8d2bb";
+    private static final String OTHER_ASSET_ID = "urn:uuid:7fa65f10-9dc1-49fe-818a-09c7313a4562";
+
+    @Autowired
+    AssetsSupport assetsSupport;
+
+    @Autowired
+    AlertsSupport alertsSupport;
+
+    @Autowired
+    InvestigationsSupport investigationsSupport;
+
+    @Autowired
+    JpaAssetAsBuiltRepository jpaAssetAsBuiltRepository;
+
+    @Autowired
+    JpaAssetAsBuiltViewRepository jpaAssetAsBuiltViewRepository;
+
+    @Autowired
+    JpaNotificationRepository jpaNotificationRepository;
+
+    @Test
+    void givenAssetLinkedToNotifications_whenLinksStored_thenCountActiveNotificationsPerSideAndType() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        AssetAsBuiltEntity asset = jpaAssetAsBuiltRepository.findById(ASSET_ID).orElseThrow();
+
+        // when
+        alertsSupport.storeAlertWithStatusAndAssets(RECEIVED, List.of(asset));
+        alertsSupport.storeAlertWithStatusAndAssets(CLOSED, List.of(asset));
+        alertsSupport.storeAlertWithStatusAndAssets(SENT, List.of(asset), NotificationSideBaseEntity.SENDER);
+        investigationsSupport.storeInvestigationWithStatusAndAssets(CREATED, List.of(asset), NotificationSideBaseEntity.SENDER);
+
+        // then
+        AssetAsBuiltViewEntity counters = jpaAssetAsBuiltViewRepository.findById(ASSET_ID).orElseThrow();
+        assertThat(counters.getReceivedActiveAlerts()).isEqualTo(1L);
+        assertThat(counters.getSentActiveAlerts()).isEqualTo(1L);
+        assertThat(counters.getReceivedActiveInvestigations()).isZero();
+        assertThat(counters.getSentActiveInvestigations()).isEqualTo(1L);
+    }
+
+    @Test
+    void givenActiveAlert_whenStatusChangedToClosed_thenCounterDecreases() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        AssetAsBuiltEntity asset = jpaAssetAsBuiltRepository.findById(ASSET_ID).orElseThrow();
+        Long alertId = alertsSupport.storeAlertWithStatusAndAssets(RECEIVED, List.of(asset));
+        assertThat(jpaAssetAsBuiltViewRepository.findById(ASSET_ID).orElseThrow().getReceivedActiveAlerts()).isEqualTo(1L);
+
+        // when
+        NotificationEntity alert = jpaNotificationRepository.findById(alertId).orElseThrow();
+        alert.setStatus(CLOSED);
+        jpaNotificationRepository.save(alert);
+
+        // then
+        assertThat(jpaAssetAsBuiltViewRepository.findById(ASSET_ID).orElseThrow().getReceivedActiveAlerts()).isZero();
+    }
+
+    @Test
+    void givenInvestigationOnTwoAssets_whenOneAssetUnlinked_thenOnlyItsCounterDecreases() {
+        // given
+        assetsSupport.defaultAssetsStored();
+        AssetAsBuiltEntity asset = jpaAssetAsBuiltRepository.findById(ASSET_ID).orElseThrow();
+        AssetAsBuiltEntity otherAsset = jpaAssetAsBuiltRepository.findById(OTHER_ASSET_ID).orElseThrow();
+        Long investigationId = investigationsSupport.storeInvestigationWithStatusAndAssets(SENT, List.of(asset, otherAsset), NotificationSideBaseEntity.SENDER);
+        assertThat(jpaAssetAsBuiltViewRepository.findById(OTHER_ASSET_ID).orElseThrow().getSentActiveInvestigations()).isEqualTo(1L);
+
+        // when
+        NotificationEntity investigation = jpaNotificationRepository.findById(investigationId).orElseThrow();
+        investigation.setAssets(List.of(asset));
+        jpaNotificationRepository.save(investigation);
+
+        // then
+        assertThat(jpaAssetAsBuiltViewRepository.findById(ASSET_ID).orElseThrow().getSentActiveInvestigations()).isEqualTo(1L);
+        assertThat(jpaAssetAsBuiltViewRepository.findById(OTHER_ASSET_ID).orElseThrow().getSentActiveInvestigations()).isZero();
+    }
+}
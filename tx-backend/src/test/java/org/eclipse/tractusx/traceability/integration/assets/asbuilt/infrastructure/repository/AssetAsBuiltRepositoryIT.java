@@ -64,7 +64,7 @@ class AssetAsBuiltRepositoryIT extends IntegrationTestSpecification {
 
         // then
         assertThat(result)
-                .isSortedAccordingTo(String::compareTo)
+                .isSortedAccordingTo(String.CASE_INSENSITIVE_ORDER)
                 .hasSize(expectedSize);
     }
 
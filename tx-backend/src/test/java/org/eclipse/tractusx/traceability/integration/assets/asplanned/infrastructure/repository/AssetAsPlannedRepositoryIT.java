@@ -19,14 +19,23 @@
 
 package org.eclipse.tractusx.traceability.integration.assets.asplanned.infrastructure.repository;
 
+import org.eclipse.tractusx.irs.component.enums.Direction;
 import org.eclipse.tractusx.traceability.assets.domain.asplanned.repository.AssetAsPlannedRepository;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetTreeNode;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel;
 import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
 import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -56,10 +65,52 @@ class AssetAsPlannedRepositoryIT extends IntegrationTestSpecification {
 
         // then
         assertThat(result)
-                .isSortedAccordingTo(String::compareTo)
+                .isSortedAccordingTo(String.CASE_INSENSITIVE_ORDER)
                 .hasSize(expectedSize);
     }
 
+    @Test
+    void givenChildRelations_whenGetTreeUpward_thenFollowChildRelationsBackwards() {
+        // given
+        assetAsPlannedRepository.saveAll(List.of(asset("a", "b"), asset("b", "c"), asset("c")));
+
+        // when
+        List<AssetTreeNode> tree = assetAsPlannedRepository.getAssetTree("urn:uuid:c", Direction.UPWARD, 5);
+
+        // then
+        assertThat(tree).extracting(AssetTreeNode::id).containsExactly("urn:uuid:c", "urn:uuid:b", "urn:uuid:a");
+        assertThat(tree).extracting(AssetTreeNode::level).containsExactly(0, 1, 2);
+        assertThat(tree.get(0).relatedIds()).containsExactly("urn:uuid:b");
+        assertThat(tree.get(2).relatedIds()).isEmpty();
+    }
+
+    @Test
+    void givenCyclicChildRelations_whenGetTree_thenReportEveryAssetOnce() {
+        // given
+        assetAsPlannedRepository.saveAll(List.of(asset("a", "b"), asset("b", "c"), asset("c", "a")));
+
+        // when
+        List<AssetTreeNode> tree = assetAsPlannedRepository.getAssetTree("urn:uuid:a", Direction.DOWNWARD, 10);
+
+        // then
+        assertThat(tree).extracting(AssetTreeNode::id).containsExactly("urn:uuid:a", "urn:uuid:b", "urn:uuid:c");
+        assertThat(tree).extracting(AssetTreeNode::level).containsExactly(0, 1, 2);
+        assertThat(tree.get(2).relatedIds()).containsExactly("urn:uuid:a");
+    }
+
+    private static AssetBase asset(String id, String... childIds) {
+        return AssetBase.builder()
+                .id("urn:uuid:" + id)
+                .idShort(id)
+                .manufacturerId("BPNL00000003AXS3")
+                .semanticDataModel(SemanticDataModel.PARTASPLANNED)
+                .detailAspectModels(List.of())
+                .childRelations(Arrays.stream(childIds).map(childId -> new Descriptions("urn:uuid:" + childId, childId, null, null)).toList())
+                .owner(Owner.OWN)
+                .importState(ImportState.PERSISTENT)
+                .build();
+    }
+
     private static Stream<Arguments> fieldNameTestProvider() {
         return Stream.of(
                 Arguments.of("id", null, 10, 2),
@@ -0,0 +1,122 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.assets.infrastructure.base;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.AssetBase;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Descriptions;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportNote;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.Owner;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.SemanticDataModel;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.model.AssetAsBuiltEntity;
+import org.eclipse.tractusx.traceability.assets.infrastructure.asbuilt.repository.JpaAssetAsBuiltRepository;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.AssetCallbackRepository;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.SqlStatementSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class AssetCallbackRepositoryIT extends IntegrationTestSpecification {
+
+    private static final int ASSET_COUNT = 10_000;
+
+    @Autowired
+    @Qualifier("assetAsBuiltRepositoryImpl")
+    AssetCallbackRepository assetAsBuiltCallbackRepository;
+
+    @Autowired
+    JpaAssetAsBuiltRepository jpaAssetAsBuiltRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    void givenJobResultWith10kAssets_whenSaveOrUpdateAllTwice_thenInsertAndUpdateInBatches() {
+        // given
+        List<AssetBase> newAssets = IntStream.range(0, ASSET_COUNT).mapToObj(i -> asset(i, Owner.UNKNOWN, null)).toList();
+        List<AssetBase> updatedAssets = IntStream.range(0, ASSET_COUNT).mapToObj(i -> asset(i, Owner.SUPPLIER, "tombstone")).toList();
+        SqlStatementSupport.clear();
+
+        // when
+        long insertStart = System.nanoTime();
+        assetAsBuiltCallbackRepository.saveOrUpdateAll(newAssets);
+        long insertMillis = (System.nanoTime() - insertStart) / 1_000_000;
+        long updateStart = System.nanoTime();
+        assetAsBuiltCallbackRepository.saveOrUpdateAll(updatedAssets);
+        long updateMillis = (System.nanoTime() - updateStart) / 1_000_000;
+        log.info("Inserted {} assets in {} ms, updated them in {} ms", ASSET_COUNT, insertMillis, updateMillis);
+
+        // then
+        assertThat(jpaAssetAsBuiltRepository.count()).isEqualTo(ASSET_COUNT);
+        List<String> assetSelects = SqlStatementSupport.statements().stream()
+                .map(sql -> sql.replaceAll("\\s+", " ").toLowerCase())
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from assets_as_built "))
+                .toList();
+        assertThat(assetSelects).hasSizeLessThan(ASSET_COUNT / 100);
+        transactionTemplate.executeWithoutResult(status -> {
+            AssetAsBuiltEntity entity = jpaAssetAsBuiltRepository.findById("urn:uuid:asset-42").orElseThrow();
+            assertThat(entity.getOwner()).isEqualTo(Owner.SUPPLIER);
+            assertThat(entity.getTombstone()).isEqualTo("tombstone");
+            assertThat(entity.getImportState()).isEqualTo(ImportState.PERSISTENT);
+            assertThat(entity.getImportNote()).isEqualTo(ImportNote.PERSISTED);
+            assertThat(entity.getParentDescriptors()).extracting(AssetAsBuiltEntity.ParentDescription::getId)
+                    .containsExactly("urn:uuid:parent-42");
+        });
+    }
+
+    @Test
+    void givenAssetTwiceInJobResult_whenSaveOrUpdateAll_thenInsertOnceAndApplySecond() {
+        // given
+        List<AssetBase> assets = List.of(asset(1, Owner.SUPPLIER, null), asset(1, Owner.CUSTOMER, "tombstone"));
+
+        // when
+        assetAsBuiltCallbackRepository.saveOrUpdateAll(assets);
+
+        // then
+        assertThat(jpaAssetAsBuiltRepository.count()).isEqualTo(1);
+        AssetAsBuiltEntity entity = jpaAssetAsBuiltRepository.findById("urn:uuid:asset-1").orElseThrow();
+        assertThat(entity.getOwner()).isEqualTo(Owner.SUPPLIER);
+        assertThat(entity.getTombstone()).isEqualTo("tombstone");
+        assertThat(entity.getImportState()).isEqualTo(ImportState.PERSISTENT);
+    }
+
+    private static AssetBase asset(int index, Owner owner, String tombstone) {
+        return AssetBase.builder()
+                .id("urn:uuid:asset-" + index)
+                .idShort("asset " + index)
+                .manufacturerId("BPNL00000003AXS3")
+                .semanticDataModel(SemanticDataModel.SERIALPART)
+                .detailAspectModels(List.of())
+                .parentRelation(new Descriptions("urn:uuid:parent-" + index, "parent " + index, null, null))
+                .owner(owner)
+                .importState(ImportState.TRANSIENT)
+                .tombstone(tombstone)
+                .build();
+    }
+}
@@ -21,6 +21,7 @@ package org.eclipse.tractusx.traceability.integration.assets.infrastructure.base
 
 import assets.importpoc.ImportResponse;
 import io.restassured.http.ContentType;
+import org.eclipse.tractusx.traceability.assets.infrastructure.base.irs.callback.IrsCallbackWorker;
 import org.eclipse.tractusx.traceability.common.security.JwtRole;
 import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
 import org.eclipse.tractusx.traceability.integration.common.support.AssetsSupport;
@@ -54,6 +55,9 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
     @Autowired
     AssetAsBuiltSupportRepository assetAsBuiltSupportRepository;
 
+    @Autowired
+    IrsCallbackWorker irsCallbackWorker;
+
 
     @Test
     void givenNoAssets_whenCallbackReceived_thenSaveThem() throws JoseException {
@@ -76,6 +80,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         // then
         assertThat(bpnSupportRepository.findAll()).hasSize(1);
@@ -115,6 +120,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         // then
         assertThat(bpnSupportRepository.findAll()).hasSize(1);
@@ -141,6 +147,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         // then
         assertThat(bpnSupportRepository.findAll()).isEmpty();
@@ -168,6 +175,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         given()
                 .contentType(ContentType.JSON)
@@ -179,6 +187,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         // then
         assertThat(bpnSupportRepository.findAll()).hasSize(1);
@@ -219,6 +228,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         // then
         String tombstoneAsBuilt = given()
@@ -269,6 +279,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         // then
         String tombstoneAsPlanned = given()
@@ -307,6 +318,7 @@ class IrsCallbackControllerIT extends IntegrationTestSpecification {
                 .then()
                 .log().all()
                 .statusCode(200);
+        irsCallbackWorker.drain();
 
         // then
         assetsSupport.assertAssetAsBuiltSize(16);
@@ -43,7 +43,13 @@ public class DatabaseSupport {
             "assets_as_planned",
             "bpn_storage",
             "traction_battery_code_subcomponent",
-            "import_job"
+            "import_job_chunk",
+            "import_job",
+            "irs_callback",
+            "irs_job",
+            "shell_fingerprint",
+            "registry_full_sync",
+            "scheduler_lock"
     });
 
 
@@ -31,6 +31,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 
 import static com.xebialabs.restito.builder.stub.StubHttp.whenHttp;
+import static com.xebialabs.restito.builder.verify.VerifyHttp.verifyHttp;
 import static com.xebialabs.restito.semantics.Action.header;
 import static com.xebialabs.restito.semantics.Action.ok;
 import static com.xebialabs.restito.semantics.Action.status;
@@ -55,6 +56,13 @@ public class IrsApiSupport {
         );
     }
 
+    public void verifyIrsApiTriggerJobCalledTimes(int times) {
+        verifyHttp(restitoProvider.stubServer()).times(
+                times,
+                post("/irs/jobs")
+        );
+    }
+
     public void irsJobDetailsAsPlanned() {
         whenHttp(restitoProvider.stubServer()).match(
                         get("/irs/jobs/ebb79c45-7bba-4169-bf17-SUCCESSFUL_AS_PLANNED")
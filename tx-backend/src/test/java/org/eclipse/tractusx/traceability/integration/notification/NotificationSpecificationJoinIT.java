@@ -0,0 +1,93 @@
+/********************************************************************************
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.traceability.integration.notification;
+
+import org.eclipse.tractusx.traceability.common.model.PageResult;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteria;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaFilter;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaOperator;
+import org.eclipse.tractusx.traceability.common.model.SearchCriteriaStrategy;
+import org.eclipse.tractusx.traceability.integration.IntegrationTestSpecification;
+import org.eclipse.tractusx.traceability.integration.common.support.InvestigationNotificationsSupport;
+import org.eclipse.tractusx.traceability.integration.common.support.SqlStatementSupport;
+import org.eclipse.tractusx.traceability.notification.domain.base.model.Notification;
+import org.eclipse.tractusx.traceability.notification.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationSpecificationJoinIT extends IntegrationTestSpecification {
+
+    @Autowired
+    InvestigationNotificationsSupport investigationNotificationsSupport;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Test
+    void givenFiveMessageCriteria_whenGetNotifications_thenNoJoinInOuterQueryAndNoDuplicates() {
+        // given
+        investigationNotificationsSupport.defaultInvestigationsStored();
+        SearchCriteria searchCriteria = SearchCriteria.builder()
+                .searchCriteriaFilterList(List.of(
+                        filter("messages_severity", SearchCriteriaStrategy.EQUAL, "MINOR"),
+                        filter("messages_severity", SearchCriteriaStrategy.EQUAL, "MAJOR"),
+                        filter("messages_createdBy", SearchCriteriaStrategy.STARTS_WITH, "BPNL"),
+                        filter("messages_sendTo", SearchCriteriaStrategy.STARTS_WITH, "BPNL"),
+                        filter("messages_createdByName", SearchCriteriaStrategy.STARTS_WITH, "")))
+                .build();
+        SqlStatementSupport.clear();
+
+        // when
+        PageResult<Notification> result = notificationRepository.getNotifications(PageRequest.of(0, 50), searchCriteria);
+
+        // then
+        List<String> notificationSelects = SqlStatementSupport.statements().stream()
+                .map(sql -> sql.replaceAll("\\s+", " ").toLowerCase())
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from notification ") && sql.contains(" exists"))
+                .toList();
+        assertThat(notificationSelects).isNotEmpty();
+        notificationSelects.forEach(sql -> {
+            String outerQuery = sql.substring(0, sql.indexOf(" exists"));
+            assertThat(countJoins(outerQuery)).isZero();
+        });
+
+        List<Long> notificationIds = result.content().stream().map(notification -> notification.getNotificationId().value()).toList();
+        assertThat(notificationIds).isNotEmpty().doesNotHaveDuplicates();
+        assertThat(result.totalItems()).isEqualTo(notificationIds.size());
+    }
+
+    private static int countJoins(String sql) {
+        return sql.split(" join ", -1).length - 1;
+    }
+
+    private static SearchCriteriaFilter filter(String key, SearchCriteriaStrategy strategy, String value) {
+        return SearchCriteriaFilter.builder()
+                .key(key)
+                .strategy(strategy)
+                .value(value)
+                .operator(SearchCriteriaOperator.AND)
+                .build();
+    }
+}
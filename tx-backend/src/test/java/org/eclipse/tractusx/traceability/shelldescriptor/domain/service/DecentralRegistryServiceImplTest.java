@@ -0,0 +1,246 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.traceability.shelldescriptor.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.irs.component.Shell;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.Reference;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.SemanticId;
+import org.eclipse.tractusx.irs.component.assetadministrationshell.SubmodelDescriptor;
+import org.eclipse.tractusx.traceability.assets.domain.asbuilt.service.AssetAsBuiltServiceImpl;
+import org.eclipse.tractusx.traceability.assets.domain.asplanned.service.AssetAsPlannedServiceImpl;
+import org.eclipse.tractusx.traceability.assets.domain.base.model.ImportState;
+import org.eclipse.tractusx.traceability.common.model.BPN;
+import org.eclipse.tractusx.traceability.common.properties.TraceabilityProperties;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.DecentralRegistryRepository;
+import org.eclipse.tractusx.traceability.shelldescriptor.domain.repository.ShellFingerprintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DecentralRegistryServiceImplTest {
+
+    private static final String SERIAL_PART = "urn:samm:io.catenax.serial_part:3.0.0#SerialPart";
+    private static final String BATCH = "urn:samm:io.catenax.batch:3.0.0#Batch";
+    private static final String JUST_IN_SEQUENCE = "urn:samm:io.catenax.just_in_sequence_part:3.0.0#JustInSequencePart";
+    private static final String PART_AS_PLANNED = "urn:samm:io.catenax.part_as_planned:2.0.0#PartAsPlanned";
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    @Mock
+    AssetAsBuiltServiceImpl assetAsBuiltService;
+
+    @Mock
+    AssetAsPlannedServiceImpl assetAsPlannedService;
+
+    @Mock
+    TraceabilityProperties traceabilityProperties;
+
+    @Mock
+    DecentralRegistryRepository decentralRegistryRepository;
+
+    @Mock
+    Clock clock;
+
+    InMemoryShellFingerprintRepository shellFingerprintRepository;
+
+    DecentralRegistryServiceImpl decentralRegistryService;
+
+    @BeforeEach
+    void setUp() {
+        when(traceabilityProperties.getBpn()).thenReturn(BPN.of("BPNL00000003CML1"));
+        when(clock.instant()).thenReturn(NOW);
+        when(assetAsBuiltService.synchronizeAssets(any())).thenAnswer(invocation -> new HashSet<>(invocation.<List<String>>getArgument(0)));
+        when(assetAsPlannedService.synchronizeAssets(any())).thenAnswer(invocation -> new HashSet<>(invocation.<List<String>>getArgument(0)));
+        shellFingerprintRepository = new InMemoryShellFingerprintRepository();
+        decentralRegistryService = new DecentralRegistryServiceImpl(assetAsBuiltService, assetAsPlannedService, traceabilityProperties,
+                decentralRegistryRepository, shellFingerprintRepository, new ObjectMapper(), clock, Duration.ofDays(1));
+    }
+
+    @Test
+    void givenFirstRun_whenSynchronizeAssets_thenSynchronizeAllTwinsExceptTransientOnes() {
+        // given
+        givenShells(shell("id1", SERIAL_PART), shell("id2", PART_AS_PLANNED), shell("id3", BATCH));
+        when(assetAsBuiltService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION)).thenReturn(List.of("id3"));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService).synchronizeAssets(List.of("id1"));
+        verify(assetAsPlannedService).synchronizeAssets(List.of("id2"));
+        assertThat(shellFingerprintRepository.fingerprints).containsOnlyKeys("id1", "id2");
+    }
+
+    @Test
+    void givenUnchangedAndChangedTwins_whenSynchronizeAssetsAgain_thenSynchronizeOnlyNewOrChangedOnes() {
+        // given
+        givenShells(shell("id1", SERIAL_PART), shell("id2", SERIAL_PART));
+        decentralRegistryService.synchronizeAssets();
+        clearInvocations(assetAsBuiltService);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(1)));
+        givenShells(shell("id1", SERIAL_PART), shell("id2", JUST_IN_SEQUENCE), shell("id4", SERIAL_PART));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService).synchronizeAssets(List.of("id2", "id4"));
+        assertThat(shellFingerprintRepository.fingerprints).containsOnlyKeys("id1", "id2", "id4");
+    }
+
+    @Test
+    void givenRemovedTwin_whenSynchronizeAssetsAgain_thenForgetItsFingerprint() {
+        // given
+        givenShells(shell("id1", SERIAL_PART), shell("id2", SERIAL_PART));
+        decentralRegistryService.synchronizeAssets();
+        givenShells(shell("id1", SERIAL_PART));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        assertThat(shellFingerprintRepository.fingerprints).containsOnlyKeys("id1");
+    }
+
+    @Test
+    void givenFullSyncIntervalPassed_whenSynchronizeAssets_thenSynchronizeUnchangedTwinsAgain() {
+        // given
+        givenShells(shell("id1", SERIAL_PART));
+        decentralRegistryService.synchronizeAssets();
+        clearInvocations(assetAsBuiltService);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofDays(1)));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService).synchronizeAssets(List.of("id1"));
+    }
+
+    @Test
+    void givenFailedRegistration_whenSynchronizeAssetsAgain_thenSynchronizeTheTwinAgain() {
+        // given
+        givenShells(shell("id1", SERIAL_PART), shell("id2", SERIAL_PART));
+        when(assetAsBuiltService.synchronizeAssets(List.of("id1", "id2"))).thenReturn(Set.of("id2"));
+        decentralRegistryService.synchronizeAssets();
+        assertThat(shellFingerprintRepository.fingerprints).containsOnlyKeys("id2");
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(1)));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService).synchronizeAssets(List.of("id1"));
+        assertThat(shellFingerprintRepository.fingerprints).containsOnlyKeys("id1", "id2");
+    }
+
+    @Test
+    void givenTwinSkippedByLastFullSync_whenSynchronizeAssetsWithinInterval_thenSynchronizeOnlyChangedTwins() {
+        // given
+        givenShells(shell("id1", SERIAL_PART), shell("id2", SERIAL_PART));
+        decentralRegistryService.synchronizeAssets();
+        when(assetAsBuiltService.getAssetIdsInImportState(ImportState.TRANSIENT, ImportState.IN_SYNCHRONIZATION)).thenReturn(List.of("id2"));
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofDays(1)));
+        decentralRegistryService.synchronizeAssets();
+        clearInvocations(assetAsBuiltService);
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofDays(1)).plus(Duration.ofHours(1)));
+        givenShells(shell("id1", SERIAL_PART), shell("id2", SERIAL_PART), shell("id3", SERIAL_PART));
+
+        // when
+        decentralRegistryService.synchronizeAssets();
+
+        // then
+        verify(assetAsBuiltService).synchronizeAssets(List.of("id3"));
+        assertThat(shellFingerprintRepository.lastFullSyncOn).isEqualTo(NOW.plus(Duration.ofDays(1)));
+    }
+
+    private void givenShells(Shell... shells) {
+        when(decentralRegistryRepository.retrieveShellDescriptorsByBpn(any())).thenReturn(List.of(shells));
+    }
+
+    private static Shell shell(String globalAssetId, String semanticId) {
+        return Shell.builder()
+                .payload(AssetAdministrationShellDescriptor.builder()
+                        .id("shell-" + globalAssetId)
+                        .globalAssetId(globalAssetId)
+                        .submodelDescriptors(List.of(SubmodelDescriptor.builder()
+                                .semanticId(Reference.builder()
+                                        .keys(List.of(SemanticId.builder()
+                                                .type("GlobalReference")
+                                                .value(semanticId)
+                                                .build()))
+                                        .build())
+                                .build()))
+                        .build())
+                .build();
+    }
+
+    static class InMemoryShellFingerprintRepository implements ShellFingerprintRepository {
+
+        final Map<String, String> fingerprints = new HashMap<>();
+        Instant lastFullSyncOn;
+
+        @Override
+        public Map<String, String> findAll() {
+            return new HashMap<>(fingerprints);
+        }
+
+        @Override
+        public Optional<Instant> findLastFullSyncOn() {
+            return Optional.ofNullable(lastFullSyncOn);
+        }
+
+        @Override
+        public void saveLastFullSyncOn(Instant synchronizedOn) {
+            lastFullSyncOn = synchronizedOn;
+        }
+
+        @Override
+        public void saveAll(Map<String, String> fingerprintsByGlobalAssetId) {
+            fingerprints.putAll(fingerprintsByGlobalAssetId);
+        }
+
+        @Override
+        public void deleteAll(Collection<String> globalAssetIds) {
+            globalAssetIds.forEach(fingerprints::remove);
+        }
+    }
+}
@@ -28,7 +28,8 @@ import java.util.List;
 public record ImportReportResponse(
 
         @JsonProperty("importJob") ImportJobResponse importJobResponse,
-        @JsonProperty("importedAsset") List<ImportedAssetResponse> importedAssetResponse) {
+        @JsonProperty("importedAsset") List<ImportedAssetResponse> importedAssetResponse,
+        @JsonProperty("importChunk") List<ImportChunkResponse> importChunkResponse) {
 
     @Schema
     public record ImportJobResponse(
@@ -40,7 +41,28 @@ public record ImportReportResponse(
             String completedOn,
             @Schema
             @JsonProperty("importJobStatus")
-            ImportJobStatusResponse importJobStatusResponse) {
+            ImportJobStatusResponse importJobStatusResponse,
+            @Schema(example = "42", description = "Percentage of the import file read so far")
+            int progress,
+            @Schema(example = "[\"Json file is not processable.\"]")
+            List<String> errors) {
+    }
+
+    @Schema
+    public record ImportChunkResponse(
+            @Schema(example = "0")
+            int index,
+            @Schema
+            @JsonProperty("importJobStatus")
+            ImportJobStatusResponse importJobStatusResponse,
+            @Schema(example = "500", description = "Number of assets in the chunk")
+            int assets,
+            @Schema(example = "498", description = "Number of assets of the chunk which were persisted")
+            int persistedAssets,
+            @Schema(example = "[\"Missing property aspectType\"]")
+            List<String> errors,
+            @Schema(example = "2099-02-21T21:27:10.734950Z", maxLength = 50)
+            String completedOn) {
     }
 
     @Schema
@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package assets.response.base.response;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AssetTreeNodeResponse(
+        @Schema(example = "urn:uuid:a4a26b9c-9460-4cc5-8645-85916b86adb0", maxLength = 255)
+        @Size(max = 255)
+        String id,
+        @Schema(example = "assembly-part-relationship", maxLength = 255)
+        @Size(max = 255)
+        String idShort,
+        @Schema(description = "Distance to the requested asset, which has level 0", example = "1")
+        int level,
+        @ArraySchema(arraySchema = @Schema(description = "Ids of the children or parents of this node, depending on the requested direction"),
+                schema = @Schema(example = "urn:uuid:b4a26b9c-9460-4cc5-8645-85916b86adb0", maxLength = 255),
+                maxItems = Integer.MAX_VALUE)
+        List<String> relatedIds) {
+
+}